@@ -0,0 +1,33 @@
+package io.micronaut.configuration.arango;
+
+import com.arangodb.ArangoDatabase;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ArangoClientBenchmark {
+
+    private ArangoClient client;
+
+    @Setup
+    public void setup() {
+        this.client = new ArangoClientImpl(ArangoStubs.accessor(), ArangoStubs.configuration());
+    }
+
+    @Benchmark
+    public ArangoDatabase db() {
+        return client.db();
+    }
+}
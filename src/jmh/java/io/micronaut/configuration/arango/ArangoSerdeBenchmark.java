@@ -0,0 +1,136 @@
+package io.micronaut.configuration.arango;
+
+import com.arangodb.serde.ArangoSerde;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.serde.annotation.Serdeable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ArangoSerdeBenchmark {
+
+    @Serdeable
+    public static class Item {
+
+        private String name;
+        private long value;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public long getValue() {
+            return value;
+        }
+
+        public void setValue(long value) {
+            this.value = value;
+        }
+    }
+
+    @Serdeable
+    public static class Document {
+
+        private String id;
+        private String name;
+        private List<Item> items;
+
+        public String getId() {
+            return id;
+        }
+
+        public void setId(String id) {
+            this.id = id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public List<Item> getItems() {
+            return items;
+        }
+
+        public void setItems(List<Item> items) {
+            this.items = items;
+        }
+    }
+
+    @Param({ "DEFAULT", "STREAMING", "COMPILED" })
+    public String mode;
+
+    /**
+     * Amount of nested items in document: small, medium and large document
+     */
+    @Param({ "1", "50", "2000" })
+    public int items;
+
+    private ApplicationContext context;
+    private ArangoSerde serde;
+    private Document document;
+    private byte[] serialized;
+
+    @Setup
+    public void setup() {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("arangodb.hosts", "localhost:8529");
+        properties.put("arangodb.serde.mode", mode);
+        this.context = ApplicationContext.run(properties);
+        this.serde = context.getBean(ArangoSerde.class);
+
+        final List<Item> documentItems = new ArrayList<>(items);
+        for (int i = 0; i < items; i++) {
+            final Item item = new Item();
+            item.setName("item-" + i);
+            item.setValue(i);
+            documentItems.add(item);
+        }
+
+        this.document = new Document();
+        this.document.setId("12345");
+        this.document.setName("benchmark");
+        this.document.setItems(documentItems);
+        this.serialized = serde.serialize(document);
+    }
+
+    @TearDown
+    public void teardown() {
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return serde.serialize(document);
+    }
+
+    @Benchmark
+    public Document deserialize() {
+        return serde.deserialize(serialized, Document.class);
+    }
+}
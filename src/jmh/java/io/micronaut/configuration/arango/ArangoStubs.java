@@ -0,0 +1,49 @@
+package io.micronaut.configuration.arango;
+
+import com.arangodb.ArangoDB;
+import com.arangodb.ArangoDatabase;
+import io.micronaut.configuration.arango.ssl.ArangoSSLCertificateConfiguration;
+import io.micronaut.configuration.arango.ssl.ArangoSSLConfiguration;
+import java.lang.reflect.Proxy;
+import java.util.List;
+
+/**
+ * Stubbed driver for benchmarks, so no live ArangoDB is required.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+public final class ArangoStubs {
+
+    private ArangoStubs() {}
+
+    public static ArangoConfiguration configuration() {
+        final ArangoConfiguration configuration = new ArangoConfiguration(
+                new ArangoSSLConfiguration(new ArangoSSLCertificateConfiguration()));
+        configuration.setHosts(List.of("localhost:8529"));
+        return configuration;
+    }
+
+    public static ArangoDB accessor() {
+        return (ArangoDB) Proxy.newProxyInstance(ArangoStubs.class.getClassLoader(), new Class<?>[] { ArangoDB.class },
+                (proxy, method, args) -> {
+                    if ("db".equals(method.getName()) && args != null && args.length == 1) {
+                        return database((String) args[0]);
+                    } else if ("shutdown".equals(method.getName())) {
+                        return null;
+                    }
+                    throw new UnsupportedOperationException("Stubbed ArangoDB doesn't support: " + method);
+                });
+    }
+
+    public static ArangoDatabase database(String name) {
+        return (ArangoDatabase) Proxy.newProxyInstance(ArangoStubs.class.getClassLoader(),
+                new Class<?>[] { ArangoDatabase.class },
+                (proxy, method, args) -> {
+                    if ("name".equals(method.getName())) {
+                        return name;
+                    }
+                    throw new UnsupportedOperationException("Stubbed ArangoDatabase doesn't support: " + method);
+                });
+    }
+}
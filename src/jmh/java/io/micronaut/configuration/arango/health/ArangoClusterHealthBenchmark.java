@@ -0,0 +1,47 @@
+package io.micronaut.configuration.arango.health;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micronaut.configuration.arango.ArangoStubs;
+import io.micronaut.management.health.indicator.HealthResult;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ArangoClusterHealthBenchmark {
+
+    private ArangoClusterHealthIndicator indicator;
+    private JsonNode body;
+
+    @Setup
+    public void setup() throws IOException {
+        this.indicator = new ArangoClusterHealthIndicator(ArangoStubs.accessor(),
+                ArangoStubs.configuration(),
+                new ArangoClusterHealthConfiguration(),
+                null,
+                null);
+
+        try (InputStream stream = getClass().getResourceAsStream("/data/cluster-health.json")) {
+            this.body = new ObjectMapper().readTree(stream);
+        }
+    }
+
+    @Benchmark
+    public HealthResult parse() {
+        return indicator.buildHealthResult(200, body);
+    }
+}
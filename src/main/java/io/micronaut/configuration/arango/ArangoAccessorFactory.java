@@ -2,7 +2,11 @@
 
 import com.arangodb.ArangoDB;
 import com.arangodb.config.ArangoConfigProperties;
+import com.arangodb.config.HostDescription;
 import com.arangodb.serde.ArangoSerde;
+import io.micronaut.configuration.arango.balancing.AdaptiveArangoDB;
+import io.micronaut.configuration.arango.intercept.ArangoInterceptor;
+import io.micronaut.configuration.arango.intercept.ArangoInterceptors;
 import io.micronaut.configuration.arango.ssl.ArangoSSLConfiguration;
 import io.micronaut.configuration.arango.ssl.SSLContextProvider;
 import io.micronaut.context.annotation.*;
@@ -10,6 +14,8 @@
 import io.micronaut.runtime.context.scope.Refreshable;
 import jakarta.inject.Named;
 import jakarta.inject.Singleton;
+import java.util.ArrayList;
+import java.util.List;
 import javax.net.ssl.SSLContext;
 
 /**
@@ -24,11 +30,36 @@ public class ArangoAccessorFactory {
 
     @Refreshable(ArangoSettings.PREFIX)
     @Bean(preDestroy = "shutdown")
+    @Primary
     @Singleton
     ArangoDB getAccessor(ArangoConfiguration configuration,
                          SSLContextProvider sslContextProvider,
-                         @Nullable ArangoSerde serde) {
-        return createAccessor(configuration, sslContextProvider, serde);
+                         @Nullable ArangoSerde serde,
+                         List<ArangoInterceptor> interceptors) {
+        return createAccessor(configuration, sslContextProvider, serde, interceptors, null);
+    }
+
+    /**
+     * Accessor for read-only requests connected to
+     * {@link ArangoConfiguration#getReadHosts()} only, with own connection pool.
+     *
+     * @param sslContextProvider provides ssl context for accessor
+     * @param configuration      configuration pulled in for sync accessor.
+     * @param serde              serde for accessor
+     * @param interceptors       applied to accessor calls
+     * @return {@link ArangoDB}
+     */
+    @Refreshable(ArangoSettings.PREFIX)
+    @Requires(property = ArangoSettings.PREFIX + ".read-hosts")
+    @Bean(preDestroy = "shutdown")
+    @Named(ArangoSettings.READ)
+    @Singleton
+    ArangoDB getReadAccessor(ArangoConfiguration configuration,
+                             SSLContextProvider sslContextProvider,
+                             @Nullable ArangoSerde serde,
+                             List<ArangoInterceptor> interceptors) {
+        return createAccessor(configuration, configuration.getReadArangoConfigProperties(), sslContextProvider, serde,
+                interceptors, ArangoSettings.READ);
     }
 
     /**
@@ -36,6 +67,8 @@ ArangoDB getAccessor(ArangoConfiguration configuration,
      *
      * @param sslContextProvider provides ssl context for accessor
      * @param configuration      configuration pulled in for sync accessor.
+     * @param serde              serde for accessor
+     * @param interceptors       applied to accessor calls
      * @return {@link ArangoDB}
      */
     @Refreshable(ArangoSettings.PREFIX)
@@ -45,20 +78,54 @@ ArangoDB getAccessor(ArangoConfiguration configuration,
     @Secondary
     ArangoDB getAccessorPrototype(ArangoConfiguration configuration,
                                   SSLContextProvider sslContextProvider,
-                                  @Nullable ArangoSerde serde) {
-        return createAccessor(configuration, sslContextProvider, serde);
+                                  @Nullable ArangoSerde serde,
+                                  List<ArangoInterceptor> interceptors) {
+        return createAccessor(configuration, sslContextProvider, serde, interceptors, null);
+    }
+
+    static ArangoDB createAccessor(ArangoConfiguration configuration,
+                                   SSLContextProvider sslContextProvider,
+                                   @Nullable ArangoSerde serde,
+                                   List<ArangoInterceptor> interceptors,
+                                   @Nullable String cluster) {
+        return createAccessor(configuration, configuration.getArangoConfigProperties(), sslContextProvider, serde,
+                interceptors, cluster);
     }
 
-    private ArangoDB createAccessor(ArangoConfiguration configuration,
-                                    SSLContextProvider sslContextProvider,
-                                    @Nullable ArangoSerde serde) {
+    private static ArangoDB createAccessor(ArangoConfiguration configuration,
+                                           ArangoConfigProperties properties,
+                                           SSLContextProvider sslContextProvider,
+                                           @Nullable ArangoSerde serde,
+                                           List<ArangoInterceptor> interceptors,
+                                           @Nullable String cluster) {
         final ArangoSSLConfiguration sslConfiguration = configuration.getSslConfiguration();
+        final SSLContext sslContext = sslConfiguration.isEnabled()
+                ? sslContextProvider.get(sslConfiguration)
+                : null;
+
+        final List<HostDescription> hosts = properties.getHosts().orElse(List.of());
+        final ArangoDB accessor;
+        if (configuration.getAdaptiveLoadBalancing().isEnabled() && hosts.size() > 1) {
+            final List<ArangoDB> hostAccessors = new ArrayList<>(hosts.size());
+            final List<String> names = new ArrayList<>(hosts.size());
+            for (HostDescription host : hosts) {
+                hostAccessors.add(buildAccessor(configuration.getHostArangoConfigProperties(host), sslContext, serde));
+                names.add(host.getHost() + ":" + host.getPort());
+            }
+            accessor = AdaptiveArangoDB.create(hostAccessors, names, configuration.getAdaptiveLoadBalancing());
+        } else {
+            accessor = buildAccessor(properties, sslContext, serde);
+        }
+
+        return ArangoInterceptors.wrap(accessor, interceptors, cluster);
+    }
 
+    private static ArangoDB buildAccessor(ArangoConfigProperties properties,
+                                          @Nullable SSLContext sslContext,
+                                          @Nullable ArangoSerde serde) {
         final ArangoDB.Builder builder = new ArangoDB.Builder();
-        final ArangoConfigProperties properties = configuration.getArangoConfigProperties();
         builder.loadProperties(properties);
-        if (sslConfiguration.isEnabled()) {
-            final SSLContext sslContext = sslContextProvider.get(sslConfiguration);
+        if (sslContext != null) {
             builder.useSsl(true).sslContext(sslContext);
         }
 
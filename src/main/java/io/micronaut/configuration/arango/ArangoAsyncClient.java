@@ -0,0 +1,25 @@
+package io.micronaut.configuration.arango;
+
+import com.arangodb.ArangoDBAsync;
+import com.arangodb.ArangoDatabaseAsync;
+
+/**
+ * ArangoDB Async Accessor {@link ArangoDBAsync} and database name as configured
+ * for application.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+public interface ArangoAsyncClient {
+
+    /**
+     * @return Async accessor to specified ArangoDB database
+     *             {@link ArangoConfiguration#getDatabase()}.
+     */
+    ArangoDatabaseAsync db();
+
+    /**
+     * @return Configured ArangoDB async accessor {@link ArangoDBAsync}.
+     */
+    ArangoDBAsync accessor();
+}
@@ -0,0 +1,44 @@
+package io.micronaut.configuration.arango;
+
+import com.arangodb.ArangoDB;
+import com.arangodb.ArangoDBAsync;
+import io.micronaut.context.annotation.*;
+import io.micronaut.runtime.context.scope.Refreshable;
+import jakarta.inject.Singleton;
+
+/**
+ * Default factory for creating ArangoDB async accessor {@link ArangoDBAsync},
+ * async client {@link ArangoAsyncClient} and reactive client
+ * {@link ReactiveArangoClient}.
+ * <p>
+ * Async accessor shares connections, SSL and serde with {@link ArangoDB}
+ * accessor, so it is shutdown together with sync accessor.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+@Requires(beans = { ArangoDB.class, ArangoConfiguration.class })
+@Factory
+public class ArangoAsyncClientFactory {
+
+    @Refreshable(ArangoSettings.PREFIX)
+    @Bean
+    @Singleton
+    ArangoDBAsync getAsyncAccessor(ArangoDB accessor) {
+        return accessor.async();
+    }
+
+    @Refreshable(ArangoSettings.PREFIX)
+    @Bean
+    @Singleton
+    ArangoAsyncClient getAsyncClient(ArangoDBAsync accessor, ArangoConfiguration configuration) {
+        return new ArangoAsyncClientImpl(accessor, configuration);
+    }
+
+    @Refreshable(ArangoSettings.PREFIX)
+    @Bean
+    @Singleton
+    ReactiveArangoClient getReactiveClient(ArangoAsyncClient client) {
+        return new ReactiveArangoClientImpl(client);
+    }
+}
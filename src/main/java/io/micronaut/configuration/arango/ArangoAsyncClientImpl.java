@@ -0,0 +1,48 @@
+package io.micronaut.configuration.arango;
+
+import com.arangodb.ArangoDBAsync;
+import com.arangodb.ArangoDatabaseAsync;
+
+/**
+ * ArangoDB Async Accessor {@link ArangoDBAsync} and database name as configured
+ * for application.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+final class ArangoAsyncClientImpl implements ArangoAsyncClient {
+
+    /**
+     * Configured database name for application {@link ArangoConfiguration#getDatabase()}.
+     */
+    private final ArangoDatabaseAsync database;
+
+    /**
+     * ArangoDB async accessor {@link ArangoDBAsync}.
+     */
+    private final ArangoDBAsync accessor;
+
+    public ArangoAsyncClientImpl(ArangoDBAsync accessor, ArangoConfiguration configuration) {
+        this.accessor = accessor;
+        this.database = accessor.db(configuration.getDatabase());
+    }
+
+    /**
+     * @return Async accessor to specified ArangoDB database.
+     */
+    public ArangoDatabaseAsync db() {
+        return database;
+    }
+
+    /**
+     * @return Configured ArangoDB async accessor {@link ArangoDBAsync}.
+     */
+    public ArangoDBAsync accessor() {
+        return accessor;
+    }
+
+    @Override
+    public String toString() {
+        return "[database=" + database.name() + ']';
+    }
+}
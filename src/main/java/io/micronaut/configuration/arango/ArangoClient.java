@@ -18,6 +18,16 @@ public interface ArangoClient extends AutoCloseable {
      */
     ArangoDatabase db();
 
+    /**
+     * @return Accessor to same database as {@link #db()} for read-only requests,
+     *             connected to {@link ArangoConfiguration#getReadHosts()} when they
+     *             are configured or same as {@link #db()} otherwise. Use
+     *             allowDirtyRead request options to read from followers.
+     */
+    default ArangoDatabase readDb() {
+        return db();
+    }
+
     /**
      * @return Configured ArangoDB accessor {@link ArangoDB}.
      */
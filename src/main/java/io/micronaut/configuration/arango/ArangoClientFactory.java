@@ -2,6 +2,7 @@
 
 import com.arangodb.ArangoDB;
 import io.micronaut.context.annotation.*;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.runtime.context.scope.Refreshable;
 import jakarta.inject.Named;
 import jakarta.inject.Singleton;
@@ -18,9 +19,12 @@ public class ArangoClientFactory {
 
     @Refreshable(ArangoSettings.PREFIX)
     @Bean(preDestroy = "close")
+    @Primary
     @Singleton
-    ArangoClient getClient(ArangoDB accessor, ArangoConfiguration configuration) {
-        return new ArangoClientImpl(accessor, configuration);
+    ArangoClient getClient(ArangoDB accessor,
+                           @Nullable @Named(ArangoSettings.READ) ArangoDB readAccessor,
+                           ArangoConfiguration configuration) {
+        return new ArangoClientImpl(accessor, readAccessor, configuration);
     }
 
     /**
@@ -35,7 +39,9 @@ ArangoClient getClient(ArangoDB accessor, ArangoConfiguration configuration) {
     @Named("prototype")
     @Prototype
     @Secondary
-    ArangoClient getClientPrototype(ArangoDB accessor, ArangoConfiguration configuration) {
-        return new ArangoClientImpl(accessor, configuration);
+    ArangoClient getClientPrototype(ArangoDB accessor,
+                                    @Nullable @Named(ArangoSettings.READ) ArangoDB readAccessor,
+                                    ArangoConfiguration configuration) {
+        return new ArangoClientImpl(accessor, readAccessor, configuration);
     }
 }
@@ -2,6 +2,7 @@
 
 import com.arangodb.ArangoDB;
 import com.arangodb.ArangoDatabase;
+import io.micronaut.core.annotation.Nullable;
 
 /**
  * ArangoDB Sync Accessor {@link ArangoDB} and database name as configured for
@@ -17,14 +18,40 @@ final class ArangoClientImpl implements ArangoClient {
      */
     private final ArangoDatabase database;
 
+    /**
+     * Same database accessed with read hosts accessor if configured
+     */
+    private final ArangoDatabase readDatabase;
+
     /**
      * ArangoDB accessor {@link ArangoDB}.
      */
     private final ArangoDB accessor;
 
+    /**
+     * Whether accessor is owned by client and is shutdown when client is closed
+     */
+    private final boolean ownsAccessor;
+
     public ArangoClientImpl(ArangoDB accessor, ArangoConfiguration configuration) {
+        this(accessor, configuration.getDatabase(), true);
+    }
+
+    ArangoClientImpl(ArangoDB accessor, @Nullable ArangoDB readAccessor, ArangoConfiguration configuration) {
+        this(accessor, readAccessor, configuration.getDatabase(), true);
+    }
+
+    ArangoClientImpl(ArangoDB accessor, String database, boolean ownsAccessor) {
+        this(accessor, null, database, ownsAccessor);
+    }
+
+    ArangoClientImpl(ArangoDB accessor, @Nullable ArangoDB readAccessor, String database, boolean ownsAccessor) {
         this.accessor = accessor;
-        this.database = accessor.db(configuration.getDatabase());
+        this.database = accessor.db(database);
+        this.readDatabase = (readAccessor == null)
+                ? this.database
+                : readAccessor.db(database);
+        this.ownsAccessor = ownsAccessor;
     }
 
     /**
@@ -34,6 +61,11 @@ public ArangoDatabase db() {
         return database;
     }
 
+    @Override
+    public ArangoDatabase readDb() {
+        return readDatabase;
+    }
+
     /**
      * @return Configured ArangoDB accessor {@link ArangoDB}.
      */
@@ -43,7 +75,7 @@ public ArangoDB accessor() {
 
     @Override
     public void close() {
-        if (accessor != null)
+        if (accessor != null && ownsAccessor)
             accessor.shutdown();
     }
 
@@ -0,0 +1,81 @@
+package io.micronaut.configuration.arango;
+
+import io.micronaut.configuration.arango.ssl.ArangoSSLCertificateConfiguration;
+import io.micronaut.configuration.arango.ssl.ArangoSSLConfiguration;
+import io.micronaut.context.annotation.ConfigurationBuilder;
+import io.micronaut.context.annotation.EachProperty;
+import io.micronaut.context.annotation.Parameter;
+import io.micronaut.context.annotation.Secondary;
+import io.micronaut.context.exceptions.ConfigurationException;
+import java.util.List;
+
+/**
+ * Additional named ArangoDB cluster connection configured with
+ * {@code arangodb.clusters.<name>} and same properties as default connection
+ * {@link ArangoConfiguration}, including SSL and database creation, except
+ * {@code read-hosts} and {@code executor} that are rejected.
+ * <p>
+ * Each connection gets its own {@link com.arangodb.ArangoDB} accessor with own
+ * connection pool and {@link ArangoClient} qualified with connection name.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+@Secondary
+@EachProperty("clusters")
+public class ArangoClusterConfiguration extends ArangoConfiguration {
+
+    private final String name;
+
+    @ConfigurationBuilder("ssl")
+    private final ArangoSSLConfiguration ssl;
+    @ConfigurationBuilder("ssl.certificate")
+    private final ArangoSSLCertificateConfiguration certificate;
+
+    public ArangoClusterConfiguration(@Parameter String name) {
+        this(name, new ArangoSSLCertificateConfiguration());
+    }
+
+    private ArangoClusterConfiguration(String name, ArangoSSLCertificateConfiguration certificate) {
+        super(new ArangoSSLConfiguration(certificate));
+        if (ArangoSettings.READ.equals(name))
+            throw new ConfigurationException("Cluster connection can not be named '" + name + "', name is used by read accessor");
+        this.name = name;
+        this.ssl = sslConfiguration;
+        this.certificate = certificate;
+    }
+
+    /**
+     * Read accessor is created for default connection only
+     */
+    @Override
+    public void setReadHosts(List<String> readHosts) {
+        throw new ConfigurationException("Cluster connection '" + name + "' does not support 'read-hosts'");
+    }
+
+    @Override
+    public void setReadHosts(String readHosts) {
+        throw new ConfigurationException("Cluster connection '" + name + "' does not support 'read-hosts'");
+    }
+
+    /**
+     * Executor is shared by module and configured on default connection only
+     */
+    @Override
+    public void setExecutor(ExecutorType executor) {
+        throw new ConfigurationException("Cluster connection '" + name + "' does not support 'executor', "
+                + "configure 'arangodb.executor' instead");
+    }
+
+    /**
+     * @return name of cluster connection
+     */
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String toString() {
+        return "[name=" + name + ", configuration=" + super.toString() + ']';
+    }
+}
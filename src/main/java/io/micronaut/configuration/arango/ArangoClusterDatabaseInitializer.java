@@ -0,0 +1,76 @@
+package io.micronaut.configuration.arango;
+
+import io.micronaut.context.BeanLocator;
+import io.micronaut.context.annotation.Context;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.inject.qualifiers.Qualifiers;
+import jakarta.annotation.PostConstruct;
+import jakarta.inject.Named;
+import java.util.List;
+import java.util.concurrent.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * ArangoDB database initialization for cluster connections configured with
+ * {@code create-database-if-not-exist}, same as {@link ArangoDatabaseInitializer}
+ * does for default connection.
+ * <p>
+ * Cluster configurations are bound on startup, so options not supported for
+ * cluster connections fail startup instead of being ignored.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @see ArangoClusterConfiguration
+ * @since 18.10.2026
+ */
+@Requires(property = ArangoSettings.PREFIX + ".clusters")
+@Context
+@Internal
+public class ArangoClusterDatabaseInitializer {
+
+    private static final Logger logger = LoggerFactory.getLogger(ArangoClusterDatabaseInitializer.class);
+
+    private final List<ArangoClusterConfiguration> configurations;
+    private final BeanLocator locator;
+    private final Executor executor;
+
+    public ArangoClusterDatabaseInitializer(List<ArangoClusterConfiguration> configurations,
+                                            BeanLocator locator,
+                                            @Nullable @Named(ArangoSettings.EXECUTOR) ExecutorService executor) {
+        this.configurations = configurations;
+        this.locator = locator;
+        this.executor = (executor == null)
+                ? ForkJoinPool.commonPool()
+                : executor;
+    }
+
+    @PostConstruct
+    public void setupDatabases() {
+        for (ArangoClusterConfiguration configuration : configurations) {
+            if (!configuration.isCreateDatabaseIfNotExist()) {
+                continue;
+            }
+
+            if (ArangoSettings.SYSTEM_DATABASE.equals(configuration.getDatabase())) {
+                logger.debug("ArangoDB cluster '{}' is configured to use System Database, skipping initialization",
+                        configuration.getName());
+                continue;
+            }
+
+            final ArangoClient client = locator.getBean(ArangoClient.class, Qualifiers.byName(configuration.getName()));
+            if (configuration.isCreateDatabaseAsync()) {
+                CompletableFuture.runAsync(() -> {
+                    try {
+                        ArangoDatabaseInitializer.initializeDatabase(client, configuration, executor);
+                    } catch (Exception e) {
+                        logger.error(e.getMessage(), e);
+                    }
+                }, executor);
+            } else {
+                ArangoDatabaseInitializer.initializeDatabase(client, configuration, executor);
+            }
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package io.micronaut.configuration.arango;
+
+import com.arangodb.ArangoDB;
+import com.arangodb.serde.ArangoSerde;
+import io.micronaut.configuration.arango.intercept.ArangoInterceptor;
+import io.micronaut.configuration.arango.ssl.SSLContextProvider;
+import io.micronaut.context.annotation.Bean;
+import io.micronaut.context.annotation.EachBean;
+import io.micronaut.context.annotation.Factory;
+import io.micronaut.context.annotation.Parameter;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.runtime.context.scope.Refreshable;
+import java.util.List;
+
+/**
+ * Factory for creating {@link ArangoDB} accessor and {@link ArangoClient}
+ * qualified with name for each {@link ArangoClusterConfiguration}.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+@Factory
+public class ArangoClusterFactory {
+
+    @Refreshable(ArangoSettings.PREFIX)
+    @Bean(preDestroy = "shutdown")
+    @EachBean(ArangoClusterConfiguration.class)
+    ArangoDB getClusterAccessor(ArangoClusterConfiguration configuration,
+                                SSLContextProvider sslContextProvider,
+                                @Nullable ArangoSerde serde,
+                                List<ArangoInterceptor> interceptors) {
+        return ArangoAccessorFactory.createAccessor(configuration, sslContextProvider, serde, interceptors,
+                configuration.getName());
+    }
+
+    /**
+     * @param accessor      of same cluster connection, is shutdown with its bean
+     * @param configuration of cluster connection
+     * @return {@link ArangoClient} qualified with cluster connection name
+     */
+    @Refreshable(ArangoSettings.PREFIX)
+    @Bean(preDestroy = "close")
+    @EachBean(ArangoClusterConfiguration.class)
+    ArangoClient getClusterClient(@Parameter ArangoDB accessor, ArangoClusterConfiguration configuration) {
+        return new ArangoClientImpl(accessor, configuration.getDatabase(), false);
+    }
+}
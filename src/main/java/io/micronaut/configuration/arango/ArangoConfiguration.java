@@ -2,6 +2,7 @@
 
 import static io.micronaut.configuration.arango.ArangoSettings.SYSTEM_DATABASE;
 
+import com.arangodb.ContentType;
 import com.arangodb.Protocol;
 import com.arangodb.config.ArangoConfigProperties;
 import com.arangodb.config.HostDescription;
@@ -20,6 +21,7 @@
 import java.util.List;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -36,14 +38,23 @@ public class ArangoConfiguration {
     private static final class ArangoConfigPropertiesInternal implements ArangoConfigProperties {
 
         private final ArangoConfiguration configuration;
-
-        private ArangoConfigPropertiesInternal(ArangoConfiguration configuration) {
+        private final Supplier<List<HostDescription>> hosts;
+        /**
+         * Whether accessor connects to given hosts only and never acquires host list
+         */
+        private final boolean fixedHosts;
+
+        private ArangoConfigPropertiesInternal(ArangoConfiguration configuration,
+                                               Supplier<List<HostDescription>> hosts,
+                                               boolean fixedHosts) {
             this.configuration = configuration;
+            this.hosts = hosts;
+            this.fixedHosts = fixedHosts;
         }
 
         @Override
         public Optional<List<HostDescription>> getHosts() {
-            return Optional.ofNullable(configuration.getHostDescriptions());
+            return Optional.ofNullable(hosts.get());
         }
 
         @Override
@@ -106,7 +117,8 @@ public Optional<Integer> getKeepAliveInterval() {
 
         @Override
         public Optional<Boolean> getAcquireHostList() {
-            return Optional.of(configuration.getAcquireHostList());
+            // acquired host list would include all coordinators, not given hosts only
+            return Optional.of(!fixedHosts && configuration.getAcquireHostList());
         }
 
         @Override
@@ -128,7 +140,34 @@ public Optional<Integer> getResponseQueueTimeSamples() {
 
     public static class ArangoSerdeConfig {
 
+        public enum Mode {
+            /**
+             * Serializes each document into new byte array via
+             * {@link io.micronaut.serde.ObjectMapper}
+             */
+            DEFAULT,
+            /**
+             * Serializes documents via pooled buffers
+             *
+             * @see io.micronaut.configuration.arango.serde.StreamingArangoSerde
+             */
+            STREAMING,
+            /**
+             * Serializes documents via pooled buffers with serializers and
+             * deserializers cached per type, requires Micronaut Serde Jackson
+             *
+             * @see io.micronaut.configuration.arango.serde.CompiledArangoSerde
+             */
+            COMPILED
+        }
+
         private boolean enabled = true;
+        private Mode mode = Mode.DEFAULT;
+        private int bufferSize = 8192;
+        private int bufferMaxSize = 1024 * 1024;
+        private int bufferPoolSize = Runtime.getRuntime().availableProcessors() * 2;
+        private boolean warmup = false;
+        private ContentType contentType;
 
         public boolean isEnabled() {
             return enabled;
@@ -137,6 +176,157 @@ public boolean isEnabled() {
         public void setEnabled(boolean enabled) {
             this.enabled = enabled;
         }
+
+        public Mode getMode() {
+            return mode;
+        }
+
+        public void setMode(Mode mode) {
+            this.mode = mode;
+        }
+
+        /**
+         * @return initial size of pooled buffer in bytes
+         */
+        public int getBufferSize() {
+            return bufferSize;
+        }
+
+        public void setBufferSize(int bufferSize) {
+            if (bufferSize < 1)
+                throw new ConfigurationException("Serde buffer size can not be less than 1");
+            this.bufferSize = bufferSize;
+        }
+
+        /**
+         * @return max size of buffer in bytes that will be returned to pool after
+         *             use
+         */
+        public int getBufferMaxSize() {
+            return bufferMaxSize;
+        }
+
+        public void setBufferMaxSize(int bufferMaxSize) {
+            if (bufferMaxSize < 1)
+                throw new ConfigurationException("Serde buffer max size can not be less than 1");
+            this.bufferMaxSize = bufferMaxSize;
+        }
+
+        /**
+         * @return max amount of buffers kept in pool
+         */
+        public int getBufferPoolSize() {
+            return bufferPoolSize;
+        }
+
+        public void setBufferPoolSize(int bufferPoolSize) {
+            if (bufferPoolSize < 1)
+                throw new ConfigurationException("Serde buffer pool size can not be less than 1");
+            this.bufferPoolSize = bufferPoolSize;
+        }
+
+        /**
+         * @return whenever to resolve serde for all
+         *             {@link io.micronaut.serde.annotation.Serdeable} types on
+         *             startup
+         */
+        public boolean isWarmup() {
+            return warmup;
+        }
+
+        public void setWarmup(boolean warmup) {
+            this.warmup = warmup;
+        }
+
+        /**
+         * @return content type serde produces, if not set then derived from
+         *             {@link ArangoConfiguration#getProtocol()}
+         */
+        public ContentType getContentType() {
+            return contentType;
+        }
+
+        public void setContentType(ContentType contentType) {
+            this.contentType = contentType;
+        }
+    }
+
+    public static class ArangoAdaptiveLoadBalancingConfig {
+
+        private boolean enabled = false;
+        private Duration decayTime = Duration.ofSeconds(10);
+        private int failureThreshold = 3;
+        private Duration ejectionDuration = Duration.ofSeconds(30);
+
+        /**
+         * @return whenever requests are balanced across hosts by their latency and
+         *             in-flight requests instead of
+         *             {@link ArangoConfiguration#getLoadBalancingStrategy()}
+         */
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * @return time after which host latency peak decays, so slow host that
+         *             recovered gets requests again
+         */
+        public Duration getDecayTime() {
+            return decayTime;
+        }
+
+        public void setDecayTime(Duration decayTime) {
+            if (decayTime.isNegative() || decayTime.isZero())
+                throw new ConfigurationException("Adaptive load balancing decay time must be greater than 0");
+            this.decayTime = decayTime;
+        }
+
+        /**
+         * @return consecutive failed requests after which host is ejected
+         */
+        public int getFailureThreshold() {
+            return failureThreshold;
+        }
+
+        public void setFailureThreshold(int failureThreshold) {
+            if (failureThreshold < 1)
+                throw new ConfigurationException("Adaptive load balancing failure threshold can not be less than 1");
+            this.failureThreshold = failureThreshold;
+        }
+
+        /**
+         * @return time host receives no requests after it is ejected
+         */
+        public Duration getEjectionDuration() {
+            return ejectionDuration;
+        }
+
+        public void setEjectionDuration(Duration ejectionDuration) {
+            if (ejectionDuration.isNegative())
+                throw new ConfigurationException("Adaptive load balancing ejection duration can not be negative");
+            this.ejectionDuration = ejectionDuration;
+        }
+
+        @Override
+        public String toString() {
+            return "[enabled=" + enabled + ", decayTime=" + decayTime + ", failureThreshold=" + failureThreshold
+                    + ", ejectionDuration=" + ejectionDuration + ']';
+        }
+    }
+
+    public enum ExecutorType {
+        /**
+         * Blocking calls run on calling thread or common pool
+         */
+        DEFAULT,
+        /**
+         * Blocking calls run on virtual threads, requires JDK 21+
+         */
+        VIRTUAL
     }
 
     protected final ArangoSSLConfiguration sslConfiguration;
@@ -145,6 +335,7 @@ public void setEnabled(boolean enabled) {
     private String password;
     private String jwt;
     private List<String> hosts;
+    private List<String> readHosts;
     private String database = SYSTEM_DATABASE;
     private Protocol protocol = ArangoDefaults.DEFAULT_PROTOCOL;
     private int chunksize = ArangoDefaults.DEFAULT_CHUNK_SIZE;
@@ -161,10 +352,14 @@ public void setEnabled(boolean enabled) {
     private boolean createDatabaseIfNotExist = false;
     private boolean createDatabaseAsync = false;
     private Duration createDatabaseTimeout = Duration.ofSeconds(10);
+    private ExecutorType executor = ExecutorType.DEFAULT;
 
     @ConfigurationBuilder("serde")
     private final ArangoSerdeConfig serde = new ArangoSerdeConfig();
 
+    @ConfigurationBuilder("adaptive-load-balancing")
+    private final ArangoAdaptiveLoadBalancingConfig adaptiveLoadBalancing = new ArangoAdaptiveLoadBalancingConfig();
+
     public ArangoConfiguration(ArangoSSLConfiguration sslConfiguration) {
         this.sslConfiguration = sslConfiguration;
     }
@@ -214,7 +409,23 @@ public Properties getProperties() {
      * @return properties as input stream
      */
     public ArangoConfigProperties getArangoConfigProperties() {
-        return new ArangoConfigPropertiesInternal(this);
+        return new ArangoConfigPropertiesInternal(this, this::getHostDescriptions, false);
+    }
+
+    /**
+     * @return properties for read accessor connected to {@link #getReadHosts()}
+     *             only
+     */
+    public ArangoConfigProperties getReadArangoConfigProperties() {
+        return new ArangoConfigPropertiesInternal(this, this::getReadHostDescriptions, true);
+    }
+
+    /**
+     * @param host to connect to
+     * @return properties for accessor connected to single host only
+     */
+    public ArangoConfigProperties getHostArangoConfigProperties(HostDescription host) {
+        return new ArangoConfigPropertiesInternal(this, () -> List.of(host), true);
     }
 
     /**
@@ -259,6 +470,17 @@ public void setCreateDatabaseTimeout(Duration createDatabaseTimeout) {
         this.createDatabaseTimeout = createDatabaseTimeout;
     }
 
+    /**
+     * @return executor type for blocking calls made by module
+     */
+    public ExecutorType getExecutor() {
+        return executor;
+    }
+
+    public void setExecutor(ExecutorType executor) {
+        this.executor = executor;
+    }
+
     /**
      * Multiple hosts to set
      * 
@@ -300,6 +522,34 @@ public void setHosts(String hosts) {
         }
     }
 
+    /**
+     * @return hosts (e.g. followers or dedicated coordinators) read-only requests
+     *             are routed to, empty if reads are not routed
+     */
+    public List<String> getReadHosts() {
+        return (readHosts == null)
+                ? List.of()
+                : readHosts;
+    }
+
+    public List<HostDescription> getReadHostDescriptions() {
+        return getReadHosts().stream()
+                .map(HostDescription::parse)
+                .collect(Collectors.toList());
+    }
+
+    public void setReadHosts(List<String> readHosts) {
+        this.readHosts = List.copyOf(readHosts);
+    }
+
+    public void setReadHosts(String readHosts) {
+        if (StringUtils.isNotEmpty(readHosts)) {
+            this.readHosts = Arrays.stream(readHosts.split(",")).sequential()
+                    .distinct()
+                    .collect(Collectors.toUnmodifiableList());
+        }
+    }
+
     /**
      * @return clients database
      */
@@ -478,6 +728,29 @@ public ArangoSerdeConfig getSerde() {
         return serde;
     }
 
+    public ArangoAdaptiveLoadBalancingConfig getAdaptiveLoadBalancing() {
+        return adaptiveLoadBalancing;
+    }
+
+    /**
+     * @return content type for serde as configured or as required by
+     *             {@link #getProtocol()}
+     */
+    public ContentType getSerdeContentType() {
+        if (serde.getContentType() != null) {
+            return serde.getContentType();
+        }
+
+        switch (getProtocol()) {
+            case VST:
+            case HTTP_VPACK:
+            case HTTP2_VPACK:
+                return ContentType.VPACK;
+            default:
+                return ContentType.JSON;
+        }
+    }
+
     @Override
     public String toString() {
         return getProperties().toString();
@@ -0,0 +1,33 @@
+package io.micronaut.configuration.arango;
+
+import com.arangodb.ArangoDB;
+import io.micronaut.context.annotation.Bean;
+import io.micronaut.context.annotation.EachBean;
+import io.micronaut.context.annotation.Factory;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.runtime.context.scope.Refreshable;
+
+/**
+ * Factory for creating named {@link ArangoClient} for each
+ * {@link ArangoDatabaseConfiguration}.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+@Requires(beans = ArangoDB.class)
+@Factory
+public class ArangoDatabaseClientFactory {
+
+    /**
+     * @param accessor      shared with default client, is not shutdown when
+     *                      named client is closed
+     * @param configuration of named client
+     * @return {@link ArangoClient} qualified with configuration name
+     */
+    @Refreshable(ArangoSettings.PREFIX)
+    @Bean(preDestroy = "close")
+    @EachBean(ArangoDatabaseConfiguration.class)
+    ArangoClient getDatabaseClient(ArangoDB accessor, ArangoDatabaseConfiguration configuration) {
+        return new ArangoClientImpl(accessor, configuration.getDatabase(), false);
+    }
+}
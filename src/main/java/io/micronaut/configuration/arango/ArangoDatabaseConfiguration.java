@@ -0,0 +1,51 @@
+package io.micronaut.configuration.arango;
+
+import io.micronaut.context.annotation.EachProperty;
+import io.micronaut.context.annotation.Parameter;
+import io.micronaut.core.util.StringUtils;
+
+/**
+ * Named database client configuration, each configuration produces
+ * {@link ArangoClient} qualified with its name that shares {@link com.arangodb.ArangoDB}
+ * accessor and its connections with default client.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+@EachProperty(ArangoDatabaseConfiguration.PREFIX)
+public class ArangoDatabaseConfiguration {
+
+    public static final String PREFIX = ArangoSettings.PREFIX + ".databases";
+
+    private final String name;
+    private String database;
+
+    public ArangoDatabaseConfiguration(@Parameter String name) {
+        this.name = name;
+    }
+
+    /**
+     * @return name of client configuration
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return database name, same as configuration name if not set
+     */
+    public String getDatabase() {
+        return StringUtils.isEmpty(database)
+                ? name
+                : database;
+    }
+
+    public void setDatabase(String database) {
+        this.database = database;
+    }
+
+    @Override
+    public String toString() {
+        return "[name=" + name + ", database=" + getDatabase() + ']';
+    }
+}
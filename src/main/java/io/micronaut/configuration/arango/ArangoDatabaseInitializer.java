@@ -5,8 +5,10 @@
 import io.micronaut.context.annotation.Parallel;
 import io.micronaut.context.annotation.Requires;
 import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.runtime.exceptions.ApplicationStartupException;
 import jakarta.annotation.PostConstruct;
+import jakarta.inject.Named;
 import java.time.Duration;
 import java.util.concurrent.*;
 import org.slf4j.Logger;
@@ -26,14 +28,20 @@
 @Parallel
 public class ArangoDatabaseInitializer {
 
-    private final Logger logger = LoggerFactory.getLogger(getClass());
+    private static final Logger logger = LoggerFactory.getLogger(ArangoDatabaseInitializer.class);
 
     private final ArangoClient client;
     private final ArangoConfiguration configuration;
+    private final Executor executor;
 
-    public ArangoDatabaseInitializer(ArangoClient client, ArangoConfiguration configuration) {
+    public ArangoDatabaseInitializer(ArangoClient client,
+                                     ArangoConfiguration configuration,
+                                     @Nullable @Named(ArangoSettings.EXECUTOR) ExecutorService executor) {
         this.client = client;
         this.configuration = configuration;
+        this.executor = (executor == null)
+                ? ForkJoinPool.commonPool()
+                : executor;
     }
 
     @PostConstruct
@@ -51,13 +59,21 @@ public void setupDatabase() {
                 } catch (Exception e) {
                     logger.error(e.getMessage(), e);
                 }
-            });
+            }, executor);
         } else {
             initializeDatabaseSynchronously(client, configuration);
         }
     }
 
     protected void initializeDatabaseSynchronously(ArangoClient client, ArangoConfiguration configuration) {
+        initializeDatabase(client, configuration, executor);
+    }
+
+    /**
+     * Creates client database if it does not exist, used for default and cluster
+     * connections
+     */
+    static void initializeDatabase(ArangoClient client, ArangoConfiguration configuration, Executor executor) {
         final String database = configuration.getDatabase();
         final Duration timeout = configuration.getCreateDatabaseTimeout();
 
@@ -65,7 +81,7 @@ protected void initializeDatabaseSynchronously(ArangoClient client, ArangoConfig
             logger.debug("ArangoDB Database '{}' initialization starting...", database);
             final long startTime = System.currentTimeMillis();
             if (!client.db().exists()) {
-                CompletableFuture.supplyAsync(() -> client.db().create())
+                CompletableFuture.supplyAsync(() -> client.db().create(), executor)
                         .get(timeout.toMillis(), TimeUnit.MILLISECONDS);
             }
 
@@ -0,0 +1,123 @@
+package io.micronaut.configuration.arango;
+
+import com.arangodb.ArangoDB;
+import com.arangodb.ArangoDatabase;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.context.exceptions.ConfigurationException;
+import io.micronaut.context.event.ApplicationEventListener;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.runtime.context.scope.refresh.RefreshEvent;
+import jakarta.inject.Singleton;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Registry of {@link ArangoDatabase} handles of default {@link ArangoDB}
+ * accessor, handles are created on first use and cached, so per tenant
+ * databases are not looked up on every request.
+ * <p>
+ * Names are resolved as {@link ArangoDatabaseConfiguration} names first and as
+ * database names otherwise.
+ * <p>
+ * Names usually come from requests, so at most
+ * {@code arangodb.database-cache-size} (default {@link #DEFAULT_CACHE_SIZE})
+ * handles are cached and least recently used handle is evicted when cache is
+ * full. Cached handles are dropped on {@link RefreshEvent}, as they are bound to
+ * refreshed accessor.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+@Requires(beans = ArangoClient.class)
+@Singleton
+public class ArangoDatabases implements ApplicationEventListener<RefreshEvent> {
+
+    public static final int DEFAULT_CACHE_SIZE = 1000;
+
+    private static final String CACHE_SIZE = "${" + ArangoSettings.PREFIX + ".database-cache-size:" + DEFAULT_CACHE_SIZE + "}";
+
+    private final ArangoClient client;
+    private final ArangoTenantResolver tenantResolver;
+    private final Map<String, String> configuredDatabases;
+    /**
+     * Access ordered, guarded by itself
+     */
+    private final Map<String, ArangoDatabase> databases;
+
+    public ArangoDatabases(ArangoClient client,
+                           List<ArangoDatabaseConfiguration> configurations,
+                           @Nullable ArangoTenantResolver tenantResolver,
+                           @Value(CACHE_SIZE) int cacheSize) {
+        if (cacheSize < 1)
+            throw new ConfigurationException("Database cache size can not be less than 1");
+
+        this.client = client;
+        this.tenantResolver = tenantResolver;
+        this.databases = new LinkedHashMap<>(16, 0.75f, true) {
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, ArangoDatabase> eldest) {
+                return size() > cacheSize;
+            }
+        };
+
+        final Map<String, String> names = new HashMap<>(configurations.size());
+        for (ArangoDatabaseConfiguration configuration : configurations) {
+            names.put(configuration.getName(), configuration.getDatabase());
+        }
+        this.configuredDatabases = Map.copyOf(names);
+    }
+
+    /**
+     * @param name of named database configuration or database name
+     * @return database handle, database is not checked to exist
+     */
+    public @NonNull ArangoDatabase db(@NonNull String name) {
+        // handle creation does not call database, so it is cheap to do under lock
+        synchronized (databases) {
+            return databases.computeIfAbsent(name, n -> client.accessor().db(configuredDatabases.getOrDefault(n, n)));
+        }
+    }
+
+    /**
+     * @return database of tenant resolved with {@link ArangoTenantResolver} or
+     *             default client database if there is no resolver or tenant
+     */
+    public @NonNull ArangoDatabase current() {
+        final String tenant = (tenantResolver == null)
+                ? null
+                : tenantResolver.resolveTenant();
+        return (tenant == null)
+                ? client.db()
+                : db(tenant);
+    }
+
+    /**
+     * Removes cached handle, e.g. when tenant database is dropped
+     *
+     * @param name of named database configuration or database name
+     */
+    public void evict(@NonNull String name) {
+        synchronized (databases) {
+            databases.remove(name);
+        }
+    }
+
+    @Override
+    public void onApplicationEvent(RefreshEvent event) {
+        synchronized (databases) {
+            databases.clear();
+        }
+    }
+
+    @Override
+    public String toString() {
+        synchronized (databases) {
+            return "[configured=" + configuredDatabases.keySet() + ", cached=" + databases.size() + ']';
+        }
+    }
+}
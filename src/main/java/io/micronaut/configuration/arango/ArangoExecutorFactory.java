@@ -0,0 +1,41 @@
+package io.micronaut.configuration.arango;
+
+import io.micronaut.context.BeanLocator;
+import io.micronaut.context.annotation.Bean;
+import io.micronaut.context.annotation.Factory;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.exceptions.ConfigurationException;
+import io.micronaut.inject.qualifiers.Qualifiers;
+import io.micronaut.scheduling.TaskExecutors;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Factory for {@link ExecutorService} used for blocking ArangoDB calls made by
+ * module (database initialization, health checks) when
+ * {@link ArangoConfiguration.ExecutorType#VIRTUAL} is configured.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+@Requires(property = ArangoSettings.PREFIX + ".executor", pattern = "(?i)virtual")
+@Factory
+public class ArangoExecutorFactory {
+
+    /**
+     * Virtual executor is managed by Micronaut, so it is not shutdown by module
+     *
+     * @param beanLocator to lookup Micronaut virtual executor
+     * @return virtual threads executor
+     */
+    @Named(ArangoSettings.EXECUTOR)
+    @Bean
+    @Singleton
+    ExecutorService getExecutor(BeanLocator beanLocator) {
+        return beanLocator.findBean(ExecutorService.class, Qualifiers.byName(TaskExecutors.VIRTUAL))
+                .orElseThrow(() -> new ConfigurationException(
+                        "ArangoDB executor 'virtual' requires virtual threads support (JDK 21+), but Micronaut '"
+                                + TaskExecutors.VIRTUAL + "' executor is not available"));
+    }
+}
@@ -1,12 +1,21 @@
 package io.micronaut.configuration.arango;
 
+import com.arangodb.ContentType;
 import com.arangodb.serde.ArangoSerde;
+import com.fasterxml.jackson.core.JsonFactory;
+import io.micronaut.configuration.arango.serde.ArangoSerdeStatistics;
+import io.micronaut.configuration.arango.serde.CompiledArangoSerde;
+import io.micronaut.configuration.arango.serde.StreamingArangoSerde;
+import io.micronaut.configuration.arango.serde.VPackArangoSerde;
 import io.micronaut.context.annotation.Bean;
 import io.micronaut.context.annotation.Factory;
 import io.micronaut.context.annotation.Requires;
 import io.micronaut.context.annotation.Secondary;
+import io.micronaut.context.exceptions.ConfigurationException;
+import io.micronaut.core.reflect.ClassUtils;
 import io.micronaut.core.serialize.exceptions.SerializationException;
 import io.micronaut.serde.ObjectMapper;
+import io.micronaut.serde.SerdeRegistry;
 import jakarta.inject.Singleton;
 import java.io.IOException;
 
@@ -22,10 +31,65 @@
 @Factory
 public class ArangoSerdeFactory {
 
+    private static final String JACKSON_DECODER = "io.micronaut.serde.jackson.JacksonDecoder";
+    private static final String VPACK_FACTORY = "com.arangodb.jackson.dataformat.velocypack.VPackFactory";
+
+    @Bean
+    @Singleton
+    public ArangoSerdeStatistics arangoSerdeStatistics() {
+        return new ArangoSerdeStatistics();
+    }
+
     @Bean
     @Singleton
     @Secondary
-    public ArangoSerde defaultArangoSerde(ObjectMapper mapper) {
+    public ArangoSerde defaultArangoSerde(ObjectMapper mapper,
+                                          SerdeRegistry registry,
+                                          ArangoConfiguration configuration,
+                                          ArangoSerdeStatistics statistics) {
+        final ArangoConfiguration.ArangoSerdeConfig serdeConfig = configuration.getSerde();
+        if (configuration.getSerdeContentType() == ContentType.VPACK) {
+            if (!ClassUtils.isPresent(JACKSON_DECODER, getClass().getClassLoader())) {
+                throw new ConfigurationException("ArangoDB Serde for VPACK requires Micronaut Serde Jackson on classpath");
+            }
+            if (!ClassUtils.isPresent(VPACK_FACTORY, getClass().getClassLoader())) {
+                throw new ConfigurationException(
+                        "ArangoDB Serde for VPACK requires 'com.arangodb:jackson-dataformat-velocypack' on classpath");
+            }
+            // VPACK serde always caches serializers per type as COMPILED mode does
+            if (serdeConfig.getMode() == ArangoConfiguration.ArangoSerdeConfig.Mode.STREAMING) {
+                throw new ConfigurationException("ArangoDB Serde mode STREAMING is not supported for VPACK content type, "
+                        + "VPACK serde always works as COMPILED mode");
+            }
+
+            return new VPackArangoSerde(registry,
+                    serdeConfig.getBufferSize(),
+                    serdeConfig.getBufferMaxSize(),
+                    serdeConfig.getBufferPoolSize(),
+                    statistics);
+        }
+
+        if (serdeConfig.getMode() == ArangoConfiguration.ArangoSerdeConfig.Mode.COMPILED) {
+            if (!ClassUtils.isPresent(JACKSON_DECODER, getClass().getClassLoader())) {
+                throw new ConfigurationException("ArangoDB Serde mode COMPILED requires Micronaut Serde Jackson on classpath");
+            }
+
+            return new CompiledArangoSerde(registry,
+                    new JsonFactory(),
+                    serdeConfig.getBufferSize(),
+                    serdeConfig.getBufferMaxSize(),
+                    serdeConfig.getBufferPoolSize(),
+                    statistics);
+        }
+
+        if (serdeConfig.getMode() == ArangoConfiguration.ArangoSerdeConfig.Mode.STREAMING) {
+            return new StreamingArangoSerde(mapper,
+                    serdeConfig.getBufferSize(),
+                    serdeConfig.getBufferMaxSize(),
+                    serdeConfig.getBufferPoolSize(),
+                    statistics);
+        }
+
         return new ArangoSerde() {
 
             @Override
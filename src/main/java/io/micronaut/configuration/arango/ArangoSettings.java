@@ -19,4 +19,15 @@ private ArangoSettings() {}
      * ArangoDB default database name
      */
     public static final String SYSTEM_DATABASE = "_system";
+
+    /**
+     * Name of {@link java.util.concurrent.ExecutorService} used for blocking
+     * ArangoDB calls made by module
+     */
+    public static final String EXECUTOR = "arangodb";
+
+    /**
+     * Name of {@link com.arangodb.ArangoDB} accessor connected to read hosts
+     */
+    public static final String READ = "read";
 }
@@ -0,0 +1,21 @@
+package io.micronaut.configuration.arango;
+
+import io.micronaut.core.annotation.Nullable;
+
+/**
+ * Resolves tenant of current request (e.g. from request header, security
+ * principal or propagated context) for {@link ArangoDatabases#current()}.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+@FunctionalInterface
+public interface ArangoTenantResolver {
+
+    /**
+     * @return tenant name as named database configuration or database name, null
+     *             when tenant is unknown and default database should be used
+     */
+    @Nullable
+    String resolveTenant();
+}
@@ -0,0 +1,49 @@
+package io.micronaut.configuration.arango;
+
+import com.arangodb.ArangoDatabaseAsync;
+import com.arangodb.model.AqlQueryOptions;
+import java.util.Map;
+import reactor.core.publisher.Flux;
+
+/**
+ * Reactive client for database as configured for application, AQL query
+ * results are streamed with backpressure: next cursor batch is fetched only
+ * when downstream requested more than current batch contains.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+public interface ReactiveArangoClient {
+
+    /**
+     * @return Async accessor to specified ArangoDB database
+     *             {@link ArangoConfiguration#getDatabase()}.
+     */
+    ArangoDatabaseAsync db();
+
+    /**
+     * @see #query(String, Class, Map, AqlQueryOptions)
+     */
+    <T> Flux<T> query(String query, Class<T> type);
+
+    /**
+     * @see #query(String, Class, Map, AqlQueryOptions)
+     */
+    <T> Flux<T> query(String query, Class<T> type, Map<String, Object> bindVars);
+
+    /**
+     * Server side cursor is closed if subscription is cancelled before all
+     * batches are consumed. For huge results consider
+     * {@link AqlQueryOptions#stream(Boolean)} so server doesn't materialize
+     * whole result.
+     *
+     * @param query    AQL query
+     * @param type     of result document
+     * @param bindVars query bind variables
+     * @param options  query options, batch size controls amount of documents
+     *                     fetched per request
+     * @param <T>      type of result document
+     * @return query results
+     */
+    <T> Flux<T> query(String query, Class<T> type, Map<String, Object> bindVars, AqlQueryOptions options);
+}
@@ -0,0 +1,87 @@
+package io.micronaut.configuration.arango;
+
+import com.arangodb.ArangoCursorAsync;
+import com.arangodb.ArangoDatabaseAsync;
+import com.arangodb.model.AqlQueryOptions;
+import java.util.Collections;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive client based on {@link ArangoAsyncClient}.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+final class ReactiveArangoClientImpl implements ReactiveArangoClient {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveArangoClientImpl.class);
+
+    /**
+     * Cursor of single query subscription, batches are requested sequentially so
+     * there is only one cursor in progress
+     */
+    private static final class CursorState<T> {
+
+        private volatile ArangoCursorAsync<T> cursor;
+
+        private boolean hasMore() {
+            final ArangoCursorAsync<T> current = cursor;
+            return current != null && current.hasMore();
+        }
+
+        private void close() {
+            final ArangoCursorAsync<T> current = cursor;
+            if (current != null && current.hasMore()) {
+                current.close().whenComplete((r, e) -> {
+                    if (e != null) {
+                        logger.debug("ArangoDB cursor '{}' close failed due to: {}", current.getId(), e.getMessage());
+                    }
+                });
+            }
+        }
+    }
+
+    private final ArangoAsyncClient client;
+
+    ReactiveArangoClientImpl(ArangoAsyncClient client) {
+        this.client = client;
+    }
+
+    @Override
+    public ArangoDatabaseAsync db() {
+        return client.db();
+    }
+
+    @Override
+    public <T> Flux<T> query(String query, Class<T> type) {
+        return query(query, type, Collections.emptyMap());
+    }
+
+    @Override
+    public <T> Flux<T> query(String query, Class<T> type, Map<String, Object> bindVars) {
+        return query(query, type, bindVars, new AqlQueryOptions());
+    }
+
+    @Override
+    public <T> Flux<T> query(String query, Class<T> type, Map<String, Object> bindVars, AqlQueryOptions options) {
+        return Flux.defer(() -> {
+            final CursorState<T> state = new CursorState<>();
+            return Flux.defer(() -> Mono.fromFuture(() -> (state.cursor == null)
+                    ? client.db().query(query, type, bindVars, options)
+                    : state.cursor.nextBatch())
+                    .doOnNext(cursor -> state.cursor = cursor)
+                    .flatMapIterable(ArangoCursorAsync::getResult))
+                    .repeat(state::hasMore)
+                    .doOnCancel(state::close);
+        });
+    }
+
+    @Override
+    public String toString() {
+        return client.toString();
+    }
+}
@@ -0,0 +1,256 @@
+package io.micronaut.configuration.arango.balancing;
+
+import com.arangodb.ArangoDB;
+import com.arangodb.ArangoMetrics;
+import com.arangodb.QueueTimeMetrics;
+import com.arangodb.model.QueueTimeSample;
+import io.micronaut.configuration.arango.ArangoConfiguration;
+import io.micronaut.configuration.arango.intercept.ArangoInterceptors;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link ArangoDB} accessor that balances requests across accessors connected
+ * to single host each, every request is sent to host with lowest peak EWMA
+ * response time multiplied by its in-flight requests. Host is ejected after
+ * consecutive failures (connection errors and 5xx responses) and gets no
+ * requests for ejection duration, unless all hosts are ejected.
+ * <p>
+ * Handles ({@link com.arangodb.ArangoDatabase},
+ * {@link com.arangodb.ArangoCollection}, etc) remember how they were obtained
+ * and are resolved against selected host accessor on each request, including
+ * async accessor handles which requests are recorded when their future is
+ * completed. Cursors continue on host they were created on.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+@Internal
+public final class AdaptiveArangoDB {
+
+    @FunctionalInterface
+    private interface Resolver {
+
+        Object resolve(ArangoDB accessor) throws Throwable;
+    }
+
+    private final List<AdaptiveHost> hosts;
+    private final AtomicInteger next = new AtomicInteger();
+
+    AdaptiveArangoDB(List<AdaptiveHost> hosts) {
+        this.hosts = hosts;
+    }
+
+    /**
+     * @param accessors     connected to single host each
+     * @param names         of hosts in same order as accessors
+     * @param configuration of balancing
+     * @return accessor balancing requests across given accessors
+     */
+    public static ArangoDB create(@NonNull List<ArangoDB> accessors,
+                                  @NonNull List<String> names,
+                                  @NonNull ArangoConfiguration.ArangoAdaptiveLoadBalancingConfig configuration) {
+        final List<AdaptiveHost> hosts = new ArrayList<>(accessors.size());
+        for (int i = 0; i < accessors.size(); i++) {
+            hosts.add(new AdaptiveHost(names.get(i), accessors.get(i),
+                    configuration.getDecayTime().toNanos(),
+                    configuration.getFailureThreshold(),
+                    configuration.getEjectionDuration().toNanos()));
+        }
+
+        final AdaptiveArangoDB balancer = new AdaptiveArangoDB(List.copyOf(hosts));
+        return (ArangoDB) Proxy.newProxyInstance(ArangoDB.class.getClassLoader(),
+                new Class<?>[] { ArangoDB.class },
+                balancer.new AccessorHandler());
+    }
+
+    AdaptiveHost select() {
+        final long now = System.nanoTime();
+        final int start = Math.floorMod(next.getAndIncrement(), hosts.size());
+        AdaptiveHost selected = null;
+        double selectedScore = Double.MAX_VALUE;
+        AdaptiveHost fallback = null;
+        double fallbackScore = Double.MAX_VALUE;
+        // scan starts from next host each time, so hosts with same score are used in turn
+        for (int i = 0; i < hosts.size(); i++) {
+            final AdaptiveHost host = hosts.get((start + i) % hosts.size());
+            final double score = host.getScore(now);
+            if (!host.isEjected(now)) {
+                if (score < selectedScore) {
+                    selected = host;
+                    selectedScore = score;
+                }
+            } else if (score < fallbackScore) {
+                fallback = host;
+                fallbackScore = score;
+            }
+        }
+
+        return (selected == null)
+                ? fallback
+                : selected;
+    }
+
+    private Object invoke(Resolver resolver, Method method, Object[] args) throws Throwable {
+        final AdaptiveHost host = select();
+        final Object target = resolver.resolve(host.getAccessor());
+        final long started = System.nanoTime();
+        host.onStart();
+        final Object result;
+        try {
+            result = invokeTarget(target, method, args);
+        } catch (Throwable e) {
+            onComplete(host, started, e);
+            throw e;
+        }
+
+        if (result instanceof CompletableFuture) {
+            return ((CompletableFuture<?>) result).whenComplete((r, e) -> onComplete(host, started, e));
+        }
+
+        onComplete(host, started, null);
+        return result;
+    }
+
+    private static void onComplete(AdaptiveHost host, long started, Throwable e) {
+        final long now = System.nanoTime();
+        if (e != null && ArangoInterceptors.isServerFailure(e)) {
+            host.onFailure(now);
+        } else {
+            host.onSuccess(now, now - started);
+        }
+    }
+
+    private Object invokeLocal(Method method, Object[] args) throws Throwable {
+        switch (method.getName()) {
+            case "shutdown":
+            case "updateJwt":
+                for (AdaptiveHost host : hosts) {
+                    invokeTarget(host.getAccessor(), method, args);
+                }
+                return null;
+            case "metrics":
+                return new AdaptiveMetrics(hosts);
+            default:
+                return invokeTarget(hosts.get(0).getAccessor(), method, args);
+        }
+    }
+
+    private final class AccessorHandler implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            return handle(proxy, method, args, a -> a, true);
+        }
+    }
+
+    private final class HandleHandler implements InvocationHandler {
+
+        private final Resolver resolver;
+
+        private HandleHandler(Resolver resolver) {
+            this.resolver = resolver;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            return handle(proxy, method, args, resolver, false);
+        }
+    }
+
+    private Object handle(Object proxy, Method method, Object[] args, Resolver resolver, boolean accessor)
+            throws Throwable {
+        if (method.getDeclaringClass() == Object.class) {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    return "[hosts=" + hosts + ']';
+            }
+        }
+
+        final Class<?> returnType = method.getReturnType();
+        if (ArangoInterceptors.isHandle(returnType)) {
+            final Resolver handleResolver = a -> invokeTarget(resolver.resolve(a), method, args);
+            return Proxy.newProxyInstance(returnType.getClassLoader(),
+                    new Class<?>[] { returnType },
+                    new HandleHandler(handleResolver));
+        }
+
+        if (ArangoInterceptors.isPassthrough(method)) {
+            return accessor
+                    ? invokeLocal(method, args)
+                    : invokeTarget(resolver.resolve(hosts.get(0).getAccessor()), method, args);
+        }
+
+        return invoke(resolver, method, args);
+    }
+
+    private static Object invokeTarget(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Queue time metrics of all hosts
+     */
+    private static final class AdaptiveMetrics implements ArangoMetrics, QueueTimeMetrics {
+
+        private final List<AdaptiveHost> hosts;
+
+        private AdaptiveMetrics(List<AdaptiveHost> hosts) {
+            this.hosts = hosts;
+        }
+
+        @Override
+        public QueueTimeMetrics getQueueTime() {
+            return this;
+        }
+
+        @Override
+        public QueueTimeSample[] getValues() {
+            final List<QueueTimeSample> samples = new ArrayList<>();
+            for (AdaptiveHost host : hosts) {
+                samples.addAll(Arrays.asList(host.getAccessor().metrics().getQueueTime().getValues()));
+            }
+            return samples.toArray(new QueueTimeSample[0]);
+        }
+
+        @Override
+        public int getCount() {
+            int count = 0;
+            for (AdaptiveHost host : hosts) {
+                count += host.getAccessor().metrics().getQueueTime().getCount();
+            }
+            return count;
+        }
+
+        @Override
+        public double getAvg() {
+            double total = 0;
+            int count = 0;
+            for (AdaptiveHost host : hosts) {
+                final QueueTimeMetrics metrics = host.getAccessor().metrics().getQueueTime();
+                total += metrics.getAvg() * metrics.getCount();
+                count += metrics.getCount();
+            }
+            return (count == 0)
+                    ? 0
+                    : total / count;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package io.micronaut.configuration.arango.balancing;
+
+import com.arangodb.ArangoDB;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Load of single host accessor: peak EWMA of response time, in-flight requests
+ * and consecutive failures.
+ * <p>
+ * Latency peaks are taken immediately and decay over decay time, so host that
+ * became slow is avoided at once and gets requests again after it recovers.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+final class AdaptiveHost {
+
+    private final String name;
+    private final ArangoDB accessor;
+    private final double decayNanos;
+    private final int failureThreshold;
+    private final long ejectionNanos;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger failures = new AtomicInteger();
+    private volatile long ejectedUntil;
+
+    /**
+     * Peak EWMA of response time in nanos, guarded by this
+     */
+    private double latency = 0;
+    /**
+     * Time latency was last updated, guarded by this
+     */
+    private long updated;
+
+    AdaptiveHost(String name, ArangoDB accessor, long decayNanos, int failureThreshold, long ejectionNanos) {
+        this.name = name;
+        this.accessor = accessor;
+        this.decayNanos = decayNanos;
+        this.failureThreshold = failureThreshold;
+        this.ejectionNanos = ejectionNanos;
+        this.updated = System.nanoTime();
+        this.ejectedUntil = updated;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    ArangoDB getAccessor() {
+        return accessor;
+    }
+
+    int getInFlight() {
+        return inFlight.get();
+    }
+
+    boolean isEjected(long now) {
+        return now - ejectedUntil < 0;
+    }
+
+    /**
+     * @return latency multiplied by in-flight requests, lower is better
+     */
+    double getScore(long now) {
+        return (getLatency(now) + 1) * (inFlight.get() + 1);
+    }
+
+    synchronized double getLatency(long now) {
+        return latency * Math.exp(-Math.max(now - updated, 0) / decayNanos);
+    }
+
+    void onStart() {
+        inFlight.incrementAndGet();
+    }
+
+    void onSuccess(long now, long elapsedNanos) {
+        inFlight.decrementAndGet();
+        failures.set(0);
+        synchronized (this) {
+            final double weight = Math.exp(-Math.max(now - updated, 0) / decayNanos);
+            latency = (elapsedNanos > latency)
+                    ? elapsedNanos
+                    : latency * weight + elapsedNanos * (1 - weight);
+            updated = now;
+        }
+    }
+
+    void onFailure(long now) {
+        inFlight.decrementAndGet();
+        if (failures.incrementAndGet() >= failureThreshold) {
+            failures.set(0);
+            ejectedUntil = now + ejectionNanos;
+        }
+    }
+
+    @Override
+    public String toString() {
+        final long now = System.nanoTime();
+        return "[host=" + name + ", latencyMillis=" + getLatency(now) / 1_000_000 + ", inFlight=" + inFlight.get()
+                + ", ejected=" + isEjected(now) + ']';
+    }
+}
@@ -0,0 +1,93 @@
+package io.micronaut.configuration.arango.bulk;
+
+import io.micronaut.configuration.arango.ArangoSettings;
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.exceptions.ConfigurationException;
+import java.time.Duration;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+@Requires(property = ArangoSettings.PREFIX)
+@ConfigurationProperties(ArangoSettings.PREFIX + ".bulk")
+public class ArangoBulkConfiguration {
+
+    private int batchSize = 1000;
+    private Duration flushInterval = Duration.ofMillis(100);
+    private int maxInFlightBatches = 4;
+    private int maxPendingDocuments = 10_000;
+    private Duration closeTimeout = Duration.ofSeconds(30);
+
+    /**
+     * @return max documents in single batch, batch is flushed when full
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        if (batchSize < 1)
+            throw new ConfigurationException("Bulk batch size can not be less than 1");
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * @return interval after which not full batches are flushed
+     */
+    public Duration getFlushInterval() {
+        return flushInterval;
+    }
+
+    public void setFlushInterval(Duration flushInterval) {
+        if (flushInterval.isNegative() || flushInterval.isZero())
+            throw new ConfigurationException("Bulk flush interval must be greater than 0");
+        this.flushInterval = flushInterval;
+    }
+
+    /**
+     * @return max batches sent to database concurrently
+     */
+    public int getMaxInFlightBatches() {
+        return maxInFlightBatches;
+    }
+
+    public void setMaxInFlightBatches(int maxInFlightBatches) {
+        if (maxInFlightBatches < 1)
+            throw new ConfigurationException("Bulk max in-flight batches can not be less than 1");
+        this.maxInFlightBatches = maxInFlightBatches;
+    }
+
+    /**
+     * @return max documents buffered or in flight, writers are blocked when limit
+     *             is reached
+     */
+    public int getMaxPendingDocuments() {
+        return maxPendingDocuments;
+    }
+
+    public void setMaxPendingDocuments(int maxPendingDocuments) {
+        if (maxPendingDocuments < 1)
+            throw new ConfigurationException("Bulk max pending documents can not be less than 1");
+        this.maxPendingDocuments = maxPendingDocuments;
+    }
+
+    /**
+     * @return max time to wait for pending documents to be written on shutdown
+     */
+    public Duration getCloseTimeout() {
+        return closeTimeout;
+    }
+
+    public void setCloseTimeout(Duration closeTimeout) {
+        this.closeTimeout = closeTimeout;
+    }
+
+    @Override
+    public String toString() {
+        return "[batchSize=" + batchSize + ", flushInterval=" + flushInterval + ", maxInFlightBatches="
+                + maxInFlightBatches + ", maxPendingDocuments=" + maxPendingDocuments + ", closeTimeout=" + closeTimeout
+                + ']';
+    }
+}
@@ -0,0 +1,144 @@
+package io.micronaut.configuration.arango.bulk;
+
+import io.micronaut.configuration.arango.ArangoSettings;
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.exceptions.ConfigurationException;
+import io.micronaut.core.annotation.Nullable;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+@Requires(property = ArangoSettings.PREFIX)
+@ConfigurationProperties(ArangoSettings.PREFIX + ".write-behind")
+public class ArangoWriteBehindConfiguration {
+
+    /**
+     * What happens with document when write-behind queue is full
+     */
+    public enum OverflowPolicy {
+        /**
+         * Caller is blocked until queue has space
+         */
+        BLOCK,
+        /**
+         * Document is dropped
+         */
+        DROP,
+        /**
+         * Document is written to local spill file and inserted when queue is drained
+         */
+        SPILL
+    }
+
+    private boolean enabled = false;
+    private int batchSize = 1000;
+    private int maxInFlightBatches = 4;
+    private Duration flushInterval = Duration.ofSeconds(1);
+    private int capacity = 100_000;
+    private OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
+    private Path spillDirectory;
+    private Duration closeTimeout = Duration.ofSeconds(30);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * @return max documents inserted in single request
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        if (batchSize < 1)
+            throw new ConfigurationException("Write-behind batch size can not be less than 1");
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * @return max batches sent to database concurrently by single flush
+     */
+    public int getMaxInFlightBatches() {
+        return maxInFlightBatches;
+    }
+
+    public void setMaxInFlightBatches(int maxInFlightBatches) {
+        if (maxInFlightBatches < 1)
+            throw new ConfigurationException("Write-behind max in-flight batches can not be less than 1");
+        this.maxInFlightBatches = maxInFlightBatches;
+    }
+
+    /**
+     * @return interval between queue flushes
+     */
+    public Duration getFlushInterval() {
+        return flushInterval;
+    }
+
+    public void setFlushInterval(Duration flushInterval) {
+        if (flushInterval.isNegative() || flushInterval.isZero())
+            throw new ConfigurationException("Write-behind flush interval must be greater than 0");
+        this.flushInterval = flushInterval;
+    }
+
+    /**
+     * @return max documents waiting in queue before overflow policy is applied
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(int capacity) {
+        if (capacity < 1)
+            throw new ConfigurationException("Write-behind capacity can not be less than 1");
+        this.capacity = capacity;
+    }
+
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    public void setOverflowPolicy(OverflowPolicy overflowPolicy) {
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    /**
+     * @return directory for spill file used by {@link OverflowPolicy#SPILL}, when
+     *             not set {@code ${java.io.tmpdir}/arangodb-write-behind/<application
+     *             name>} is used
+     */
+    public @Nullable Path getSpillDirectory() {
+        return spillDirectory;
+    }
+
+    public void setSpillDirectory(Path spillDirectory) {
+        this.spillDirectory = spillDirectory;
+    }
+
+    /**
+     * @return max time to wait for queued documents to be written on shutdown
+     */
+    public Duration getCloseTimeout() {
+        return closeTimeout;
+    }
+
+    public void setCloseTimeout(Duration closeTimeout) {
+        this.closeTimeout = closeTimeout;
+    }
+
+    @Override
+    public String toString() {
+        return "[enabled=" + enabled + ", batchSize=" + batchSize + ", maxInFlightBatches=" + maxInFlightBatches
+                + ", flushInterval=" + flushInterval + ", capacity=" + capacity + ", overflowPolicy=" + overflowPolicy
+                + ", spillDirectory=" + spillDirectory + ", closeTimeout=" + closeTimeout + ']';
+    }
+}
@@ -0,0 +1,36 @@
+package io.micronaut.configuration.arango.bulk;
+
+import com.arangodb.entity.DocumentCreateEntity;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Buffers documents per collection and inserts them in batches, flushed when
+ * batch is full or after flush interval, with several batches in flight.
+ * <p>
+ * Writers are blocked when max pending documents are buffered or in flight.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+public interface BulkWriter extends AutoCloseable {
+
+    /**
+     * @param collection to insert document into
+     * @param document   to insert
+     * @return future completed when document batch is written, completed
+     *             exceptionally with {@link com.arangodb.ArangoDBException} when
+     *             document or its batch failed
+     */
+    CompletableFuture<DocumentCreateEntity<Void>> insert(String collection, Object document);
+
+    /**
+     * @return future completed when all buffered documents are written
+     */
+    CompletableFuture<Void> flush();
+
+    /**
+     * Flushes buffered documents and waits for them to be written
+     */
+    @Override
+    void close();
+}
@@ -0,0 +1,29 @@
+package io.micronaut.configuration.arango.bulk;
+
+import io.micronaut.configuration.arango.ArangoAsyncClient;
+import io.micronaut.context.annotation.Bean;
+import io.micronaut.context.annotation.Factory;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.scheduling.TaskExecutors;
+import io.micronaut.scheduling.TaskScheduler;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+
+/**
+ * Default factory for creating {@link BulkWriter}.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+@Requires(beans = { ArangoAsyncClient.class, ArangoBulkConfiguration.class })
+@Factory
+public class BulkWriterFactory {
+
+    @Bean(preDestroy = "close")
+    @Singleton
+    BulkWriter getBulkWriter(ArangoAsyncClient client,
+                             ArangoBulkConfiguration configuration,
+                             @Named(TaskExecutors.SCHEDULED) TaskScheduler scheduler) {
+        return new BulkWriterImpl(client, configuration, scheduler);
+    }
+}
@@ -0,0 +1,274 @@
+package io.micronaut.configuration.arango.bulk;
+
+import com.arangodb.ArangoDBException;
+import com.arangodb.entity.DocumentCreateEntity;
+import com.arangodb.entity.ErrorEntity;
+import com.arangodb.entity.MultiDocumentEntity;
+import com.arangodb.model.DocumentCreateOptions;
+import io.micronaut.configuration.arango.ArangoAsyncClient;
+import io.micronaut.scheduling.TaskScheduler;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link BulkWriter} on top of {@link ArangoAsyncClient}, so batches are
+ * pipelined without blocking threads while they are in flight.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+final class BulkWriterImpl implements BulkWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkWriterImpl.class);
+
+    private static final class Batch {
+
+        private final List<Object> documents;
+        private final List<CompletableFuture<DocumentCreateEntity<Void>>> futures;
+
+        private Batch(int size) {
+            this.documents = new ArrayList<>(size);
+            this.futures = new ArrayList<>(size);
+        }
+
+        private boolean isEmpty() {
+            return documents.isEmpty();
+        }
+
+        private int size() {
+            return documents.size();
+        }
+    }
+
+    private final class Buffer {
+
+        private final String collection;
+        private Batch batch = new Batch(configuration.getBatchSize());
+
+        private Buffer(String collection) {
+            this.collection = collection;
+        }
+
+        private CompletableFuture<DocumentCreateEntity<Void>> add(Object document) {
+            final CompletableFuture<DocumentCreateEntity<Void>> future = new CompletableFuture<>();
+            final Batch full;
+            synchronized (this) {
+                batch.documents.add(document);
+                batch.futures.add(future);
+                full = (batch.size() >= configuration.getBatchSize())
+                        ? swap()
+                        : null;
+            }
+
+            if (full != null) {
+                send(collection, full);
+            }
+            return future;
+        }
+
+        private CompletableFuture<Void> flush() {
+            final Batch flushed = swapIfNotEmpty();
+            return (flushed == null)
+                    ? CompletableFuture.completedFuture(null)
+                    : send(collection, flushed);
+        }
+
+        /**
+         * @param deadline {@link System#nanoTime()} until which batch waits for
+         *                     in-flight slot, batch is failed when it is not sent
+         *                     until deadline
+         */
+        private CompletableFuture<Void> flush(long deadline) {
+            final Batch flushed = swapIfNotEmpty();
+            return (flushed == null)
+                    ? CompletableFuture.completedFuture(null)
+                    : send(collection, flushed, deadline);
+        }
+
+        /**
+         * Sends batch only if in-flight slot is free, so scheduler thread is never
+         * blocked, otherwise batch is sent by later flush or when it is full
+         */
+        private void flushIfIdle() {
+            final Batch flushed;
+            synchronized (this) {
+                if (batch.isEmpty() || !inFlight.tryAcquire()) {
+                    return;
+                }
+                flushed = swap();
+            }
+
+            sendAcquired(collection, flushed);
+        }
+
+        private synchronized Batch swapIfNotEmpty() {
+            return batch.isEmpty()
+                    ? null
+                    : swap();
+        }
+
+        private Batch swap() {
+            final Batch current = batch;
+            this.batch = new Batch(configuration.getBatchSize());
+            return current;
+        }
+    }
+
+    private final ArangoAsyncClient client;
+    private final ArangoBulkConfiguration configuration;
+    private final Semaphore pending;
+    private final Semaphore inFlight;
+    private final Map<String, Buffer> buffers = new ConcurrentHashMap<>();
+    private final ScheduledFuture<?> flusher;
+
+    BulkWriterImpl(ArangoAsyncClient client, ArangoBulkConfiguration configuration, TaskScheduler scheduler) {
+        this.client = client;
+        this.configuration = configuration;
+        this.pending = new Semaphore(configuration.getMaxPendingDocuments());
+        this.inFlight = new Semaphore(configuration.getMaxInFlightBatches());
+        this.flusher = scheduler.scheduleAtFixedRate(configuration.getFlushInterval(), configuration.getFlushInterval(),
+                this::flushOnInterval);
+    }
+
+    @Override
+    public CompletableFuture<DocumentCreateEntity<Void>> insert(String collection, Object document) {
+        try {
+            pending.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CompletableFuture.failedFuture(new ArangoDBException(e));
+        }
+
+        return buffers.computeIfAbsent(collection, Buffer::new).add(document);
+    }
+
+    @Override
+    public CompletableFuture<Void> flush() {
+        return CompletableFuture.allOf(buffers.values().stream()
+                .map(Buffer::flush)
+                .toArray(CompletableFuture[]::new));
+    }
+
+    private void flushOnInterval() {
+        // exception must not escape, otherwise scheduler stops flushing
+        try {
+            buffers.values().forEach(Buffer::flushIfIdle);
+        } catch (Exception e) {
+            logger.warn("ArangoDB bulk writer failed to flush batches", e);
+        }
+    }
+
+    private CompletableFuture<Void> send(String collection, Batch batch) {
+        try {
+            inFlight.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            complete(batch, null, new ArangoDBException(e));
+            return CompletableFuture.completedFuture(null);
+        }
+
+        return sendAcquired(collection, batch);
+    }
+
+    private CompletableFuture<Void> send(String collection, Batch batch, long deadline) {
+        try {
+            if (!inFlight.tryAcquire(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                logger.warn("ArangoDB bulk writer closed before batch of {} documents for collection '{}' was sent",
+                        batch.size(), collection);
+                complete(batch, null, new ArangoDBException("ArangoDB bulk writer closed before batch of "
+                        + batch.size() + " documents for collection '" + collection + "' was sent"));
+                return CompletableFuture.completedFuture(null);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            complete(batch, null, new ArangoDBException(e));
+            return CompletableFuture.completedFuture(null);
+        }
+
+        return sendAcquired(collection, batch);
+    }
+
+    /**
+     * Sends batch which in-flight slot is already acquired, slot is released when
+     * batch completes
+     */
+    private CompletableFuture<Void> sendAcquired(String collection, Batch batch) {
+        try {
+            return client.db().collection(collection)
+                    .insertDocuments(batch.documents, new DocumentCreateOptions())
+                    .handle((result, e) -> {
+                        try {
+                            complete(batch, result, e);
+                        } finally {
+                            inFlight.release();
+                        }
+                        return null;
+                    });
+        } catch (Exception e) {
+            try {
+                complete(batch, null, e);
+            } finally {
+                inFlight.release();
+            }
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void complete(Batch batch, MultiDocumentEntity<DocumentCreateEntity<Void>> result, Throwable error) {
+        try {
+            if (error != null) {
+                final Throwable cause = (error instanceof CompletionException && error.getCause() != null)
+                        ? error.getCause()
+                        : error;
+                logger.debug("ArangoDB bulk writer batch of {} documents failed", batch.size(), cause);
+                batch.futures.forEach(f -> f.completeExceptionally(cause));
+                return;
+            }
+
+            final List<?> results = result.getDocumentsAndErrors();
+            for (int i = 0; i < batch.futures.size(); i++) {
+                final Object documentResult = (i < results.size())
+                        ? results.get(i)
+                        : null;
+                if (documentResult instanceof ErrorEntity) {
+                    batch.futures.get(i).completeExceptionally(new ArangoDBException((ErrorEntity) documentResult));
+                } else {
+                    batch.futures.get(i).complete((DocumentCreateEntity<Void>) documentResult);
+                }
+            }
+        } finally {
+            pending.release(batch.size());
+        }
+    }
+
+    /**
+     * Sends pending batches and waits for them within close timeout, batches that
+     * do not get in-flight slot until timeout are failed instead of blocking
+     * shutdown
+     */
+    @Override
+    public void close() {
+        flusher.cancel(false);
+        final long deadline = System.nanoTime() + configuration.getCloseTimeout().toNanos();
+        try {
+            final CompletableFuture<?>[] flushed = buffers.values().stream()
+                    .map(buffer -> buffer.flush(deadline))
+                    .toArray(CompletableFuture[]::new);
+            CompletableFuture.allOf(flushed).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            logger.warn("ArangoDB bulk writer failed to write pending documents on close", e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "[collections=" + buffers.keySet() + ", configuration=" + configuration + ']';
+    }
+}
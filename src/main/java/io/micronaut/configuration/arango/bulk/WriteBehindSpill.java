@@ -0,0 +1,245 @@
+package io.micronaut.configuration.arango.bulk;
+
+import java.io.*;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Local append-only file with serialized documents that did not fit into
+ * write-behind queue or failed to be written.
+ * <p>
+ * Each record is collection name followed by length prefixed document bytes
+ * produced by driver serde, so documents are replayed without deserialization.
+ * <p>
+ * Directory is locked with {@link FileLock} while spill is open, so two
+ * processes can not append to and replay same spill file. Replay position is
+ * kept in separate file, so replay continues from failed batch instead of
+ * rewriting spill file while database is unavailable. Records that failed while
+ * rest of their batch was inserted are appended to spill file again, so
+ * inserted records are not replayed twice.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+final class WriteBehindSpill {
+
+    static final class Record {
+
+        private final String collection;
+        private final byte[] document;
+
+        Record(String collection, byte[] document) {
+            this.collection = collection;
+            this.document = document;
+        }
+
+        String getCollection() {
+            return collection;
+        }
+
+        byte[] getDocument() {
+            return document;
+        }
+
+        /**
+         * @return bytes record takes in spill file
+         */
+        long getSize() {
+            long collectionSize = 0;
+            for (int i = 0; i < collection.length(); i++) {
+                final char c = collection.charAt(i);
+                collectionSize += (c >= 0x0001 && c <= 0x007F)
+                        ? 1
+                        : (c <= 0x07FF) ? 2 : 3;
+            }
+            return 2 + collectionSize + 4 + document.length;
+        }
+    }
+
+    private final Path file;
+    private final Path replay;
+    private final Path position;
+    private final FileChannel lockChannel;
+    private final FileLock lock;
+    private DataOutputStream output;
+    private long records;
+
+    /**
+     * @param directory for spill files
+     * @throws IOException           when directory can not be created or locked
+     * @throws IllegalStateException when directory is locked by other process
+     */
+    WriteBehindSpill(Path directory) throws IOException {
+        this.file = directory.resolve("spill.bin");
+        this.replay = directory.resolve("replay.bin");
+        this.position = directory.resolve("replay.pos");
+
+        Files.createDirectories(directory);
+        this.lockChannel = FileChannel.open(directory.resolve("spill.lock"), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE);
+        FileLock directoryLock;
+        try {
+            directoryLock = lockChannel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            directoryLock = null;
+        }
+
+        if (directoryLock == null) {
+            lockChannel.close();
+            throw new IllegalStateException("Write-behind spill directory '" + directory
+                    + "' is used by other writer, configure distinct 'arangodb.write-behind.spill-directory'");
+        }
+        this.lock = directoryLock;
+    }
+
+    synchronized void append(String collection, byte[] document) throws IOException {
+        if (output == null) {
+            Files.createDirectories(file.getParent());
+            this.output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)));
+        }
+
+        output.writeUTF(collection);
+        output.writeInt(document.length);
+        output.write(document);
+        records++;
+    }
+
+    private synchronized void append(List<Record> failed) throws IOException {
+        for (Record record : failed) {
+            append(record.collection, record.document);
+        }
+        // written before replay position is moved past them, so they are not lost
+        output.flush();
+    }
+
+    /**
+     * @return true if spill file may contain records, including records left by
+     *             previous run
+     */
+    synchronized boolean hasRecords() {
+        return records > 0 || Files.exists(file) || Files.exists(replay);
+    }
+
+    /**
+     * Inserts records in batches
+     */
+    @FunctionalInterface
+    interface Replayer {
+
+        /**
+         * @param batch to insert
+         * @return records that failed to be inserted while others were inserted,
+         *             they are appended to spill file and replayed next time
+         * @throws RuntimeException when whole batch failed, so next replay starts
+         *                              from this batch
+         */
+        List<Record> replay(List<Record> batch);
+    }
+
+    /**
+     * Moves current spill file aside and replays its records in batches, new
+     * records are appended to new spill file meanwhile. When replay of batch
+     * fails, position of this batch is kept and next replay starts from it,
+     * when only some records of batch fail, they are appended to new spill file.
+     *
+     * @param batchSize max records in single batch
+     * @param replayer  to insert records with
+     * @return records inserted
+     * @throws IOException when spill file can not be read
+     */
+    long replay(int batchSize, Replayer replayer) throws IOException {
+        synchronized (this) {
+            if (!Files.exists(replay)) {
+                if (output != null) {
+                    output.close();
+                    this.output = null;
+                }
+                this.records = 0;
+                if (!Files.exists(file)) {
+                    return 0;
+                }
+
+                Files.deleteIfExists(position);
+                Files.move(file, replay, StandardCopyOption.ATOMIC_MOVE);
+            }
+        }
+
+        long offset = readPosition();
+        long replayed = 0;
+        try (InputStream stream = Files.newInputStream(replay)) {
+            stream.skipNBytes(offset);
+            final DataInputStream input = new DataInputStream(new BufferedInputStream(stream));
+            for (List<Record> batch = read(input, batchSize); !batch.isEmpty(); batch = read(input, batchSize)) {
+                // failed batch is thrown before position is moved, so it is replayed next time
+                final List<Record> failed = replayer.replay(batch);
+                if (!failed.isEmpty()) {
+                    append(failed);
+                }
+                replayed += batch.size() - failed.size();
+                for (Record record : batch) {
+                    offset += record.getSize();
+                }
+                writePosition(offset);
+            }
+        }
+
+        Files.deleteIfExists(replay);
+        Files.deleteIfExists(position);
+        return replayed;
+    }
+
+    private long readPosition() throws IOException {
+        if (!Files.exists(position)) {
+            return 0;
+        }
+
+        try {
+            return Long.parseLong(Files.readString(position, StandardCharsets.UTF_8).trim());
+        } catch (NumberFormatException e) {
+            throw new IOException("Write-behind replay position file '" + position + "' is corrupted", e);
+        }
+    }
+
+    private void writePosition(long offset) throws IOException {
+        // replaced atomically, so position is never partially written
+        final Path temp = position.resolveSibling("replay.pos.tmp");
+        Files.writeString(temp, String.valueOf(offset), StandardCharsets.UTF_8);
+        Files.move(temp, position, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private static List<Record> read(DataInputStream input, int batchSize) throws IOException {
+        final List<Record> batch = new ArrayList<>(batchSize);
+        try {
+            while (batch.size() < batchSize) {
+                final String collection = input.readUTF();
+                final byte[] document = new byte[input.readInt()];
+                input.readFully(document);
+                batch.add(new Record(collection, document));
+            }
+        } catch (EOFException e) {
+            // end of file, last record is skipped if it was not fully written
+        }
+        return batch;
+    }
+
+    synchronized void close() throws IOException {
+        try {
+            if (output != null) {
+                output.close();
+                this.output = null;
+            }
+        } finally {
+            lock.release();
+            lockChannel.close();
+        }
+    }
+}
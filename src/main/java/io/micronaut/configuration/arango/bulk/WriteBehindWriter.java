@@ -0,0 +1,42 @@
+package io.micronaut.configuration.arango.bulk;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Queues documents and inserts them in background in batches, caller does not
+ * wait for document to be written.
+ * <p>
+ * When queue is full {@link ArangoWriteBehindConfiguration.OverflowPolicy} is
+ * applied. Documents that were not written are only logged, so writer suits
+ * telemetry-like data that tolerates loss.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+public interface WriteBehindWriter extends AutoCloseable {
+
+    /**
+     * @param collection to insert document into
+     * @param document   to insert
+     * @return completed future with true if document was queued or spilled and
+     *             false if it was dropped
+     */
+    CompletableFuture<Boolean> write(String collection, Object document);
+
+    /**
+     * @return documents waiting in queue
+     */
+    int getQueued();
+
+    /**
+     * @return documents dropped since start, including documents rejected by
+     *             database (e.g. unique constraint violated)
+     */
+    long getDropped();
+
+    /**
+     * Writes queued documents and waits for them to be written
+     */
+    @Override
+    void close();
+}
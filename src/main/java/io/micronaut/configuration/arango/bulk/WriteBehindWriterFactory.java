@@ -0,0 +1,41 @@
+package io.micronaut.configuration.arango.bulk;
+
+import io.micronaut.configuration.arango.ArangoAsyncClient;
+import io.micronaut.configuration.arango.ArangoSettings;
+import io.micronaut.context.annotation.Bean;
+import io.micronaut.context.annotation.Factory;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.annotation.Value;
+import jakarta.inject.Singleton;
+import java.nio.file.Path;
+
+/**
+ * Default factory for creating {@link WriteBehindWriter}.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+@Requires(property = ArangoSettings.PREFIX + ".write-behind.enabled", value = "true", defaultValue = "false")
+@Requires(beans = { ArangoAsyncClient.class, ArangoWriteBehindConfiguration.class })
+@Factory
+public class WriteBehindWriterFactory {
+
+    /**
+     * @param client          to write documents with
+     * @param configuration   of writer
+     * @param applicationName used as default spill directory name, so
+     *                            applications on same host do not share spill
+     *                            file
+     * @return write-behind writer
+     */
+    @Bean(preDestroy = "close")
+    @Singleton
+    WriteBehindWriter getWriteBehindWriter(ArangoAsyncClient client,
+                                           ArangoWriteBehindConfiguration configuration,
+                                           @Value("${micronaut.application.name:default}") String applicationName) {
+        final Path spillDirectory = (configuration.getSpillDirectory() == null)
+                ? Path.of(System.getProperty("java.io.tmpdir"), "arangodb-write-behind", applicationName)
+                : configuration.getSpillDirectory();
+        return new WriteBehindWriterImpl(client, configuration, spillDirectory);
+    }
+}
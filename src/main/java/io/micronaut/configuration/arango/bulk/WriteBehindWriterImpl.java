@@ -0,0 +1,308 @@
+package io.micronaut.configuration.arango.bulk;
+
+import com.arangodb.ArangoDBException;
+import com.arangodb.entity.ErrorEntity;
+import com.arangodb.model.DocumentCreateOptions;
+import com.arangodb.util.RawBytes;
+import io.micronaut.configuration.arango.ArangoAsyncClient;
+import io.micronaut.configuration.arango.intercept.ArangoInterceptors;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link WriteBehindWriter} with bounded queue drained by scheduled flush.
+ * <p>
+ * When database is slow or unavailable failed batch is kept and retried on next
+ * flush (or spilled with {@link ArangoWriteBehindConfiguration.OverflowPolicy#SPILL})
+ * while queue keeps accepting documents, so short outages are absorbed by
+ * queue capacity.
+ * <p>
+ * Flushes run on own single thread, so waiting for inserts does not occupy
+ * shared scheduler threads while database is slow. Each flush drains up to
+ * {@link ArangoWriteBehindConfiguration#getMaxInFlightBatches()} batches and
+ * sends them concurrently, only batches that failed are retried.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+final class WriteBehindWriterImpl implements WriteBehindWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(WriteBehindWriterImpl.class);
+
+    private static final CompletableFuture<Boolean> ACCEPTED = CompletableFuture.completedFuture(true);
+    private static final CompletableFuture<Boolean> DROPPED = CompletableFuture.completedFuture(false);
+
+    private static final class Entry {
+
+        private final String collection;
+        private final Object document;
+
+        private Entry(String collection, Object document) {
+            this.collection = collection;
+            this.document = document;
+        }
+    }
+
+    private final ArangoAsyncClient client;
+    private final ArangoWriteBehindConfiguration configuration;
+    private final BlockingQueue<Entry> queue;
+    private final WriteBehindSpill spill;
+    private final LongAdder dropped = new LongAdder();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final ScheduledExecutorService flusher;
+
+    /**
+     * Batch that failed on last flush and is retried first, guarded by flushLock
+     */
+    private List<Entry> failed = List.of();
+
+    WriteBehindWriterImpl(ArangoAsyncClient client, ArangoWriteBehindConfiguration configuration, Path spillDirectory) {
+        this.client = client;
+        this.configuration = configuration;
+        this.queue = new ArrayBlockingQueue<>(configuration.getCapacity());
+        try {
+            this.spill = (configuration.getOverflowPolicy() == ArangoWriteBehindConfiguration.OverflowPolicy.SPILL)
+                    ? new WriteBehindSpill(spillDirectory)
+                    : null;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Write-behind spill directory '" + spillDirectory + "' can not be opened", e);
+        }
+
+        this.flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+            final Thread thread = new Thread(r, "arangodb-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+        final long intervalNanos = configuration.getFlushInterval().toNanos();
+        flusher.scheduleWithFixedDelay(this::flush, intervalNanos, intervalNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> write(String collection, Object document) {
+        final Entry entry = new Entry(collection, document);
+        switch (configuration.getOverflowPolicy()) {
+            case BLOCK:
+                try {
+                    queue.put(entry);
+                    return ACCEPTED;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    dropped.increment();
+                    return DROPPED;
+                }
+            case SPILL:
+                return (queue.offer(entry) || spill(List.of(entry)))
+                        ? ACCEPTED
+                        : DROPPED;
+            default:
+                if (queue.offer(entry)) {
+                    return ACCEPTED;
+                }
+
+                dropped.increment();
+                return DROPPED;
+        }
+    }
+
+    @Override
+    public int getQueued() {
+        return queue.size();
+    }
+
+    @Override
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    private void flush() {
+        // scheduled flush is skipped while previous one or close is still flushing
+        if (!flushLock.tryLock()) {
+            return;
+        }
+
+        try {
+            if (!failed.isEmpty()) {
+                this.failed = insert(failed, e -> e.collection, e -> e.document);
+                if (!failed.isEmpty()) {
+                    return;
+                }
+            }
+
+            final int drainSize = (int) Math.min((long) configuration.getBatchSize() * configuration.getMaxInFlightBatches(),
+                    configuration.getCapacity());
+            final List<Entry> entries = new ArrayList<>(drainSize);
+            while (queue.drainTo(entries, drainSize) > 0) {
+                final List<Entry> entriesFailed = insert(entries, e -> e.collection, e -> e.document);
+                if (!entriesFailed.isEmpty()) {
+                    if (spill == null) {
+                        this.failed = entriesFailed;
+                    } else {
+                        spill(entriesFailed);
+                    }
+                    return;
+                }
+                entries.clear();
+            }
+
+            if (spill != null && spill.hasRecords()) {
+                final long replayed = spill.replay(configuration.getBatchSize(), records -> {
+                    final List<WriteBehindSpill.Record> recordsFailed = insert(records,
+                            WriteBehindSpill.Record::getCollection, r -> RawBytes.of(r.getDocument()));
+                    if (recordsFailed.size() == records.size()) {
+                        throw new ArangoDBException("Write-behind spilled documents replay failed");
+                    }
+                    return recordsFailed;
+                });
+                logger.debug("ArangoDB write-behind replayed {} spilled documents", replayed);
+            }
+        } catch (Exception e) {
+            logger.warn("ArangoDB write-behind flush failed", e);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Sends items split into batches per collection, with at most max in-flight
+     * batches sent concurrently
+     *
+     * @return items of batches which insert request failed
+     */
+    private <T> List<T> insert(List<T> items, Function<T, String> collection, Function<T, Object> document) {
+        final Map<String, List<T>> byCollection = new LinkedHashMap<>();
+        for (T item : items) {
+            byCollection.computeIfAbsent(collection.apply(item), k -> new ArrayList<>()).add(item);
+        }
+
+        final int batchSize = configuration.getBatchSize();
+        final int maxInFlight = configuration.getMaxInFlightBatches();
+        final List<CompletableFuture<List<T>>> requests = new ArrayList<>();
+        for (Map.Entry<String, List<T>> entry : byCollection.entrySet()) {
+            final List<T> collectionItems = entry.getValue();
+            for (int from = 0; from < collectionItems.size(); from += batchSize) {
+                if (requests.size() >= maxInFlight) {
+                    requests.get(requests.size() - maxInFlight).join();
+                }
+                final List<T> batch = collectionItems.subList(from, Math.min(from + batchSize, collectionItems.size()));
+                requests.add(insert(entry.getKey(), batch, document));
+            }
+        }
+
+        List<T> failedItems = List.of();
+        for (CompletableFuture<List<T>> request : requests) {
+            final List<T> requestFailed = request.join();
+            if (!requestFailed.isEmpty()) {
+                if (failedItems.isEmpty()) {
+                    failedItems = new ArrayList<>();
+                }
+                failedItems.addAll(requestFailed);
+            }
+        }
+        return failedItems;
+    }
+
+    /**
+     * @return future completed with batch items if insert request failed or
+     *             with empty list otherwise, documents rejected by database are
+     *             counted as dropped
+     */
+    private <T> CompletableFuture<List<T>> insert(String collection, List<T> batch, Function<T, Object> document) {
+        final List<Object> documents = new ArrayList<>(batch.size());
+        for (T item : batch) {
+            documents.add(document.apply(item));
+        }
+
+        try {
+            return client.db().collection(collection)
+                    .insertDocuments(documents, new DocumentCreateOptions())
+                    .handle((result, e) -> {
+                        if (e != null) {
+                            logger.warn("ArangoDB write-behind failed to insert batch of {} documents into collection '{}': {}",
+                                    documents.size(), collection, ArangoInterceptors.unwrap(e).getMessage());
+                            return batch;
+                        }
+
+                        final Collection<ErrorEntity> errors = result.getErrors();
+                        if (!errors.isEmpty()) {
+                            logger.warn("ArangoDB write-behind rejected {} documents of collection '{}', first error: {}",
+                                    errors.size(), collection, errors.iterator().next().getErrorMessage());
+                            dropped.add(errors.size());
+                        }
+                        return List.of();
+                    });
+        } catch (ArangoDBException e) {
+            logger.warn("ArangoDB write-behind failed to insert batch of {} documents into collection '{}': {}",
+                    documents.size(), collection, e.getMessage());
+            return CompletableFuture.completedFuture(batch);
+        }
+    }
+
+    private boolean spill(List<Entry> entries) {
+        try {
+            for (Entry entry : entries) {
+                spill.append(entry.collection, client.accessor().getSerde().serializeUserData(entry.document));
+            }
+            return true;
+        } catch (IOException | RuntimeException e) {
+            logger.warn("ArangoDB write-behind failed to spill {} documents, they are dropped", entries.size(), e);
+            dropped.add(entries.size());
+            return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        flusher.shutdown();
+        final long deadline = System.nanoTime() + configuration.getCloseTimeout().toNanos();
+        flushLock.lock();
+        try {
+            while (System.nanoTime() < deadline) {
+                final int before = queue.size() + failed.size();
+                flush();
+                final int after = queue.size() + failed.size();
+                if (after == 0) {
+                    break;
+                }
+                if (after >= before) {
+                    // nothing was written, database is not available
+                    Thread.sleep(Math.min(configuration.getFlushInterval().toMillis(), 1000));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            flushLock.unlock();
+        }
+
+        final int lost = queue.size() + failed.size();
+        if (lost > 0) {
+            logger.warn("ArangoDB write-behind closed with {} documents not written", lost);
+        }
+
+        if (spill != null) {
+            try {
+                spill.close();
+            } catch (IOException e) {
+                logger.warn("ArangoDB write-behind failed to close spill file", e);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "[queued=" + queue.size() + ", dropped=" + dropped.sum() + ", configuration=" + configuration + ']';
+    }
+}
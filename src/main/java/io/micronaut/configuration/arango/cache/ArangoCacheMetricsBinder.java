@@ -0,0 +1,40 @@
+package io.micronaut.configuration.arango.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.micronaut.context.BeanProvider;
+import io.micronaut.context.annotation.Requires;
+import jakarta.inject.Singleton;
+
+/**
+ * Binds ArangoDB document and query cache hit, miss, eviction and size metrics
+ * to Micrometer.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+@Requires(classes = { MeterRegistry.class, Caffeine.class })
+@Singleton
+public class ArangoCacheMetricsBinder implements MeterBinder {
+
+    public static final String DOCUMENTS_CACHE_PREFIX = "arangodb.documents.";
+    public static final String QUERIES_CACHE = "arangodb.queries";
+
+    private final BeanProvider<ArangoDocumentCacheInterceptor> documentCache;
+    private final BeanProvider<ArangoQueryCache> queryCache;
+
+    public ArangoCacheMetricsBinder(BeanProvider<ArangoDocumentCacheInterceptor> documentCache,
+                                    BeanProvider<ArangoQueryCache> queryCache) {
+        this.documentCache = documentCache;
+        this.queryCache = queryCache;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        documentCache.ifPresent(cache -> cache.getCaches().forEach((collection, c) -> CaffeineCacheMetrics.monitor(registry,
+                c, DOCUMENTS_CACHE_PREFIX + collection)));
+        queryCache.ifPresent(cache -> CaffeineCacheMetrics.monitor(registry, cache.getCache(), QUERIES_CACHE));
+    }
+}
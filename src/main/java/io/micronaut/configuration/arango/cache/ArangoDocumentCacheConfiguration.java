@@ -0,0 +1,83 @@
+package io.micronaut.configuration.arango.cache;
+
+import io.micronaut.configuration.arango.ArangoSettings;
+import io.micronaut.context.annotation.EachProperty;
+import io.micronaut.context.annotation.Parameter;
+import io.micronaut.context.exceptions.ConfigurationException;
+import io.micronaut.core.annotation.Nullable;
+import java.time.Duration;
+
+/**
+ * Document cache configuration for collection with same name.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+@EachProperty(ArangoDocumentCacheConfiguration.PREFIX)
+public class ArangoDocumentCacheConfiguration {
+
+    public static final String PREFIX = ArangoSettings.PREFIX + ".cache.documents";
+
+    private final String collection;
+    private long maximumSize = 10_000;
+    private Duration expireAfterWrite;
+    private Duration expireAfterAccess;
+
+    public ArangoDocumentCacheConfiguration(@Parameter String collection) {
+        this.collection = collection;
+    }
+
+    /**
+     * @return collection which documents are cached
+     */
+    public String getCollection() {
+        return collection;
+    }
+
+    /**
+     * @return max documents cached, least valuable documents are evicted first
+     */
+    public long getMaximumSize() {
+        return maximumSize;
+    }
+
+    public void setMaximumSize(long maximumSize) {
+        if (maximumSize < 1)
+            throw new ConfigurationException("Document cache maximum size can not be less than 1");
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * @return time after which cached document expires since it was read from
+     *             database
+     */
+    public @Nullable Duration getExpireAfterWrite() {
+        return expireAfterWrite;
+    }
+
+    public void setExpireAfterWrite(@Nullable Duration expireAfterWrite) {
+        if (expireAfterWrite != null && (expireAfterWrite.isNegative() || expireAfterWrite.isZero()))
+            throw new ConfigurationException("Document cache expire after write must be greater than 0");
+        this.expireAfterWrite = expireAfterWrite;
+    }
+
+    /**
+     * @return time after which cached document expires since it was last read
+     *             from cache
+     */
+    public @Nullable Duration getExpireAfterAccess() {
+        return expireAfterAccess;
+    }
+
+    public void setExpireAfterAccess(@Nullable Duration expireAfterAccess) {
+        if (expireAfterAccess != null && (expireAfterAccess.isNegative() || expireAfterAccess.isZero()))
+            throw new ConfigurationException("Document cache expire after access must be greater than 0");
+        this.expireAfterAccess = expireAfterAccess;
+    }
+
+    @Override
+    public String toString() {
+        return "[collection=" + collection + ", maximumSize=" + maximumSize + ", expireAfterWrite=" + expireAfterWrite
+                + ", expireAfterAccess=" + expireAfterAccess + ']';
+    }
+}
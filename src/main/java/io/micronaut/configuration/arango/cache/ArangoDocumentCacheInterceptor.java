@@ -0,0 +1,253 @@
+package io.micronaut.configuration.arango.cache;
+
+import com.arangodb.ArangoCollection;
+import com.arangodb.ArangoCollectionAsync;
+import com.arangodb.ArangoSerdeAccessor;
+import com.arangodb.model.DocumentCreateOptions;
+import com.arangodb.util.RawBytes;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micronaut.configuration.arango.ArangoSettings;
+import io.micronaut.configuration.arango.intercept.ArangoInterceptor;
+import io.micronaut.configuration.arango.intercept.ArangoInterceptors;
+import io.micronaut.configuration.arango.intercept.ArangoInvocation;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.NonNull;
+import jakarta.inject.Singleton;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Read-through cache for {@link ArangoCollection#getDocument(String, Class)}
+ * (and same method of {@link ArangoCollectionAsync}) of collections configured
+ * with {@link ArangoDocumentCacheConfiguration}.
+ * <p>
+ * Documents are cached as serialized bytes, so each read gets its own instance
+ * and same document can be read as different types. Cached documents are
+ * invalidated on writes made through collection API of same accessor (async
+ * writes when their future is completed), writes
+ * made with AQL or by other clients are not tracked and should be covered by
+ * expiration or {@link #invalidateAll(String)}.
+ * <p>
+ * Documents are loaded outside of cache lock, so concurrent misses of same
+ * document may load it more than once. Document is not cached when collection
+ * was written while it was loaded.
+ * <p>
+ * Documents are cached per connection, as clusters are separate deployments.
+ * Read hosts accessor serves same data as default connection, so writes made
+ * through default connection also invalidate its documents.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+@Requires(classes = Caffeine.class)
+@Requires(property = ArangoDocumentCacheConfiguration.PREFIX)
+@Singleton
+public class ArangoDocumentCacheInterceptor implements ArangoInterceptor {
+
+    /**
+     * Runs before other interceptors, so cache hits are not reported as database
+     * requests
+     */
+    public static final int ORDER = 10;
+
+    public static final String DEFAULT_CONNECTION = "default";
+
+    /**
+     * Methods that change single document with key as first argument
+     */
+    private static final Set<String> KEY_WRITES = Set.of("replaceDocument", "updateDocument", "deleteDocument");
+
+    /**
+     * Methods that change unknown documents of collection
+     */
+    private static final Set<String> COLLECTION_WRITES = Set.of("replaceDocuments", "updateDocuments", "deleteDocuments",
+            "importDocuments", "truncate", "drop", "rename");
+
+    private static final Set<String> INSERTS = Set.of("insertDocument", "insertDocuments");
+
+    private final Map<String, Cache<String, byte[]>> caches;
+    /**
+     * Writes count by collection, documents loaded while collection was written
+     * are not cached
+     */
+    private final Map<String, AtomicLong> generations;
+
+    public ArangoDocumentCacheInterceptor(List<ArangoDocumentCacheConfiguration> configurations) {
+        final Map<String, Cache<String, byte[]>> collectionCaches = new HashMap<>(configurations.size());
+        final Map<String, AtomicLong> collectionGenerations = new HashMap<>(configurations.size());
+        for (ArangoDocumentCacheConfiguration configuration : configurations) {
+            final Caffeine<Object, Object> builder = Caffeine.newBuilder()
+                    .maximumSize(configuration.getMaximumSize())
+                    .recordStats();
+            if (configuration.getExpireAfterWrite() != null) {
+                builder.expireAfterWrite(configuration.getExpireAfterWrite());
+            }
+            if (configuration.getExpireAfterAccess() != null) {
+                builder.expireAfterAccess(configuration.getExpireAfterAccess());
+            }
+
+            collectionCaches.put(configuration.getCollection(), builder.build());
+            collectionGenerations.put(configuration.getCollection(), new AtomicLong());
+        }
+
+        this.caches = Map.copyOf(collectionCaches);
+        this.generations = Map.copyOf(collectionGenerations);
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    /**
+     * @return document caches by collection name, keys are connection name
+     *             ({@link #DEFAULT_CONNECTION} for default one), database name
+     *             and document key separated with '/'
+     */
+    public @NonNull Map<String, Cache<String, byte[]>> getCaches() {
+        return caches;
+    }
+
+    /**
+     * Invalidates all cached documents of collection in all databases
+     *
+     * @param collection to invalidate
+     */
+    public void invalidateAll(@NonNull String collection) {
+        final Cache<String, byte[]> cache = caches.get(collection);
+        if (cache != null) {
+            generations.get(collection).incrementAndGet();
+            cache.invalidateAll();
+        }
+    }
+
+    @Override
+    public Object intercept(ArangoInvocation invocation) {
+        final String collection = invocation.getCollection();
+        final Cache<String, byte[]> cache = (collection == null)
+                ? null
+                : caches.get(collection);
+        final Object target = invocation.getTarget();
+        if (cache == null || !(target instanceof ArangoCollection || target instanceof ArangoCollectionAsync)) {
+            return invocation.proceed();
+        }
+
+        final String method = invocation.getMethod().getName();
+        final Object[] arguments = invocation.getArguments();
+        final AtomicLong generation = generations.get(collection);
+        if ("getDocument".equals(method) && arguments.length == 2 && arguments[0] instanceof String) {
+            return (invocation.isAsync())
+                    ? readAsync(invocation, cache, generation, arguments)
+                    : read(invocation, cache, generation, arguments);
+        }
+
+        final boolean keyWrite = KEY_WRITES.contains(method) && arguments.length > 0 && arguments[0] instanceof String;
+        if (!keyWrite && !COLLECTION_WRITES.contains(method) && !(INSERTS.contains(method) && isOverwrite(arguments))) {
+            return invocation.proceed();
+        }
+
+        return ArangoInterceptors.proceed(invocation, (result, e) -> {
+            final String connection = getConnection(invocation);
+            // any write of collection, so loads in flight do not publish document read before it
+            generation.incrementAndGet();
+            if (keyWrite) {
+                cache.invalidate(getKey(connection, invocation.getDatabase(), (String) arguments[0]));
+                if (DEFAULT_CONNECTION.equals(connection)) {
+                    cache.invalidate(getKey(ArangoSettings.READ, invocation.getDatabase(), (String) arguments[0]));
+                }
+            } else {
+                final String prefix = getKey(connection, invocation.getDatabase(), "");
+                final String readPrefix = DEFAULT_CONNECTION.equals(connection)
+                        ? getKey(ArangoSettings.READ, invocation.getDatabase(), "")
+                        : prefix;
+                cache.asMap().keySet().removeIf(k -> k.startsWith(prefix) || k.startsWith(readPrefix));
+            }
+        });
+    }
+
+    private static Object read(ArangoInvocation invocation,
+                               Cache<String, byte[]> cache,
+                               AtomicLong generation,
+                               Object[] arguments) {
+        final Class<?> type = (Class<?>) arguments[1];
+        final String key = getKey(getConnection(invocation), invocation.getDatabase(), (String) arguments[0]);
+        byte[] document = cache.getIfPresent(key);
+        if (document == null) {
+            // database call is made outside of cache compute, so it does not hold cache locks
+            final long started = generation.get();
+            arguments[1] = RawBytes.class;
+            final RawBytes raw = (RawBytes) invocation.proceed();
+            document = publish(cache, generation, started, key, raw);
+        }
+
+        return deserialize(invocation, document, type);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static CompletableFuture<Object> readAsync(ArangoInvocation invocation,
+                                                       Cache<String, byte[]> cache,
+                                                       AtomicLong generation,
+                                                       Object[] arguments) {
+        final Class<?> type = (Class<?>) arguments[1];
+        final String key = getKey(getConnection(invocation), invocation.getDatabase(), (String) arguments[0]);
+        final byte[] document = cache.getIfPresent(key);
+        if (document != null) {
+            return CompletableFuture.completedFuture(deserialize(invocation, document, type));
+        }
+
+        final long started = generation.get();
+        arguments[1] = RawBytes.class;
+        return ((CompletableFuture<RawBytes>) invocation.proceed())
+                .thenApply(raw -> deserialize(invocation, publish(cache, generation, started, key, raw), type));
+    }
+
+    private static byte[] publish(Cache<String, byte[]> cache, AtomicLong generation, long started, String key, RawBytes raw) {
+        final byte[] document = (raw == null)
+                ? null
+                : raw.get();
+        if (document != null) {
+            cache.put(key, document);
+            // checked after put, so invalidation either sees document or is seen here
+            if (generation.get() != started) {
+                cache.asMap().remove(key, document);
+            }
+        }
+        return document;
+    }
+
+    private static Object deserialize(ArangoInvocation invocation, byte[] document, Class<?> type) {
+        return (document == null)
+                ? null
+                : ((ArangoSerdeAccessor) invocation.getTarget()).getSerde().deserializeUserData(document, type);
+    }
+
+    private static boolean isOverwrite(Object[] arguments) {
+        for (Object argument : arguments) {
+            if (argument instanceof DocumentCreateOptions) {
+                final DocumentCreateOptions options = (DocumentCreateOptions) argument;
+                return options.getOverwriteMode() != null || Boolean.TRUE.equals(options.getOverwrite());
+            }
+        }
+        return false;
+    }
+
+    private static String getConnection(ArangoInvocation invocation) {
+        return (invocation.getCluster() == null)
+                ? DEFAULT_CONNECTION
+                : invocation.getCluster();
+    }
+
+    private static String getKey(String connection, String database, String key) {
+        return connection + "/" + database + "/" + key;
+    }
+
+    @Override
+    public String toString() {
+        return "[collections=" + caches.keySet() + ']';
+    }
+}
@@ -0,0 +1,312 @@
+package io.micronaut.configuration.arango.cache;
+
+import com.arangodb.ArangoDatabase;
+import com.arangodb.entity.AqlParseEntity;
+import com.arangodb.model.AqlQueryOptions;
+import com.arangodb.serde.InternalSerde;
+import com.arangodb.util.RawBytes;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micronaut.configuration.arango.ArangoClient;
+import io.micronaut.configuration.arango.intercept.AqlStatements;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.NonNull;
+import jakarta.inject.Singleton;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Client side cache of AQL query results on top of {@link ArangoClient}, keyed
+ * by normalized query, bind variables and query options.
+ * <p>
+ * Queries are executed outside of cache lock, so concurrent misses of same
+ * query may execute it more than once. Result is not cached when collection it
+ * reads was invalidated while query was executed. Queries that modify data or run in
+ * stream transaction are executed but never cached. Cached results are
+ * not invalidated by writes, use expiration or {@link #invalidate(String)} for
+ * collections that changed. Server side query cache is configured as usual
+ * with {@link AqlQueryOptions#cache(Boolean)} and is used on cache miss.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+@Requires(classes = Caffeine.class)
+@Requires(property = "arangodb.cache.queries.enabled", value = "true", defaultValue = "false")
+@Requires(beans = { ArangoClient.class, ArangoQueryCacheConfiguration.class })
+@Singleton
+public class ArangoQueryCache {
+
+    private static final Set<String> WRITE_NODES = Set.of("insert", "update", "replace", "remove", "upsert");
+
+    private static final class Key {
+
+        private final String database;
+        private final String query;
+        private final byte[] bindVars;
+        private final List<Object> options;
+        private final int hash;
+
+        /**
+         * @param options values of query options that change query result
+         */
+        private Key(String database, String query, byte[] bindVars, List<Object> options) {
+            this.database = database;
+            this.query = query;
+            this.bindVars = bindVars;
+            this.options = options;
+            this.hash = 31 * (31 * (31 * database.hashCode() + query.hashCode()) + Arrays.hashCode(bindVars))
+                    + options.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o)
+                return true;
+            if (!(o instanceof Key))
+                return false;
+            final Key key = (Key) o;
+            return hash == key.hash && database.equals(key.database) && query.equals(key.query)
+                    && Arrays.equals(bindVars, key.bindVars) && options.equals(key.options);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private static final class Result {
+
+        private final List<byte[]> documents;
+        private final Set<String> collections;
+        private final long bytes;
+
+        private Result(List<byte[]> documents, Set<String> collections) {
+            this.documents = documents;
+            this.collections = collections;
+            long size = 0;
+            for (byte[] document : documents) {
+                size += document.length;
+            }
+            this.bytes = size;
+        }
+    }
+
+    private static final class Parsed {
+
+        private final Set<String> collections;
+        private final boolean write;
+
+        private Parsed(Set<String> collections, boolean write) {
+            this.collections = collections;
+            this.write = write;
+        }
+    }
+
+    private final ArangoClient client;
+    private final Cache<Key, Result> results;
+    /**
+     * Collections and write flag by normalized query, so writes are not parsed
+     * on every execution
+     */
+    private final Cache<String, Parsed> parsed;
+    /**
+     * Invalidations count by collection and of all results, results of queries
+     * which collections were invalidated while executed are not cached
+     */
+    private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    public ArangoQueryCache(ArangoClient client, ArangoQueryCacheConfiguration configuration) {
+        this.client = client;
+        // each entry weighs at least its share of max bytes, so both max bytes and max
+        // entries are respected with single weight bound
+        final long minWeight = Math.max(1, configuration.getMaximumBytes() / configuration.getMaximumEntries());
+        this.results = Caffeine.newBuilder()
+                .maximumWeight(configuration.getMaximumBytes())
+                .<Key, Result>weigher((k, v) -> (int) Math.min(Integer.MAX_VALUE,
+                        Math.max(minWeight, v.bytes + k.query.length() + k.bindVars.length)))
+                .expireAfterWrite(configuration.getExpireAfterWrite())
+                .recordStats()
+                .build();
+        this.parsed = Caffeine.newBuilder()
+                .maximumSize(configuration.getMaximumEntries())
+                .build();
+    }
+
+    /**
+     * @param query    AQL
+     * @param type     of result documents
+     * @param bindVars of query
+     * @param <T>      type
+     * @return query result from cache or executed with database
+     *             {@link ArangoClient#db()}
+     */
+    public <T> List<T> query(@NonNull String query, @NonNull Class<T> type, @NonNull Map<String, Object> bindVars) {
+        return query(query, type, bindVars, new AqlQueryOptions());
+    }
+
+    /**
+     * @param query    AQL
+     * @param type     of result documents
+     * @param bindVars of query
+     * @param options  used when query is executed
+     * @param <T>      type
+     * @return query result from cache or executed with database
+     *             {@link ArangoClient#db()}
+     */
+    public <T> List<T> query(@NonNull String query,
+                             @NonNull Class<T> type,
+                             @NonNull Map<String, Object> bindVars,
+                             @NonNull AqlQueryOptions options) {
+        final ArangoDatabase database = client.db();
+        final InternalSerde serde = client.accessor().getSerde();
+        final String normalized = AqlStatements.normalize(query);
+        // database calls are made outside of cache compute, so they do not hold cache locks
+        Parsed parsedQuery = parsed.getIfPresent(normalized);
+        if (parsedQuery == null) {
+            parsedQuery = parse(database, normalized);
+            parsed.put(normalized, parsedQuery);
+        }
+
+        final List<byte[]> documents;
+        if (parsedQuery.write || options.getStreamTransactionId() != null) {
+            documents = execute(database, normalized, bindVars, options);
+        } else {
+            final Key key = new Key(database.name(), normalized, serde.serializeUserData(new TreeMap<>(bindVars)),
+                    getOptions(options));
+            final Result cached = results.getIfPresent(key);
+            if (cached != null) {
+                documents = cached.documents;
+            } else {
+                final Set<String> collections = getCollections(parsedQuery, bindVars);
+                final long started = getGeneration(collections);
+                documents = execute(database, normalized, bindVars, options);
+                final Result result = new Result(documents, collections);
+                results.put(key, result);
+                // checked after put, so invalidation either sees result or is seen here
+                if (getGeneration(collections) != started) {
+                    results.asMap().remove(key, result);
+                }
+            }
+        }
+
+        final List<T> result = new ArrayList<>(documents.size());
+        for (byte[] document : documents) {
+            result.add(serde.deserializeUserData(document, type));
+        }
+        return result;
+    }
+
+    /**
+     * Invalidates cached results of queries that read collection
+     *
+     * @param collection which documents changed
+     */
+    public void invalidate(@NonNull String collection) {
+        generations.computeIfAbsent(collection, c -> new AtomicLong()).incrementAndGet();
+        results.asMap().values().removeIf(r -> r.collections.contains(collection));
+    }
+
+    /**
+     * Invalidates all cached results
+     */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        results.invalidateAll();
+    }
+
+    public @NonNull CacheStats stats() {
+        return results.stats();
+    }
+
+    /**
+     * @return cached query results
+     */
+    public long size() {
+        return results.estimatedSize();
+    }
+
+    Cache<?, ?> getCache() {
+        return results;
+    }
+
+    /**
+     * @return sum of invalidations of all results and of collections, changes
+     *             when any of them is invalidated as counters only grow
+     */
+    private long getGeneration(Set<String> collections) {
+        long sum = generation.get();
+        for (String collection : collections) {
+            sum += generations.computeIfAbsent(collection, c -> new AtomicLong()).get();
+        }
+        return sum;
+    }
+
+    /**
+     * Options are mutable and driver may write into them, so only values that
+     * change returned documents are copied to key
+     */
+    private static List<Object> getOptions(AqlQueryOptions options) {
+        final Collection<String> shardIds = options.getShardIds();
+        return Arrays.asList(
+                Boolean.TRUE.equals(options.getAllowDirtyRead()),
+                options.getSkipInaccessibleCollections(),
+                options.getFailOnWarning(),
+                options.getForceOneShardAttributeValue(),
+                (shardIds == null) ? null : List.copyOf(new TreeSet<>(shardIds)));
+    }
+
+    List<byte[]> execute(ArangoDatabase database,
+                         String query,
+                         Map<String, Object> bindVars,
+                         AqlQueryOptions options) {
+        final List<RawBytes> documents = database.query(query, RawBytes.class, bindVars, options).asListRemaining();
+        final List<byte[]> result = new ArrayList<>(documents.size());
+        for (RawBytes document : documents) {
+            result.add(document.get());
+        }
+        return result;
+    }
+
+    /**
+     * @return collections read by query, including collections passed as bind
+     *             variables that parser can not know
+     */
+    private static Set<String> getCollections(Parsed parsedQuery, Map<String, Object> bindVars) {
+        Set<String> collections = parsedQuery.collections;
+        for (Map.Entry<String, Object> bindVar : bindVars.entrySet()) {
+            if (bindVar.getKey().startsWith("@") && bindVar.getValue() != null) {
+                if (collections == parsedQuery.collections) {
+                    collections = new HashSet<>(parsedQuery.collections);
+                }
+                collections.add(String.valueOf(bindVar.getValue()));
+            }
+        }
+        return collections;
+    }
+
+    private static Parsed parse(ArangoDatabase database, String query) {
+        final AqlParseEntity entity = database.parseQuery(query);
+        final Set<String> collections = (entity.getCollections() == null)
+                ? Set.of()
+                : Set.copyOf(entity.getCollections());
+        return new Parsed(collections, entity.getAst() != null && isWrite(entity.getAst()));
+    }
+
+    private static boolean isWrite(Collection<AqlParseEntity.AstNode> nodes) {
+        for (AqlParseEntity.AstNode node : nodes) {
+            if (WRITE_NODES.contains(node.getType()) || (node.getSubNodes() != null && isWrite(node.getSubNodes()))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return "[size=" + results.estimatedSize() + ']';
+    }
+}
@@ -0,0 +1,74 @@
+package io.micronaut.configuration.arango.cache;
+
+import io.micronaut.configuration.arango.ArangoSettings;
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.exceptions.ConfigurationException;
+import java.time.Duration;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+@Requires(property = ArangoSettings.PREFIX)
+@ConfigurationProperties(ArangoSettings.PREFIX + ".cache.queries")
+public class ArangoQueryCacheConfiguration {
+
+    private boolean enabled = false;
+    private long maximumEntries = 1000;
+    private long maximumBytes = 64 * 1024 * 1024;
+    private Duration expireAfterWrite = Duration.ofMinutes(1);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * @return max query results cached
+     */
+    public long getMaximumEntries() {
+        return maximumEntries;
+    }
+
+    public void setMaximumEntries(long maximumEntries) {
+        if (maximumEntries < 1)
+            throw new ConfigurationException("Query cache maximum entries can not be less than 1");
+        this.maximumEntries = maximumEntries;
+    }
+
+    /**
+     * @return max serialized size of all cached query results
+     */
+    public long getMaximumBytes() {
+        return maximumBytes;
+    }
+
+    public void setMaximumBytes(long maximumBytes) {
+        if (maximumBytes < 1)
+            throw new ConfigurationException("Query cache maximum bytes can not be less than 1");
+        this.maximumBytes = maximumBytes;
+    }
+
+    /**
+     * @return time after which cached query result expires
+     */
+    public Duration getExpireAfterWrite() {
+        return expireAfterWrite;
+    }
+
+    public void setExpireAfterWrite(Duration expireAfterWrite) {
+        if (expireAfterWrite.isNegative() || expireAfterWrite.isZero())
+            throw new ConfigurationException("Query cache expire after write must be greater than 0");
+        this.expireAfterWrite = expireAfterWrite;
+    }
+
+    @Override
+    public String toString() {
+        return "[enabled=" + enabled + ", maximumEntries=" + maximumEntries + ", maximumBytes=" + maximumBytes
+                + ", expireAfterWrite=" + expireAfterWrite + ']';
+    }
+}
@@ -12,6 +12,9 @@ public abstract class AbstractHealthConfiguration {
     private boolean enabled = true;
     private Duration timeout = Duration.ofSeconds(5);
     private int retry = 2;
+    private int poolSize = 2;
+    private int queueSize = 50;
+    private Duration cacheTtl = Duration.ZERO;
 
     public boolean isEnabled() {
         return enabled;
@@ -41,8 +44,50 @@ public void setRetry(int retry) {
         this.retry = retry;
     }
 
+    /**
+     * @return max amount of threads that execute health checks
+     */
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    public void setPoolSize(int poolSize) {
+        if (poolSize < 1)
+            throw new ConfigurationException("Pool size for health can not be less than 1");
+        this.poolSize = poolSize;
+    }
+
+    /**
+     * @return max amount of health checks waiting for execution, health check is
+     *             reported DOWN when queue is full
+     */
+    public int getQueueSize() {
+        return queueSize;
+    }
+
+    public void setQueueSize(int queueSize) {
+        if (queueSize < 1)
+            throw new ConfigurationException("Queue size for health can not be less than 1");
+        this.queueSize = queueSize;
+    }
+
+    /**
+     * @return duration for which health result is cached, zero means result is
+     *             not cached
+     */
+    public Duration getCacheTtl() {
+        return cacheTtl;
+    }
+
+    public void setCacheTtl(Duration cacheTtl) {
+        if (cacheTtl.isNegative())
+            throw new ConfigurationException("Cache TTL for health can not be less than 0");
+        this.cacheTtl = cacheTtl;
+    }
+
     @Override
     public String toString() {
-        return "[enabled=" + enabled + ", timeout=" + timeout + ", retry=" + retry + ']';
+        return "[enabled=" + enabled + ", timeout=" + timeout + ", retry=" + retry + ", poolSize=" + poolSize
+                + ", queueSize=" + queueSize + ", cacheTtl=" + cacheTtl + ']';
     }
 }
@@ -0,0 +1,39 @@
+package io.micronaut.configuration.arango.health;
+
+import com.arangodb.ArangoDB;
+import io.micronaut.configuration.arango.ArangoClusterConfiguration;
+import io.micronaut.configuration.arango.ArangoSettings;
+import io.micronaut.context.annotation.Bean;
+import io.micronaut.context.annotation.EachBean;
+import io.micronaut.context.annotation.Factory;
+import io.micronaut.context.annotation.Parameter;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.annotation.Secondary;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.management.health.indicator.HealthIndicator;
+import jakarta.inject.Named;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Creates {@link ArangoHealthIndicator} named {@code arangodb-<name>} for each
+ * {@link ArangoClusterConfiguration} cluster connection.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+@Requires(property = "endpoints.health.arangodb.enabled", value = "true", defaultValue = "true")
+@Requires(classes = HealthIndicator.class)
+@Factory
+public class ArangoClusterConnectionHealthFactory {
+
+    @Bean(preDestroy = "close")
+    @Secondary
+    @EachBean(ArangoClusterConfiguration.class)
+    ArangoHealthIndicator getClusterHealthIndicator(ArangoClusterConfiguration configuration,
+                                                    @Parameter ArangoDB accessor,
+                                                    ArangoHealthConfiguration healthConfiguration,
+                                                    @Nullable @Named(ArangoSettings.EXECUTOR) ExecutorService executor) {
+        return new ArangoHealthIndicator(ArangoSettings.PREFIX + "-" + configuration.getName(), accessor, configuration,
+                healthConfiguration, executor);
+    }
+}
@@ -1,8 +1,11 @@
 package io.micronaut.configuration.arango.health;
 
 import io.micronaut.configuration.arango.ArangoSettings;
+import io.micronaut.context.annotation.ConfigurationBuilder;
 import io.micronaut.context.annotation.ConfigurationProperties;
 import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.exceptions.ConfigurationException;
+import java.time.Duration;
 
 /**
  * @author Anton Kurako (GoodforGod)
@@ -12,4 +15,51 @@
 @ConfigurationProperties("endpoints.health.arangodb.cluster")
 public class ArangoClusterHealthConfiguration extends AbstractHealthConfiguration {
 
+    public static class MonitorConfig {
+
+        private boolean enabled = false;
+        private Duration interval = Duration.ofSeconds(10);
+
+        /**
+         * @return whether cluster health is polled in background instead of
+         *             probing on each health request
+         */
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * @return interval between cluster health polls
+         */
+        public Duration getInterval() {
+            return interval;
+        }
+
+        public void setInterval(Duration interval) {
+            if (interval.isNegative() || interval.isZero())
+                throw new ConfigurationException("Interval for health monitor must be greater than 0");
+            this.interval = interval;
+        }
+
+        @Override
+        public String toString() {
+            return "[enabled=" + enabled + ", interval=" + interval + ']';
+        }
+    }
+
+    @ConfigurationBuilder("monitor")
+    private final MonitorConfig monitor = new MonitorConfig();
+
+    public MonitorConfig getMonitor() {
+        return monitor;
+    }
+
+    @Override
+    public String toString() {
+        return super.toString() + ", monitor=" + monitor;
+    }
 }
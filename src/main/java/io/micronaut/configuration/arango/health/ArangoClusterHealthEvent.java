@@ -0,0 +1,70 @@
+package io.micronaut.configuration.arango.health;
+
+import io.micronaut.context.event.ApplicationEvent;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.health.HealthStatus;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Published by {@link ArangoClusterHealthMonitor} when cluster status or set
+ * of down nodes changes.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+public class ArangoClusterHealthEvent extends ApplicationEvent {
+
+    private final HealthStatus previousStatus;
+    private final HealthStatus status;
+    private final List<String> downNodes;
+    private final ClusterHealthResponse response;
+
+    public ArangoClusterHealthEvent(@NonNull ArangoClusterHealthMonitor source,
+                                    @Nullable HealthStatus previousStatus,
+                                    @NonNull HealthStatus status,
+                                    @NonNull List<String> downNodes,
+                                    @Nullable ClusterHealthResponse response) {
+        super(source);
+        this.previousStatus = previousStatus;
+        this.status = status;
+        this.downNodes = downNodes;
+        this.response = response;
+    }
+
+    @Override
+    public ArangoClusterHealthMonitor getSource() {
+        return (ArangoClusterHealthMonitor) super.getSource();
+    }
+
+    /**
+     * @return status before change, empty for first cluster health poll
+     */
+    public Optional<HealthStatus> getPreviousStatus() {
+        return Optional.ofNullable(previousStatus);
+    }
+
+    public HealthStatus getStatus() {
+        return status;
+    }
+
+    /**
+     * @return critical nodes that are down
+     */
+    public List<String> getDownNodes() {
+        return downNodes;
+    }
+
+    /**
+     * @return cluster health response, empty when cluster health was not received
+     */
+    public Optional<ClusterHealthResponse> getResponse() {
+        return Optional.ofNullable(response);
+    }
+
+    @Override
+    public String toString() {
+        return "[previousStatus=" + previousStatus + ", status=" + status + ", downNodes=" + downNodes + ']';
+    }
+}
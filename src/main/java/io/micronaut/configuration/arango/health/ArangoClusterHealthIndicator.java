@@ -4,31 +4,31 @@
 import static io.micronaut.health.HealthStatus.*;
 
 import com.arangodb.ArangoDB;
-import com.arangodb.Request;
 import com.arangodb.Response;
-import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import io.micronaut.configuration.arango.ArangoConfiguration;
+import io.micronaut.configuration.arango.ArangoSettings;
 import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.util.CollectionUtils;
 import io.micronaut.core.util.StringUtils;
 import io.micronaut.health.HealthStatus;
-import io.micronaut.http.HttpStatus;
 import io.micronaut.management.health.indicator.HealthIndicator;
 import io.micronaut.management.health.indicator.HealthResult;
+import jakarta.annotation.PreDestroy;
 import jakarta.inject.Inject;
+import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.concurrent.ExecutorService;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 import org.reactivestreams.Publisher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 /**
  * A {@link HealthIndicator} for ArangoDB cluster. Indicates health of the
@@ -51,29 +51,48 @@ public class ArangoClusterHealthIndicator implements HealthIndicator {
      * The name to expose details with.
      */
     private static final String NAME = "arangodb-cluster";
-    private final ArangoDB accessor;
+    private final ClusterHealthClient client;
     private final String database;
-    private final ObjectMapper mapper;
     private final ArangoClusterHealthConfiguration healthConfiguration;
+    private final Scheduler scheduler;
+    private final Mono<HealthResult> result;
 
     @Inject
     public ArangoClusterHealthIndicator(ArangoDB accessor,
                                         ArangoConfiguration configuration,
-                                        ArangoClusterHealthConfiguration healthConfiguration) {
-        this.accessor = accessor;
+                                        ArangoClusterHealthConfiguration healthConfiguration,
+                                        @Nullable @Named(ArangoSettings.EXECUTOR) ExecutorService executor,
+                                        @Nullable ArangoClusterHealthMonitor monitor) {
+        this.client = new ClusterHealthClient(accessor, configuration.getDatabase());
         this.database = configuration.getDatabase();
         this.healthConfiguration = healthConfiguration;
-        this.mapper = new ObjectMapper()
-                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        this.scheduler = HealthSchedulers.create(NAME, healthConfiguration, executor);
+
+        final Mono<HealthResult> probe = HealthSchedulers.cache(probe(), healthConfiguration);
+        this.result = (monitor == null)
+                ? probe
+                : Mono.defer(() -> {
+                    // answers from memory, probes only until monitor polled cluster for first time
+                    final ArangoClusterHealthMonitor.Snapshot snapshot = monitor.getSnapshot();
+                    return (snapshot == null)
+                            ? probe
+                            : Mono.just(buildHealthResult(snapshot));
+                });
+    }
+
+    @PreDestroy
+    public void close() {
+        scheduler.dispose();
     }
 
     @Override
     public Publisher<HealthResult> getResult() {
-        return Mono.fromCallable(() -> accessor.execute(Request.builder()
-                .db(database)
-                .method(Request.Method.GET)
-                .path("/_admin/cluster/health")
-                .build(), JsonNode.class))
+        return result;
+    }
+
+    private Mono<HealthResult> probe() {
+        return Mono.fromCallable(client::fetch)
+                .subscribeOn(scheduler)
                 .timeout(healthConfiguration.getTimeout())
                 .retry(healthConfiguration.getRetry())
                 .map(this::buildHealthResponse)
@@ -81,24 +100,29 @@ public Publisher<HealthResult> getResult() {
     }
 
     private HealthResult buildHealthResponse(Response<JsonNode> response) {
-        return convertToClusterHealth(response).map(health -> {
-            final Map<String, Object> details = buildDetails(health);
-            final List<String> downNodes = streamCriticalNodes(health)
-                    .filter(n -> DOWN.equals(n.getHealthStatus()))
-                    .map(h -> isEmpty(h.getShortName())
-                            ? h.getRoleWithNodeId()
-                            : h.getShortName())
-                    .collect(Collectors.toList());
-
-            if (!downNodes.isEmpty()) {
-                logger.debug("Health '{}' reported DOWN cause nodes were DOWN: {}", NAME, downNodes);
-                return buildReport(DOWN, details);
-            } else if (streamCriticalNodes(health).allMatch(n -> UP.equals(n.getHealthStatus()))) {
-                return buildReport(UP, details);
-            } else {
-                return buildReport(UNKNOWN, details);
-            }
-        }).orElseGet(() -> buildReport(UNKNOWN, response.getBody().toString()));
+        return buildHealthResult(response.getResponseCode(), response.getBody());
+    }
+
+    HealthResult buildHealthResult(int responseCode, JsonNode body) {
+        return client.convert(responseCode, body)
+                .map(this::buildHealthResult)
+                .orElseGet(() -> buildReport(UNKNOWN, String.valueOf(body)));
+    }
+
+    private HealthResult buildHealthResult(ArangoClusterHealthMonitor.Snapshot snapshot) {
+        final ClusterHealthResponse health = snapshot.getResponse();
+        return (health == null)
+                ? buildReport(snapshot.getStatus(), snapshot.getDetails())
+                : buildHealthResult(health);
+    }
+
+    private HealthResult buildHealthResult(ClusterHealthResponse health) {
+        final HealthStatus status = health.getHealthStatus();
+        if (DOWN.equals(status)) {
+            logger.debug("Health '{}' reported DOWN cause nodes were DOWN: {}", NAME, health.getDownNodes());
+        }
+
+        return buildReport(status, buildDetails(health));
     }
 
     private Map<String, Object> buildDetails(ClusterHealthResponse clusterHealthResponse) {
@@ -135,10 +159,6 @@ private List<String> getNodeNames(ClusterHealthResponse clusterHealthResponse, H
                 .collect(Collectors.toList());
     }
 
-    private Stream<ClusterHealthNode> streamCriticalNodes(ClusterHealthResponse clusterHealthResponse) {
-        return clusterHealthResponse.streamNodes().filter(node -> !node.isCanBeDeleted());
-    }
-
     private HealthResult buildReport(HealthStatus status, Object details) {
         if (DOWN.equals(status)) {
             logger.warn("Health '{}' reported {} with details: {}", NAME, status, details);
@@ -155,16 +175,4 @@ private HealthResult buildReport(HealthStatus status, Object details) {
     private static HealthResult.Builder getBuilder() {
         return HealthResult.builder(NAME);
     }
-
-    private Optional<ClusterHealthResponse> convertToClusterHealth(Response<JsonNode> response) {
-        if (HttpStatus.OK.getCode() != response.getResponseCode())
-            return Optional.empty();
-
-        try {
-            return Optional.ofNullable(mapper.convertValue(response.getBody(), ClusterHealthResponse.class));
-        } catch (Exception e) {
-            logger.error(e.getMessage());
-            return Optional.empty();
-        }
-    }
 }
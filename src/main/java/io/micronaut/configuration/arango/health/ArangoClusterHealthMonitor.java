@@ -0,0 +1,229 @@
+package io.micronaut.configuration.arango.health;
+
+import com.arangodb.ArangoDB;
+import com.arangodb.Response;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.micronaut.configuration.arango.ArangoConfiguration;
+import io.micronaut.configuration.arango.ArangoSettings;
+import io.micronaut.context.annotation.Context;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.event.ApplicationEventPublisher;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.health.HealthStatus;
+import io.micronaut.scheduling.TaskExecutors;
+import io.micronaut.scheduling.TaskScheduler;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Named;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Polls ArangoDB cluster health in background, keeps latest cluster health in
+ * memory and publishes {@link ArangoClusterHealthEvent} when cluster status or
+ * down nodes change.
+ * <p>
+ * Scheduler only triggers polls, blocking poll runs on module executor (see
+ * {@link ArangoSettings#EXECUTOR}) or on monitor own thread when module
+ * executor is not configured.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+@Requires(property = "endpoints.health.arangodb.cluster.monitor.enabled", value = "true", defaultValue = "false")
+@Requires(beans = ArangoDB.class)
+@Context
+public class ArangoClusterHealthMonitor {
+
+    /**
+     * Result of single cluster health poll
+     */
+    static final class Snapshot {
+
+        private final HealthStatus status;
+        private final List<String> downNodes;
+        private final ClusterHealthResponse response;
+        private final Object details;
+
+        private Snapshot(HealthStatus status, List<String> downNodes, ClusterHealthResponse response, Object details) {
+            this.status = status;
+            this.downNodes = downNodes;
+            this.response = response;
+            this.details = details;
+        }
+
+        HealthStatus getStatus() {
+            return status;
+        }
+
+        @Nullable
+        ClusterHealthResponse getResponse() {
+            return response;
+        }
+
+        /**
+         * @return failure or response body when cluster health was not received
+         */
+        Object getDetails() {
+            return details;
+        }
+    }
+
+    private static final Logger logger = LoggerFactory.getLogger(ArangoClusterHealthMonitor.class);
+
+    private final ClusterHealthClient client;
+    private final ArangoClusterHealthConfiguration.MonitorConfig monitorConfig;
+    private final TaskScheduler taskScheduler;
+    private final ExecutorService executor;
+    private final boolean ownExecutor;
+    private final ApplicationEventPublisher<ArangoClusterHealthEvent> eventPublisher;
+    private final AtomicBoolean polling = new AtomicBoolean();
+
+    private volatile Snapshot snapshot;
+    private ScheduledFuture<?> future;
+
+    public ArangoClusterHealthMonitor(ArangoDB accessor,
+                                      ArangoConfiguration configuration,
+                                      ArangoClusterHealthConfiguration healthConfiguration,
+                                      @Named(TaskExecutors.SCHEDULED) TaskScheduler taskScheduler,
+                                      @Nullable @Named(ArangoSettings.EXECUTOR) ExecutorService executor,
+                                      ApplicationEventPublisher<ArangoClusterHealthEvent> eventPublisher) {
+        this.client = new ClusterHealthClient(accessor, configuration.getDatabase());
+        this.monitorConfig = healthConfiguration.getMonitor();
+        this.taskScheduler = taskScheduler;
+        this.ownExecutor = executor == null;
+        this.executor = (executor == null)
+                ? Executors.newSingleThreadExecutor(r -> {
+                    final Thread thread = new Thread(r, "arangodb-cluster-health-monitor");
+                    thread.setDaemon(true);
+                    return thread;
+                })
+                : executor;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostConstruct
+    void start() {
+        logger.debug("Starting ArangoDB cluster health monitor with interval: {}", monitorConfig.getInterval());
+        this.future = taskScheduler.scheduleAtFixedRate(Duration.ZERO, monitorConfig.getInterval(), this::submit);
+    }
+
+    @PreDestroy
+    public void close() {
+        if (future != null) {
+            future.cancel(false);
+        }
+        if (ownExecutor) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Poll is skipped while previous one is still running, so slow cluster does
+     * not pile up polls
+     */
+    private void submit() {
+        if (!polling.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    refresh();
+                } finally {
+                    polling.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            polling.set(false);
+            logger.debug("ArangoDB cluster health monitor poll rejected by executor", e);
+        }
+    }
+
+    /**
+     * @return latest cluster status, UNKNOWN until cluster health is polled
+     */
+    public HealthStatus getStatus() {
+        final Snapshot current = snapshot;
+        return (current == null)
+                ? HealthStatus.UNKNOWN
+                : current.getStatus();
+    }
+
+    /**
+     * @return latest critical nodes that are down
+     */
+    public List<String> getDownNodes() {
+        final Snapshot current = snapshot;
+        return (current == null)
+                ? List.of()
+                : current.downNodes;
+    }
+
+    /**
+     * @return latest cluster health response
+     */
+    public Optional<ClusterHealthResponse> getResponse() {
+        final Snapshot current = snapshot;
+        return (current == null)
+                ? Optional.empty()
+                : Optional.ofNullable(current.getResponse());
+    }
+
+    /**
+     * @return latest poll result, null until cluster health is polled
+     */
+    @Nullable
+    Snapshot getSnapshot() {
+        return snapshot;
+    }
+
+    void refresh() {
+        // exception must not escape, otherwise scheduler stops polling
+        try {
+            final Snapshot previous = snapshot;
+            final Snapshot current = poll();
+            this.snapshot = current;
+
+            if (previous == null
+                    || !Objects.equals(previous.getStatus(), current.getStatus())
+                    || !previous.downNodes.equals(current.downNodes)) {
+                logger.debug("ArangoDB cluster health changed from {} to {} with down nodes: {}",
+                        (previous == null) ? null : previous.getStatus(), current.getStatus(), current.downNodes);
+                eventPublisher.publishEvent(new ArangoClusterHealthEvent(this,
+                        (previous == null) ? null : previous.getStatus(),
+                        current.getStatus(),
+                        current.downNodes,
+                        current.getResponse()));
+            }
+        } catch (Exception e) {
+            logger.warn("ArangoDB cluster health monitor failed to publish health", e);
+        }
+    }
+
+    private Snapshot poll() {
+        try {
+            final Response<JsonNode> response = client.fetch();
+            return client.convert(response.getResponseCode(), response.getBody())
+                    .map(health -> new Snapshot(health.getHealthStatus(), health.getDownNodes(), health, null))
+                    .orElseGet(() -> new Snapshot(HealthStatus.UNKNOWN, List.of(), null, String.valueOf(response.getBody())));
+        } catch (Exception e) {
+            return new Snapshot(HealthStatus.DOWN, List.of(), null, e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "[status=" + getStatus() + ", monitor=" + monitorConfig + ']';
+    }
+}
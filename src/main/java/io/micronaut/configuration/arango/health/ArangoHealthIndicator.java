@@ -6,16 +6,22 @@
 import com.arangodb.ArangoDB;
 import com.arangodb.entity.DatabaseEntity;
 import io.micronaut.configuration.arango.ArangoConfiguration;
+import io.micronaut.configuration.arango.ArangoSettings;
 import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.management.health.indicator.HealthIndicator;
 import io.micronaut.management.health.indicator.HealthResult;
+import jakarta.annotation.PreDestroy;
 import jakarta.inject.Inject;
+import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 import org.reactivestreams.Publisher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 /**
  * A {@link HealthIndicator} for ArangoDB.
@@ -34,22 +40,47 @@ public class ArangoHealthIndicator implements HealthIndicator {
      * The name to expose details with.
      */
     private static final String NAME = "arangodb";
+    private final String name;
     private final ArangoDB accessor;
     private final String database;
     private final ArangoHealthConfiguration healthConfiguration;
+    private final Scheduler scheduler;
+    private final Mono<HealthResult> result;
 
     @Inject
     public ArangoHealthIndicator(ArangoDB accessor,
                                  ArangoConfiguration configuration,
-                                 ArangoHealthConfiguration healthConfiguration) {
+                                 ArangoHealthConfiguration healthConfiguration,
+                                 @Nullable @Named(ArangoSettings.EXECUTOR) ExecutorService executor) {
+        this(NAME, accessor, configuration, healthConfiguration, executor);
+    }
+
+    ArangoHealthIndicator(String name,
+                          ArangoDB accessor,
+                          ArangoConfiguration configuration,
+                          ArangoHealthConfiguration healthConfiguration,
+                          @Nullable ExecutorService executor) {
+        this.name = name;
         this.accessor = accessor;
         this.database = configuration.getDatabase();
         this.healthConfiguration = healthConfiguration;
+        this.scheduler = HealthSchedulers.create(name, healthConfiguration, executor);
+        this.result = HealthSchedulers.cache(probe(), healthConfiguration);
+    }
+
+    @PreDestroy
+    public void close() {
+        scheduler.dispose();
     }
 
     @Override
     public Publisher<HealthResult> getResult() {
+        return result;
+    }
+
+    private Mono<HealthResult> probe() {
         return Mono.fromCallable(() -> accessor.db(database).getInfo())
+                .subscribeOn(scheduler)
                 .timeout(healthConfiguration.getTimeout())
                 .retry(healthConfiguration.getRetry())
                 .map(this::buildUpReport)
@@ -62,7 +93,7 @@ private Map<String, Object> buildDetails(DatabaseEntity db) {
 
     private HealthResult buildUpReport(DatabaseEntity db) {
         final Map<String, Object> details = buildDetails(db);
-        logger.debug("Heath '{}' reported UP with details: {}", NAME, details);
+        logger.debug("Heath '{}' reported UP with details: {}", name, details);
         return getBuilder()
                 .status(UP)
                 .details(details)
@@ -70,14 +101,14 @@ private HealthResult buildUpReport(DatabaseEntity db) {
     }
 
     private HealthResult buildDownReport(Throwable e) {
-        logger.debug("Heath '{}' reported DOWN with error: {}", NAME, e.getMessage());
+        logger.debug("Heath '{}' reported DOWN with error: {}", name, e.getMessage());
         return getBuilder()
                 .status(DOWN)
                 .exception(e)
                 .build();
     }
 
-    private static HealthResult.Builder getBuilder() {
-        return HealthResult.builder(NAME);
+    private HealthResult.Builder getBuilder() {
+        return HealthResult.builder(name);
     }
 }
@@ -0,0 +1,69 @@
+package io.micronaut.configuration.arango.health;
+
+import static io.micronaut.health.HealthStatus.DOWN;
+import static io.micronaut.health.HealthStatus.UP;
+
+import io.micronaut.configuration.arango.resilience.ArangoBulkhead;
+import io.micronaut.configuration.arango.resilience.ArangoCircuitBreaker;
+import io.micronaut.configuration.arango.resilience.ArangoResilienceInterceptor;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.management.health.indicator.HealthIndicator;
+import io.micronaut.management.health.indicator.HealthResult;
+import jakarta.inject.Singleton;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Mono;
+
+/**
+ * A {@link HealthIndicator} for ArangoDB circuit breakers, reports DOWN while
+ * circuit of default connection is open. Circuits of read hosts and clusters
+ * are reported in details only, so partial outage of secondary connection does
+ * not make whole application DOWN. State is reported without calling database.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+@Requires(property = "endpoints.health.arangodb.resilience.enabled", value = "true", defaultValue = "true")
+@Requires(beans = ArangoResilienceInterceptor.class, classes = HealthIndicator.class)
+@Singleton
+public class ArangoResilienceHealthIndicator implements HealthIndicator {
+
+    /**
+     * The name to expose details with.
+     */
+    private static final String NAME = "arangodb-resilience";
+
+    private final ArangoResilienceInterceptor interceptor;
+
+    public ArangoResilienceHealthIndicator(ArangoResilienceInterceptor interceptor) {
+        this.interceptor = interceptor;
+    }
+
+    @Override
+    public Publisher<HealthResult> getResult() {
+        return Mono.fromSupplier(this::buildReport);
+    }
+
+    private HealthResult buildReport() {
+        boolean open = false;
+        final Map<String, Object> details = new LinkedHashMap<>();
+        for (Map.Entry<String, ArangoCircuitBreaker> entry : interceptor.getCircuitBreakers().entrySet()) {
+            final ArangoCircuitBreaker circuitBreaker = entry.getValue();
+            final ArangoBulkhead bulkhead = interceptor.getBulkheads().get(entry.getKey());
+            if (ArangoResilienceInterceptor.DEFAULT_CONNECTION.equals(entry.getKey())) {
+                open = circuitBreaker.getState() == ArangoCircuitBreaker.State.OPEN;
+            }
+            details.put(entry.getKey(), Map.of(
+                    "state", circuitBreaker.getState(),
+                    "failureRate", circuitBreaker.getFailureRate(),
+                    "rejected", circuitBreaker.getRejected() + bulkhead.getRejected(),
+                    "available", bulkhead.getAvailable()));
+        }
+
+        return HealthResult.builder(NAME)
+                .status(open ? DOWN : UP)
+                .details(details)
+                .build();
+    }
+}
@@ -0,0 +1,59 @@
+package io.micronaut.configuration.arango.health;
+
+import com.arangodb.ArangoDB;
+import com.arangodb.Request;
+import com.arangodb.Response;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micronaut.http.HttpStatus;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Requests and parses ArangoDB cluster health, shared by
+ * {@link ArangoClusterHealthIndicator} and {@link ArangoClusterHealthMonitor}.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+final class ClusterHealthClient {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClusterHealthClient.class);
+
+    private final ArangoDB accessor;
+    private final String database;
+    private final ObjectMapper mapper;
+
+    ClusterHealthClient(ArangoDB accessor, String database) {
+        this.accessor = accessor;
+        this.database = database;
+        this.mapper = new ObjectMapper()
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    }
+
+    String getDatabase() {
+        return database;
+    }
+
+    Response<JsonNode> fetch() {
+        return accessor.execute(Request.builder()
+                .db(database)
+                .method(Request.Method.GET)
+                .path("/_admin/cluster/health")
+                .build(), JsonNode.class);
+    }
+
+    Optional<ClusterHealthResponse> convert(int responseCode, JsonNode body) {
+        if (HttpStatus.OK.getCode() != responseCode)
+            return Optional.empty();
+
+        try {
+            return Optional.ofNullable(mapper.convertValue(body, ClusterHealthResponse.class));
+        } catch (Exception e) {
+            logger.error(e.getMessage());
+            return Optional.empty();
+        }
+    }
+}
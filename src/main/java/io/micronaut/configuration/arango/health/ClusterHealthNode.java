@@ -14,7 +14,7 @@
  * @author Anton Kurako (GoodforGod)
  * @since 09.3.2020
  */
-final class ClusterHealthNode {
+public final class ClusterHealthNode {
 
     private static final String ROLE_LEADER = "Agent Leader";
 
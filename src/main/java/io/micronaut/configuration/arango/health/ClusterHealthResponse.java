@@ -1,8 +1,16 @@
 package io.micronaut.configuration.arango.health;
 
+import static io.micronaut.core.util.StringUtils.isEmpty;
+import static io.micronaut.health.HealthStatus.DOWN;
+import static io.micronaut.health.HealthStatus.UNKNOWN;
+import static io.micronaut.health.HealthStatus.UP;
+
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import io.micronaut.health.HealthStatus;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -11,7 +19,7 @@
  * @author Anton Kurako (GoodforGod)
  * @since 09.3.2020
  */
-final class ClusterHealthResponse {
+public final class ClusterHealthResponse {
 
     @JsonProperty("Health")
     private Map<String, ClusterHealthNode> nodes;
@@ -31,6 +39,42 @@ public Stream<ClusterHealthNode> streamNodes() {
                 : nodes.entrySet().stream().map(e -> e.getValue().setNodeId(e.getKey()));
     }
 
+    /**
+     * @return nodes that can not be deleted from cluster, so cluster is not
+     *             available when any of them is down
+     */
+    @JsonIgnore
+    public Stream<ClusterHealthNode> streamCriticalNodes() {
+        return streamNodes().filter(node -> !node.isCanBeDeleted());
+    }
+
+    /**
+     * @return names of critical nodes that are down
+     */
+    @JsonIgnore
+    public List<String> getDownNodes() {
+        return streamCriticalNodes()
+                .filter(n -> DOWN.equals(n.getHealthStatus()))
+                .map(n -> isEmpty(n.getShortName())
+                        ? n.getRoleWithNodeId()
+                        : n.getShortName())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * @return DOWN if any critical node is down, UP if all critical nodes are up
+     *             and UNKNOWN otherwise
+     */
+    @JsonIgnore
+    public HealthStatus getHealthStatus() {
+        if (streamCriticalNodes().anyMatch(n -> DOWN.equals(n.getHealthStatus())))
+            return DOWN;
+        else if (streamCriticalNodes().allMatch(n -> UP.equals(n.getHealthStatus())))
+            return UP;
+        else
+            return UNKNOWN;
+    }
+
     public String getClusterId() {
         return clusterId;
     }
@@ -0,0 +1,51 @@
+package io.micronaut.configuration.arango.health;
+
+import io.micronaut.core.annotation.Nullable;
+import java.util.concurrent.ExecutorService;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Creates {@link Scheduler} for blocking health checks, so they never run on
+ * thread that requested health (e.g. Netty event loop), and caches health
+ * results.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+final class HealthSchedulers {
+
+    private static final int THREAD_TTL_SECONDS = 60;
+
+    private HealthSchedulers() {}
+
+    /**
+     * @param name          of health indicator
+     * @param configuration of health indicator
+     * @param executor      module executor if configured, it is not shutdown when
+     *                          scheduler is disposed
+     * @return scheduler for health checks
+     */
+    static Scheduler create(String name, AbstractHealthConfiguration configuration, @Nullable ExecutorService executor) {
+        return (executor == null)
+                ? Schedulers.newBoundedElastic(configuration.getPoolSize(), configuration.getQueueSize(), name,
+                        THREAD_TTL_SECONDS, true)
+                : Schedulers.fromExecutor(executor);
+    }
+
+    /**
+     * Concurrent subscribers share single in-flight health check while result is
+     * not cached yet
+     *
+     * @param result        health check
+     * @param configuration of health indicator
+     * @return health check which result is cached for
+     *             {@link AbstractHealthConfiguration#getCacheTtl()}
+     */
+    static <T> Mono<T> cache(Mono<T> result, AbstractHealthConfiguration configuration) {
+        return (configuration.getCacheTtl().isZero())
+                ? result
+                : result.cache(configuration.getCacheTtl());
+    }
+}
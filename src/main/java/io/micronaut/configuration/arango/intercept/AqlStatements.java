@@ -0,0 +1,136 @@
+package io.micronaut.configuration.arango.intercept;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Helps interceptors to recognize and sanitize AQL of intercepted driver calls.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+@Internal
+public final class AqlStatements {
+
+    /**
+     * Driver methods which first argument is AQL
+     */
+    private static final Set<String> QUERY_METHODS = Set.of("query", "explainQuery", "explainAqlQuery", "parseQuery");
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^'\\\\]|\\\\.)*'|\"(?:[^\"\\\\]|\\\\.)*\"");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w@])-?\\d+(?:\\.\\d+)?(?:[eE][+-]?\\d+)?\\b");
+    private static final Pattern COMMENT = Pattern.compile("/\\*.*?\\*/|//[^\\n]*", Pattern.DOTALL);
+    private static final Pattern BIND_VAR = Pattern.compile("@(@?[A-Za-z_][A-Za-z0-9_]*)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern QUOTED_NAME = Pattern.compile("`[^`]*`|\u00b4[^\u00b4]*\u00b4");
+    /**
+     * Data modification operations, attribute access such as {@code d.update},
+     * bind variables such as {@code @update} and object keys such as
+     * {@code { update: 1 }} are not matched
+     */
+    private static final Pattern WRITE_OPERATION = Pattern.compile(
+            "(?<![.@\\w$])(INSERT|UPDATE|REPLACE|REMOVE|UPSERT)(?![\\w$])(?!\\s*:)",
+            Pattern.CASE_INSENSITIVE);
+
+    private AqlStatements() {}
+
+    /**
+     * @param invocation to check
+     * @return AQL if invocation executes, explains or parses AQL
+     */
+    @Nullable
+    public static String getQuery(ArangoInvocation invocation) {
+        final Object[] arguments = invocation.getArguments();
+        return (QUERY_METHODS.contains(invocation.getMethod().getName())
+                && arguments.length > 0
+                && arguments[0] instanceof String)
+                        ? (String) arguments[0]
+                        : null;
+    }
+
+    /**
+     * @param invocation to check
+     * @return bind variables if invocation has them
+     */
+    @Nullable
+    public static Map<?, ?> getBindVars(ArangoInvocation invocation) {
+        for (Object argument : invocation.getArguments()) {
+            if (argument instanceof Map) {
+                return (Map<?, ?>) argument;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * @param query AQL
+     * @return names of bind variables used in AQL, collection bind variables
+     *             (referenced as {@code @@name}) are named as {@code @name}
+     */
+    public static Set<String> getBindNames(String query) {
+        final String withoutStrings = STRING_LITERAL.matcher(query).replaceAll("''");
+        final String withoutComments = COMMENT.matcher(withoutStrings).replaceAll(" ");
+        final Matcher matcher = BIND_VAR.matcher(withoutComments);
+        final Set<String> names = new LinkedHashSet<>();
+        while (matcher.find()) {
+            names.add(matcher.group(1));
+        }
+        return names;
+    }
+
+    /**
+     * @param query AQL
+     * @return true if AQL has data modification operation, string literals,
+     *             comments and quoted names are not checked
+     */
+    public static boolean isWrite(String query) {
+        final String withoutStrings = STRING_LITERAL.matcher(query).replaceAll("''");
+        final String withoutComments = COMMENT.matcher(withoutStrings).replaceAll(" ");
+        final String withoutNames = QUOTED_NAME.matcher(withoutComments).replaceAll("``");
+        return WRITE_OPERATION.matcher(withoutNames).find();
+    }
+
+    /**
+     * Collapses whitespace outside of string literals, so same query formatted
+     * differently is recognized as same query
+     *
+     * @param query AQL
+     * @return normalized AQL
+     */
+    public static String normalize(String query) {
+        final StringBuilder builder = new StringBuilder(query.length());
+        final Matcher matcher = STRING_LITERAL.matcher(query);
+        int start = 0;
+        while (matcher.find()) {
+            builder.append(WHITESPACE.matcher(query.substring(start, matcher.start())).replaceAll(" "))
+                    .append(matcher.group());
+            start = matcher.end();
+        }
+
+        return builder.append(WHITESPACE.matcher(query.substring(start)).replaceAll(" "))
+                .toString()
+                .strip();
+    }
+
+    /**
+     * Replaces string and number literals in AQL with ? so values never leak into
+     * traces and logs (values passed via bind parameters are not part of AQL)
+     *
+     * @param query     AQL
+     * @param maxLength of sanitized AQL
+     * @return sanitized AQL
+     */
+    public static String sanitize(String query, int maxLength) {
+        final String withoutStrings = STRING_LITERAL.matcher(query).replaceAll("?");
+        final String sanitized = NUMBER_LITERAL.matcher(withoutStrings).replaceAll("?");
+        return (sanitized.length() > maxLength)
+                ? sanitized.substring(0, maxLength)
+                : sanitized;
+    }
+}
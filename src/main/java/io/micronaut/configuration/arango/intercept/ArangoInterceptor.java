@@ -0,0 +1,25 @@
+package io.micronaut.configuration.arango.intercept;
+
+import io.micronaut.core.order.Ordered;
+
+/**
+ * Intercepts ArangoDB driver calls made via {@link com.arangodb.ArangoDB}
+ * accessor bean and handles it returns ({@link com.arangodb.ArangoDatabase},
+ * {@link com.arangodb.ArangoCollection}, etc).
+ * <p>
+ * All interceptor beans are applied to accessor in {@link Ordered} order,
+ * accessor is not wrapped when there are no interceptor beans. Async accessor
+ * ({@link com.arangodb.ArangoDBAsync}) calls are intercepted as well, see
+ * {@link ArangoInvocation#isAsync()}.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+public interface ArangoInterceptor extends Ordered {
+
+    /**
+     * @param invocation of driver method
+     * @return result of {@link ArangoInvocation#proceed()} or substituted result
+     */
+    Object intercept(ArangoInvocation invocation);
+}
@@ -0,0 +1,352 @@
+package io.micronaut.configuration.arango.intercept;
+
+import com.arangodb.*;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.order.OrderUtil;
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiConsumer;
+
+/**
+ * Wraps {@link ArangoDB} accessor with {@link ArangoInterceptor} chain.
+ * <p>
+ * Methods returning handles ({@link ArangoDatabase}, {@link ArangoCollection},
+ * etc) are not intercepted, returned handles are wrapped instead so calls made
+ * on them are intercepted with database and collection they belong to.
+ * <p>
+ * Async accessor ({@link ArangoDB#async()}) and its handles are wrapped same
+ * way, their methods return {@link CompletableFuture} and interceptors use
+ * {@link #proceed(ArangoInvocation, BiConsumer)} to act when it completes.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+public final class ArangoInterceptors {
+
+    private static final Set<Class<?>> HANDLES = Set.of(ArangoDB.class,
+            ArangoDatabase.class,
+            ArangoCollection.class,
+            ArangoGraph.class,
+            ArangoVertexCollection.class,
+            ArangoEdgeCollection.class,
+            ArangoView.class,
+            ArangoSearch.class,
+            SearchAlias.class,
+            ArangoDBAsync.class,
+            ArangoDatabaseAsync.class,
+            ArangoCollectionAsync.class,
+            ArangoGraphAsync.class,
+            ArangoVertexCollectionAsync.class,
+            ArangoEdgeCollectionAsync.class,
+            ArangoViewAsync.class,
+            ArangoSearchAsync.class,
+            SearchAliasAsync.class);
+
+    /**
+     * Methods that do not call database
+     */
+    private static final Set<String> PASSTHROUGH = Set.of("name", "getSerde", "metrics", "shutdown", "updateJwt");
+
+    private static final Map<Method, String> OPERATIONS = new ConcurrentHashMap<>();
+
+    private ArangoInterceptors() {}
+
+    /**
+     * @param accessor     to wrap
+     * @param interceptors to apply
+     * @return accessor which calls are intercepted or same accessor if there are
+     *             no interceptors
+     */
+    public static ArangoDB wrap(@NonNull ArangoDB accessor, @NonNull List<ArangoInterceptor> interceptors) {
+        return wrap(accessor, interceptors, null);
+    }
+
+    /**
+     * @param accessor     to wrap
+     * @param interceptors to apply
+     * @param cluster      name of cluster connection accessor belongs to, null for
+     *                         default connection
+     * @return accessor which calls are intercepted or same accessor if there are
+     *             no interceptors
+     */
+    public static ArangoDB wrap(@NonNull ArangoDB accessor,
+                                @NonNull List<ArangoInterceptor> interceptors,
+                                @Nullable String cluster) {
+        if (interceptors.isEmpty()) {
+            return accessor;
+        }
+
+        final List<ArangoInterceptor> ordered = new ArrayList<>(interceptors);
+        OrderUtil.sort(ordered);
+        return wrap(ArangoDB.class, accessor, new Context(List.copyOf(ordered), cluster, null, null));
+    }
+
+    /**
+     * @param type of driver method result
+     * @return whenever type is handle ({@link ArangoDatabase},
+     *             {@link ArangoCollection}, etc) which methods call database
+     */
+    public static boolean isHandle(Class<?> type) {
+        return HANDLES.contains(type);
+    }
+
+    /**
+     * @param method of driver handle
+     * @return whenever method does not call database
+     */
+    public static boolean isPassthrough(Method method) {
+        return PASSTHROUGH.contains(method.getName());
+    }
+
+    /**
+     * @param e thrown by driver method
+     * @return whenever request failed because server is unavailable or failing
+     *             (connection errors, timeouts and 5xx responses) and not because
+     *             of request itself (e.g. document not found or conflict)
+     */
+    public static boolean isServerFailure(Throwable error) {
+        final Throwable e = unwrap(error);
+        if (e instanceof ArangoDBException && ((ArangoDBException) e).getResponseCode() != null) {
+            return ((ArangoDBException) e).getResponseCode() >= 500;
+        }
+
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof IOException || cause instanceof TimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Proceeds with invocation and calls listener when driver call is completed,
+     * right after it returns for sync methods and when returned future is
+     * completed for async methods
+     *
+     * @param invocation to proceed
+     * @param listener   called with result or error of driver call, error of
+     *                       async call is unwrapped from
+     *                       {@link CompletionException}
+     * @return result of invocation, for async methods future that is completed
+     *             after listener is called
+     */
+    public static Object proceed(@NonNull ArangoInvocation invocation, @NonNull BiConsumer<Object, Throwable> listener) {
+        final Object result;
+        try {
+            result = invocation.proceed();
+        } catch (RuntimeException | Error e) {
+            listener.accept(null, e);
+            throw e;
+        }
+
+        if (result instanceof CompletableFuture) {
+            return ((CompletableFuture<?>) result).whenComplete((r, e) -> listener.accept(r, unwrap(e)));
+        }
+
+        listener.accept(result, null);
+        return result;
+    }
+
+    /**
+     * @param invocation that is rejected without calling database
+     * @param e          rejection error
+     * @return failed future for async methods, so async callers get error same way
+     *             as for failed call
+     * @throws RuntimeException rejection error for sync methods
+     */
+    public static Object reject(@NonNull ArangoInvocation invocation, @NonNull RuntimeException e) {
+        if (invocation.isAsync()) {
+            return CompletableFuture.failedFuture(e);
+        }
+        throw e;
+    }
+
+    /**
+     * @param e error of async call
+     * @return cause of {@link CompletionException} and {@link ExecutionException}
+     */
+    public static @Nullable Throwable unwrap(@Nullable Throwable e) {
+        return ((e instanceof CompletionException || e instanceof ExecutionException) && e.getCause() != null)
+                ? e.getCause()
+                : e;
+    }
+
+    private static <T> T wrap(Class<T> type, T target, Context context) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(),
+                new Class<?>[] { type },
+                new Handler(target, context)));
+    }
+
+    private static final class Context {
+
+        private final List<ArangoInterceptor> interceptors;
+        private final String cluster;
+        private final String database;
+        private final String collection;
+
+        private Context(List<ArangoInterceptor> interceptors, String cluster, String database, String collection) {
+            this.interceptors = interceptors;
+            this.cluster = cluster;
+            this.database = database;
+            this.collection = collection;
+        }
+
+        private Context with(String database, String collection) {
+            return new Context(interceptors, cluster, database, collection);
+        }
+    }
+
+    private static final class Handler implements InvocationHandler {
+
+        private final Object target;
+        private final Context context;
+
+        private Handler(Object target, Context context) {
+            this.target = target;
+            this.context = context;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getDeclaringClass() == Object.class) {
+                if ("equals".equals(method.getName())) {
+                    return proxy == args[0];
+                }
+                return invokeTarget(target, method, args);
+            }
+
+            final Class<?> returnType = method.getReturnType();
+            if (HANDLES.contains(returnType)) {
+                final Object handle = invokeTarget(target, method, args);
+                return (handle == null)
+                        ? null
+                        : wrapHandle(returnType, handle);
+            }
+
+            if (PASSTHROUGH.contains(method.getName())) {
+                return invokeTarget(target, method, args);
+            }
+
+            return new Invocation(target, method, (args == null) ? new Object[0] : args, context).proceed();
+        }
+
+        @SuppressWarnings("unchecked")
+        private <T> T wrapHandle(Class<T> type, Object handle) {
+            final Context handleContext;
+            if (handle instanceof ArangoDatabase) {
+                handleContext = context.with(((ArangoDatabase) handle).name(), null);
+            } else if (handle instanceof ArangoCollection) {
+                handleContext = context.with(context.database, ((ArangoCollection) handle).name());
+            } else if (handle instanceof ArangoVertexCollection) {
+                handleContext = context.with(context.database, ((ArangoVertexCollection) handle).name());
+            } else if (handle instanceof ArangoEdgeCollection) {
+                handleContext = context.with(context.database, ((ArangoEdgeCollection) handle).name());
+            } else if (handle instanceof ArangoDatabaseAsync) {
+                handleContext = context.with(((ArangoDatabaseAsync) handle).name(), null);
+            } else if (handle instanceof ArangoCollectionAsync) {
+                handleContext = context.with(context.database, ((ArangoCollectionAsync) handle).name());
+            } else if (handle instanceof ArangoVertexCollectionAsync) {
+                handleContext = context.with(context.database, ((ArangoVertexCollectionAsync) handle).name());
+            } else if (handle instanceof ArangoEdgeCollectionAsync) {
+                handleContext = context.with(context.database, ((ArangoEdgeCollectionAsync) handle).name());
+            } else {
+                handleContext = context;
+            }
+
+            return wrap(type, (T) handle, handleContext);
+        }
+    }
+
+    private static final class Invocation implements ArangoInvocation {
+
+        private final Object target;
+        private final Method method;
+        private final Object[] arguments;
+        private final Context context;
+        private int index = 0;
+
+        private Invocation(Object target, Method method, Object[] arguments, Context context) {
+            this.target = target;
+            this.method = method;
+            this.arguments = arguments;
+            this.context = context;
+        }
+
+        @Override
+        public @Nullable String getCluster() {
+            return context.cluster;
+        }
+
+        @Override
+        public @Nullable String getDatabase() {
+            return context.database;
+        }
+
+        @Override
+        public @Nullable String getCollection() {
+            return context.collection;
+        }
+
+        @Override
+        public @NonNull String getOperation() {
+            return OPERATIONS.computeIfAbsent(method, m -> m.getDeclaringClass().getSimpleName() + "." + m.getName());
+        }
+
+        @Override
+        public @NonNull Method getMethod() {
+            return method;
+        }
+
+        @Override
+        public @NonNull Object getTarget() {
+            return target;
+        }
+
+        @Override
+        public @NonNull Object[] getArguments() {
+            return arguments;
+        }
+
+        @Override
+        public Object proceed() {
+            if (index < context.interceptors.size()) {
+                return context.interceptors.get(index++).intercept(this);
+            }
+
+            try {
+                return invokeTarget(target, method, arguments);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new ArangoDBException(e);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "[operation=" + getOperation() + ", cluster=" + context.cluster + ", database=" + context.database
+                    + ", collection=" + context.collection + ']';
+        }
+    }
+
+    private static Object invokeTarget(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package io.micronaut.configuration.arango.intercept;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import java.lang.reflect.Method;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * ArangoDB driver method invocation that is intercepted by
+ * {@link ArangoInterceptor}.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+public interface ArangoInvocation {
+
+    /**
+     * @return name of cluster connection as configured with
+     *             {@code arangodb.clusters.<name>},
+     *             {@link io.micronaut.configuration.arango.ArangoSettings#READ}
+     *             for read hosts accessor, empty for default connection
+     */
+    @Nullable
+    String getCluster();
+
+    /**
+     * @return database name, empty for {@link com.arangodb.ArangoDB} methods
+     */
+    @Nullable
+    String getDatabase();
+
+    /**
+     * @return collection name, empty for methods not invoked on collection
+     */
+    @Nullable
+    String getCollection();
+
+    /**
+     * @return operation name as declaring interface and method name (e.g.
+     *             ArangoCollection.getDocument)
+     */
+    @NonNull
+    String getOperation();
+
+    @NonNull
+    Method getMethod();
+
+    /**
+     * @return driver handle method is invoked on, calls made on it are not
+     *             intercepted
+     */
+    @NonNull
+    Object getTarget();
+
+    /**
+     * @return method arguments, can be modified by interceptor before
+     *             {@link #proceed()}
+     */
+    @NonNull
+    Object[] getArguments();
+
+    /**
+     * @return whenever method is async accessor method, which result is
+     *             {@link java.util.concurrent.CompletableFuture} completed when
+     *             driver call is completed
+     */
+    default boolean isAsync() {
+        return CompletionStage.class.isAssignableFrom(getMethod().getReturnType());
+    }
+
+    /**
+     * Proceeds to next interceptor or invokes driver method
+     *
+     * @return driver method result, use
+     *             {@link ArangoInterceptors#proceed(ArangoInvocation, java.util.function.BiConsumer)}
+     *             to act when async method result is completed
+     */
+    Object proceed();
+}
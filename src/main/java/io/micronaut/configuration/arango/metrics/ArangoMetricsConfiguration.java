@@ -0,0 +1,54 @@
+package io.micronaut.configuration.arango.metrics;
+
+import io.micronaut.configuration.arango.ArangoSettings;
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.context.annotation.Requires;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+@Requires(property = ArangoSettings.PREFIX)
+@ConfigurationProperties(ArangoSettings.PREFIX + ".metrics")
+public class ArangoMetricsConfiguration {
+
+    private boolean enabled = true;
+    private boolean histogram = true;
+    private boolean databaseTag = false;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * @return whether percentile histogram is published for request timer
+     */
+    public boolean isHistogram() {
+        return histogram;
+    }
+
+    public void setHistogram(boolean histogram) {
+        this.histogram = histogram;
+    }
+
+    /**
+     * @return whether requests are tagged with database, tenant databases make
+     *             tag cardinality unbounded
+     */
+    public boolean isDatabaseTag() {
+        return databaseTag;
+    }
+
+    public void setDatabaseTag(boolean databaseTag) {
+        this.databaseTag = databaseTag;
+    }
+
+    @Override
+    public String toString() {
+        return "[enabled=" + enabled + ", histogram=" + histogram + ", databaseTag=" + databaseTag + ']';
+    }
+}
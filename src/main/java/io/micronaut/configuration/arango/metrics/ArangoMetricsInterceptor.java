@@ -0,0 +1,178 @@
+package io.micronaut.configuration.arango.metrics;
+
+import com.arangodb.ArangoDB;
+import com.arangodb.ArangoDBException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import io.micronaut.configuration.arango.intercept.ArangoInterceptor;
+import io.micronaut.configuration.arango.intercept.ArangoInterceptors;
+import io.micronaut.configuration.arango.intercept.ArangoInvocation;
+import io.micronaut.context.BeanLocator;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.inject.qualifiers.Qualifiers;
+import jakarta.inject.Singleton;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Records Micrometer metrics for each ArangoDB driver request: latency timer,
+ * in-flight requests, errors and driver response queue time.
+ * <p>
+ * Driver does not expose HTTP method and path, so requests are tagged with
+ * driver operation (e.g. ArangoCollection.getDocument) instead. Requests of
+ * {@link io.micronaut.configuration.arango.ArangoClusterConfiguration} cluster
+ * connections and read hosts accessor are tagged with their name, default
+ * connection as default. Database tag is added only when
+ * {@link ArangoMetricsConfiguration#isDatabaseTag()} is enabled, as per-tenant
+ * databases make its cardinality unbounded.
+ * <p>
+ * Meters are registered once per tags and reused by following requests. Async
+ * requests are recorded when their future is completed.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+@Requires(classes = MeterRegistry.class)
+@Requires(beans = { MeterRegistry.class, ArangoMetricsConfiguration.class })
+@Requires(property = "arangodb.metrics.enabled", notEquals = "false")
+@Singleton
+public class ArangoMetricsInterceptor implements ArangoInterceptor {
+
+    public static final int ORDER = 100;
+
+    public static final String REQUESTS = "arangodb.client.requests";
+    public static final String REQUESTS_ACTIVE = "arangodb.client.requests.active";
+    public static final String ERRORS = "arangodb.client.errors";
+    public static final String QUEUE_TIME = "arangodb.client.queue.time";
+
+    private static final String TAG_CLUSTER = "cluster";
+    private static final String TAG_DATABASE = "database";
+    private static final String TAG_OPERATION = "operation";
+    private static final String TAG_STATUS = "status";
+    private static final String TAG_EXCEPTION = "exception";
+
+    private static final String STATUS_OK = "OK";
+    private static final String STATUS_ERROR = "ERROR";
+    private static final String NONE = "none";
+    private static final String DEFAULT_CLUSTER = "default";
+
+    private final MeterRegistry registry;
+    private final ArangoMetricsConfiguration configuration;
+    private final BeanLocator beanLocator;
+    /**
+     * Requests in flight by connection name
+     */
+    private final Map<String, AtomicInteger> active = new ConcurrentHashMap<>();
+    /**
+     * Meters by cluster, database, operation, status and exception tag values
+     */
+    private final Map<List<String>, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<List<String>, Counter> errors = new ConcurrentHashMap<>();
+
+    public ArangoMetricsInterceptor(MeterRegistry registry,
+                                    ArangoMetricsConfiguration configuration,
+                                    BeanLocator beanLocator) {
+        this.registry = registry;
+        this.configuration = configuration;
+        this.beanLocator = beanLocator;
+        getActive(DEFAULT_CLUSTER);
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    @Override
+    public Object intercept(ArangoInvocation invocation) {
+        final String cluster = (invocation.getCluster() == null)
+                ? DEFAULT_CLUSTER
+                : invocation.getCluster();
+        final AtomicInteger clusterActive = getActive(cluster);
+        final Timer.Sample sample = Timer.start(registry);
+        clusterActive.incrementAndGet();
+        return ArangoInterceptors.proceed(invocation, (result, e) -> {
+            clusterActive.decrementAndGet();
+            final String status = (e == null)
+                    ? STATUS_OK
+                    : getStatus(e);
+            final String exception = (e == null)
+                    ? NONE
+                    : e.getClass().getSimpleName();
+            final String database = (!configuration.isDatabaseTag())
+                    ? null
+                    : (invocation.getDatabase() == null) ? NONE : invocation.getDatabase();
+            final List<String> key = List.of(cluster, (database == null) ? "" : database, invocation.getOperation(),
+                    status, exception);
+
+            sample.stop(timers.computeIfAbsent(key, k -> Timer.builder(REQUESTS)
+                    .description("ArangoDB requests latency")
+                    .tags(getTags(k, database))
+                    .publishPercentileHistogram(configuration.isHistogram())
+                    .register(registry)));
+
+            if (!NONE.equals(exception)) {
+                errors.computeIfAbsent(key, k -> Counter.builder(ERRORS)
+                        .description("ArangoDB failed requests")
+                        .tags(getTags(k, database))
+                        .register(registry))
+                        .increment();
+            }
+        });
+    }
+
+    /**
+     * Registers in flight requests and queue time gauges of connection on its
+     * first request, accessor is resolved lazily cause interceptor is created while
+     * accessor is created
+     */
+    private AtomicInteger getActive(String cluster) {
+        return active.computeIfAbsent(cluster, c -> {
+            final AtomicInteger requests = new AtomicInteger();
+            Gauge.builder(REQUESTS_ACTIVE, requests, AtomicInteger::get)
+                    .description("ArangoDB requests in flight")
+                    .tag(TAG_CLUSTER, c)
+                    .register(registry);
+            TimeGauge.builder(QUEUE_TIME, beanLocator, TimeUnit.SECONDS,
+                    locator -> getAccessor(locator, c).metrics().getQueueTime().getAvg())
+                    .description("ArangoDB driver average response queue time")
+                    .tag(TAG_CLUSTER, c)
+                    .register(registry);
+            return requests;
+        });
+    }
+
+    private static ArangoDB getAccessor(BeanLocator locator, String cluster) {
+        return (DEFAULT_CLUSTER.equals(cluster))
+                ? locator.getBean(ArangoDB.class)
+                : locator.getBean(ArangoDB.class, Qualifiers.byName(cluster));
+    }
+
+    private static Tags getTags(List<String> key, String database) {
+        final Tags tags = Tags.of(TAG_CLUSTER, key.get(0),
+                TAG_OPERATION, key.get(2),
+                TAG_STATUS, key.get(3),
+                TAG_EXCEPTION, key.get(4));
+        return (database == null)
+                ? tags
+                : tags.and(TAG_DATABASE, database);
+    }
+
+    private static String getStatus(Throwable e) {
+        if (e instanceof ArangoDBException) {
+            final Integer responseCode = ((ArangoDBException) e).getResponseCode();
+            if (responseCode != null) {
+                return String.valueOf(responseCode);
+            }
+        }
+
+        return STATUS_ERROR;
+    }
+}
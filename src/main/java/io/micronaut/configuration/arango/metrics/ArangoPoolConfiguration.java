@@ -0,0 +1,78 @@
+package io.micronaut.configuration.arango.metrics;
+
+import io.micronaut.configuration.arango.ArangoSettings;
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.exceptions.ConfigurationException;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+@Requires(property = ArangoSettings.PREFIX)
+@ConfigurationProperties(ArangoSettings.PREFIX + ".pool-monitor")
+public class ArangoPoolConfiguration {
+
+    private boolean enabled = false;
+    private double saturationThreshold = 0.8;
+    private double recoveryThreshold = 0.6;
+    private int streamsPerConnection = 100;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * @return share of connection pool capacity in use at which pool is reported
+     *             saturated
+     */
+    public double getSaturationThreshold() {
+        return saturationThreshold;
+    }
+
+    public void setSaturationThreshold(double saturationThreshold) {
+        if (saturationThreshold <= 0 || saturationThreshold > 1)
+            throw new ConfigurationException("Saturation threshold must be greater than 0 and not greater than 1");
+        this.saturationThreshold = saturationThreshold;
+    }
+
+    /**
+     * @return share of connection pool capacity in use at which saturated pool is
+     *             reported recovered, lower than saturation threshold so load
+     *             near threshold does not report each request
+     */
+    public double getRecoveryThreshold() {
+        return recoveryThreshold;
+    }
+
+    public void setRecoveryThreshold(double recoveryThreshold) {
+        if (recoveryThreshold < 0 || recoveryThreshold >= 1)
+            throw new ConfigurationException("Recovery threshold must be not less than 0 and less than 1");
+        this.recoveryThreshold = recoveryThreshold;
+    }
+
+    /**
+     * @return concurrent requests single connection serves for multiplexed
+     *             protocols (HTTP/2 and VST), HTTP/1.1 connection serves single
+     *             request
+     */
+    public int getStreamsPerConnection() {
+        return streamsPerConnection;
+    }
+
+    public void setStreamsPerConnection(int streamsPerConnection) {
+        if (streamsPerConnection < 1)
+            throw new ConfigurationException("Streams per connection can not be less than 1");
+        this.streamsPerConnection = streamsPerConnection;
+    }
+
+    @Override
+    public String toString() {
+        return "[enabled=" + enabled + ", saturationThreshold=" + saturationThreshold + ", recoveryThreshold="
+                + recoveryThreshold + ", streamsPerConnection=" + streamsPerConnection + ']';
+    }
+}
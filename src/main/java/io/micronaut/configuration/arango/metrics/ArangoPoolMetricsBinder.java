@@ -0,0 +1,50 @@
+package io.micronaut.configuration.arango.metrics;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micronaut.context.annotation.Requires;
+import jakarta.inject.Singleton;
+
+/**
+ * Binds {@link ArangoPoolMonitor} connection pool gauges to Micrometer.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+@Requires(classes = MeterRegistry.class)
+@Requires(beans = ArangoPoolMonitor.class)
+@Singleton
+public class ArangoPoolMetricsBinder implements MeterBinder {
+
+    public static final String CONNECTIONS_MAX = "arangodb.client.connections.max";
+    public static final String CONNECTIONS_BUSY = "arangodb.client.connections.busy";
+    public static final String CONNECTIONS_WAITING = "arangodb.client.connections.waiting";
+    public static final String CONNECTIONS_UTILIZATION = "arangodb.client.connections.utilization";
+
+    private final ArangoPoolMonitor monitor;
+
+    public ArangoPoolMetricsBinder(ArangoPoolMonitor monitor) {
+        this.monitor = monitor;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (String host : monitor.getHosts()) {
+            Gauge.builder(CONNECTIONS_MAX, monitor, ArangoPoolMonitor::getConnectionsPerHost)
+                    .description("ArangoDB max connections for host")
+                    .tag("host", host)
+                    .register(registry);
+        }
+
+        Gauge.builder(CONNECTIONS_BUSY, monitor, ArangoPoolMonitor::getBusy)
+                .description("ArangoDB connections in use")
+                .register(registry);
+        Gauge.builder(CONNECTIONS_WAITING, monitor, ArangoPoolMonitor::getWaiting)
+                .description("ArangoDB requests waiting for connection")
+                .register(registry);
+        Gauge.builder(CONNECTIONS_UTILIZATION, monitor, ArangoPoolMonitor::getUtilization)
+                .description("ArangoDB connection pool utilization")
+                .register(registry);
+    }
+}
@@ -0,0 +1,157 @@
+package io.micronaut.configuration.arango.metrics;
+
+import com.arangodb.Protocol;
+import io.micronaut.configuration.arango.ArangoConfiguration;
+import io.micronaut.configuration.arango.intercept.ArangoInterceptor;
+import io.micronaut.configuration.arango.intercept.ArangoInterceptors;
+import io.micronaut.configuration.arango.intercept.ArangoInvocation;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.event.ApplicationEventPublisher;
+import jakarta.inject.Singleton;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Monitors ArangoDB connection pool usage and reports when it is near capacity.
+ * <p>
+ * Driver does not expose its connection pools, so pool capacity is
+ * {@link ArangoConfiguration#getConnectionMax()} per each host and busy
+ * connections are driver requests in flight. Each in-flight request holds
+ * connection for HTTP/1.1, multiplexed protocols (HTTP/2 and VST) serve
+ * {@link ArangoPoolConfiguration#getStreamsPerConnection()} requests on each
+ * connection, so capacity is counted in requests for them.
+ * <p>
+ * Saturated pool is reported recovered only when requests in flight drop to
+ * {@link ArangoPoolConfiguration#getRecoveryThreshold()}, so load near
+ * saturation threshold does not report every request.
+ * <p>
+ * Only default connection is monitored, read hosts and cluster accessors have
+ * their own pools, so their requests are not counted.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+@Requires(property = "arangodb.pool-monitor.enabled", value = "true", defaultValue = "false")
+@Requires(beans = ArangoPoolConfiguration.class)
+@Singleton
+public class ArangoPoolMonitor implements ArangoInterceptor {
+
+    public static final int ORDER = 90;
+
+    private static final Logger logger = LoggerFactory.getLogger(ArangoPoolMonitor.class);
+
+    private final List<String> hosts;
+    private final int connectionsPerHost;
+    private final int requestsPerConnection;
+    private final int capacity;
+    private final int saturationLimit;
+    private final int recoveryLimit;
+    private final ApplicationEventPublisher<ArangoPoolSaturationEvent> eventPublisher;
+
+    private final AtomicInteger busy = new AtomicInteger();
+    private final AtomicBoolean saturated = new AtomicBoolean();
+
+    public ArangoPoolMonitor(ArangoConfiguration configuration,
+                             ArangoPoolConfiguration poolConfiguration,
+                             ApplicationEventPublisher<ArangoPoolSaturationEvent> eventPublisher) {
+        this.hosts = configuration.getHosts();
+        this.connectionsPerHost = configuration.getConnectionMax();
+        this.requestsPerConnection = isMultiplexed(configuration.getProtocol())
+                ? poolConfiguration.getStreamsPerConnection()
+                : 1;
+        this.capacity = connectionsPerHost * requestsPerConnection * hosts.size();
+        this.saturationLimit = Math.max(1, (int) Math.ceil(capacity * poolConfiguration.getSaturationThreshold()));
+        this.recoveryLimit = Math.min(saturationLimit - 1, (int) Math.floor(capacity * poolConfiguration.getRecoveryThreshold()));
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    @Override
+    public Object intercept(ArangoInvocation invocation) {
+        if (invocation.getCluster() != null) {
+            return invocation.proceed();
+        }
+
+        final int acquired = busy.incrementAndGet();
+        if (acquired >= saturationLimit && saturated.compareAndSet(false, true)) {
+            logger.warn("ArangoDB connection pool is saturated with {} requests in flight out of {}", acquired, capacity);
+            eventPublisher.publishEventAsync(new ArangoPoolSaturationEvent(this, true, acquired, capacity));
+        }
+
+        // async request holds connection until its future is completed
+        return ArangoInterceptors.proceed(invocation, (result, e) -> {
+            final int released = busy.decrementAndGet();
+            if (released <= recoveryLimit && saturated.compareAndSet(true, false)) {
+                logger.info("ArangoDB connection pool recovered with {} requests in flight out of {}", released, capacity);
+                eventPublisher.publishEventAsync(new ArangoPoolSaturationEvent(this, false, released, capacity));
+            }
+        });
+    }
+
+    private static boolean isMultiplexed(Protocol protocol) {
+        return protocol != Protocol.HTTP_JSON && protocol != Protocol.HTTP_VPACK;
+    }
+
+    public List<String> getHosts() {
+        return hosts;
+    }
+
+    /**
+     * @return max connections for each host
+     */
+    public int getConnectionsPerHost() {
+        return connectionsPerHost;
+    }
+
+    /**
+     * @return concurrent requests single connection serves, 1 for HTTP/1.1
+     */
+    public int getRequestsPerConnection() {
+        return requestsPerConnection;
+    }
+
+    /**
+     * @return max concurrent requests for all hosts
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * @return requests in flight
+     */
+    public int getBusy() {
+        return busy.get();
+    }
+
+    /**
+     * @return requests in flight above pool capacity that wait for connection or
+     *             stream
+     */
+    public int getWaiting() {
+        return Math.max(0, busy.get() - capacity);
+    }
+
+    /**
+     * @return share of pool capacity in use
+     */
+    public double getUtilization() {
+        return (double) busy.get() / capacity;
+    }
+
+    public boolean isSaturated() {
+        return saturated.get();
+    }
+
+    @Override
+    public String toString() {
+        return "[busy=" + busy + ", capacity=" + capacity + ", saturated=" + saturated + ']';
+    }
+}
@@ -0,0 +1,49 @@
+package io.micronaut.configuration.arango.metrics;
+
+import io.micronaut.context.event.ApplicationEvent;
+
+/**
+ * Published by {@link ArangoPoolMonitor} when connection pool becomes saturated
+ * and when it recovers.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+public class ArangoPoolSaturationEvent extends ApplicationEvent {
+
+    private final boolean saturated;
+    private final int busy;
+    private final int capacity;
+
+    public ArangoPoolSaturationEvent(ArangoPoolMonitor source, boolean saturated, int busy, int capacity) {
+        super(source);
+        this.saturated = saturated;
+        this.busy = busy;
+        this.capacity = capacity;
+    }
+
+    @Override
+    public ArangoPoolMonitor getSource() {
+        return (ArangoPoolMonitor) super.getSource();
+    }
+
+    /**
+     * @return true when pool became saturated, false when pool recovered
+     */
+    public boolean isSaturated() {
+        return saturated;
+    }
+
+    public int getBusy() {
+        return busy;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public String toString() {
+        return "[saturated=" + saturated + ", busy=" + busy + ", capacity=" + capacity + ']';
+    }
+}
@@ -0,0 +1,100 @@
+package io.micronaut.configuration.arango.processor;
+
+import io.micronaut.configuration.arango.intercept.AqlStatements;
+import io.micronaut.configuration.arango.query.ArangoQueries;
+import io.micronaut.configuration.arango.query.Bind;
+import io.micronaut.configuration.arango.query.Query;
+import io.micronaut.configuration.arango.query.ReadOnly;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.inject.ast.ClassElement;
+import io.micronaut.inject.ast.ElementQuery;
+import io.micronaut.inject.ast.MethodElement;
+import io.micronaut.inject.ast.ParameterElement;
+import io.micronaut.inject.visitor.TypeElementVisitor;
+import io.micronaut.inject.visitor.VisitorContext;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Validates {@link Query} methods at compile time, so each AQL bind variable
+ * has matching method parameter and each method parameter is used in AQL, and
+ * {@link ReadOnly} queries do not modify data. Each abstract method of
+ * {@link ArangoQueries} interface must have {@link Query}, otherwise it would
+ * fail only when called.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+@Internal
+public class ArangoQueryVisitor implements TypeElementVisitor<Object, Object> {
+
+    public static final int POSITION = 0;
+
+    /**
+     * Referenced by name, so driver is not required on annotation processor path
+     */
+    static final String QUERY_OPTIONS = "com.arangodb.model.AqlQueryOptions";
+
+    @Override
+    public void visitClass(ClassElement element, VisitorContext context) {
+        if (!element.hasStereotype(ArangoQueries.class)) {
+            return;
+        }
+
+        for (MethodElement method : element.getEnclosedElements(ElementQuery.ALL_METHODS.onlyAbstract())) {
+            if (!method.hasAnnotation(Query.class)) {
+                context.fail("Method of @ArangoQueries interface must have @Query or be default method: "
+                        + method.getName(), method);
+            }
+        }
+    }
+
+    @Override
+    public void visitMethod(MethodElement element, VisitorContext context) {
+        final Optional<String> query = element.stringValue(Query.class);
+        if (query.isEmpty()) {
+            return;
+        }
+
+        if (element.hasAnnotation(ReadOnly.class) && AqlStatements.isWrite(query.get())) {
+            context.fail("@ReadOnly query modifies data and can not be executed against read hosts in method: "
+                    + element.getName(), element);
+        }
+
+        final Set<String> queryBindNames = AqlStatements.getBindNames(query.get());
+        final Set<String> parameterBindNames = new LinkedHashSet<>();
+        for (ParameterElement parameter : element.getParameters()) {
+            if (parameter.getType().isAssignable(QUERY_OPTIONS)) {
+                continue;
+            }
+
+            final String bindName = parameter.stringValue(Bind.class).orElse(parameter.getName());
+            if (!parameterBindNames.add(bindName)) {
+                context.fail("Bind variable '" + bindName + "' is bound to multiple parameters of method: "
+                        + element.getName(), parameter);
+            } else if (!queryBindNames.contains(bindName)) {
+                context.fail("Parameter '" + parameter.getName() + "' is bound to variable '" + bindName
+                        + "' that is not used in @Query of method: " + element.getName(), parameter);
+            }
+        }
+
+        for (String queryBindName : queryBindNames) {
+            if (!parameterBindNames.contains(queryBindName)) {
+                context.fail("Bind variable '" + queryBindName + "' used in @Query has no matching parameter in method: "
+                        + element.getName(), element);
+            }
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        return POSITION;
+    }
+
+    @Override
+    public @NonNull VisitorKind getVisitorKind() {
+        return VisitorKind.ISOLATING;
+    }
+}
@@ -0,0 +1,214 @@
+package io.micronaut.configuration.arango.processor;
+
+import io.micronaut.configuration.arango.query.ArangoRepository;
+import io.micronaut.configuration.arango.query.Bind;
+import io.micronaut.configuration.arango.query.Query;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.inject.ast.ClassElement;
+import io.micronaut.inject.ast.MethodElement;
+import io.micronaut.inject.ast.ParameterElement;
+import io.micronaut.inject.visitor.TypeElementVisitor;
+import io.micronaut.inject.visitor.VisitorContext;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Derives AQL for {@link ArangoRepository} methods from method names at compile
+ * time and annotates methods with {@link Query}, so they are executed same way
+ * as declared queries.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+@Internal
+public class ArangoRepositoryVisitor implements TypeElementVisitor<ArangoRepository, Object> {
+
+    /**
+     * Runs before {@link ArangoQueryVisitor}, so derived queries are validated too
+     */
+    public static final int POSITION = ArangoQueryVisitor.POSITION + 10;
+
+    private static final String DOCUMENT = "d";
+
+    private static final Pattern METHOD = Pattern
+            .compile("^(find|get|read|query|count|exists|delete|remove)(?:All)?(?:By(.+))?$");
+    private static final Pattern CONNECTOR = Pattern.compile("(?<=[a-z0-9])(And|Or)(?=[A-Z])");
+
+    private enum Operator {
+
+        GREATER_THAN_EQUAL("GreaterThanEqual", ">=", true),
+        LESS_THAN_EQUAL("LessThanEqual", "<=", true),
+        GREATER_THAN("GreaterThan", ">", true),
+        LESS_THAN("LessThan", "<", true),
+        IS_NOT_NULL("IsNotNull", "!= null", false),
+        IS_NULL("IsNull", "== null", false),
+        // operators that are common property name endings require 'Is' form, so 'LoggedIn' stays property
+        IS_NOT_IN("IsNotIn", "NOT IN", true),
+        IS_IN("IsIn", "IN", true),
+        IS_NOT("IsNot", "!=", true),
+        IS_LIKE("IsLike", "LIKE", true),
+        IS_TRUE("IsTrue", "== true", false),
+        IS_FALSE("IsFalse", "== false", false),
+        EQUALS("", "==", true);
+
+        private final String suffix;
+        private final String aql;
+        private final boolean hasParameter;
+
+        Operator(String suffix, String aql, boolean hasParameter) {
+            this.suffix = suffix;
+            this.aql = aql;
+            this.hasParameter = hasParameter;
+        }
+    }
+
+    private String collection;
+
+    @Override
+    public void visitClass(ClassElement element, VisitorContext context) {
+        this.collection = element.stringValue(ArangoRepository.class).orElse(null);
+        if (collection == null || collection.isBlank()) {
+            context.fail("@ArangoRepository must specify collection name", element);
+        }
+    }
+
+    @Override
+    public void visitMethod(MethodElement element, VisitorContext context) {
+        if (collection == null || !element.isAbstract() || element.hasAnnotation(Query.class)) {
+            return;
+        }
+
+        final List<ParameterElement> parameters = new ArrayList<>();
+        for (ParameterElement parameter : element.getParameters()) {
+            if (!parameter.getType().isAssignable(ArangoQueryVisitor.QUERY_OPTIONS)) {
+                parameters.add(parameter);
+            }
+        }
+
+        try {
+            final String query = deriveQuery(element, parameters);
+            element.annotate(Query.class, builder -> builder.value(query));
+        } catch (IllegalArgumentException e) {
+            context.fail(e.getMessage(), element);
+        }
+    }
+
+    private String deriveQuery(MethodElement element, List<ParameterElement> parameters) {
+        final String name = element.getName();
+        final String collectionName = "`" + collection + "`";
+        final boolean isVoid = element.getReturnType().isVoid();
+
+        if ("save".equals(name) || "saveAll".equals(name)) {
+            if (parameters.size() != 1) {
+                throw new IllegalArgumentException("Method '" + name + "' must have single entity parameter");
+            }
+
+            final String entity = "@" + getBindName(parameters.get(0));
+            final String returning = isVoid ? "" : " RETURN NEW";
+            return ("save".equals(name))
+                    ? "INSERT " + entity + " INTO " + collectionName + " OPTIONS { overwriteMode: \"replace\" }" + returning
+                    : "FOR e IN " + entity + " INSERT e INTO " + collectionName + " OPTIONS { overwriteMode: \"replace\" }"
+                            + returning;
+        }
+
+        final Matcher matcher = METHOD.matcher(name);
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("Method '" + name + "' can not be derived into AQL query, "
+                    + "use find, count, exists, delete or save method or declare @Query");
+        }
+
+        final String action = matcher.group(1);
+        final Iterator<ParameterElement> parameterIterator = parameters.iterator();
+        final String filter = (matcher.group(2) == null)
+                ? ""
+                : " FILTER " + deriveFilter(matcher.group(2), parameterIterator, name);
+        if (parameterIterator.hasNext()) {
+            throw new IllegalArgumentException("Method '" + name + "' has more parameters than conditions");
+        }
+
+        final String forFilter = "FOR " + DOCUMENT + " IN " + collectionName + filter;
+        switch (action) {
+            case "count":
+                return filter.isEmpty()
+                        ? "RETURN LENGTH(" + collectionName + ")"
+                        : "RETURN LENGTH(" + forFilter + " RETURN 1)";
+            case "exists":
+                return "RETURN LENGTH(" + forFilter + " LIMIT 1 RETURN 1) > 0";
+            case "delete":
+            case "remove":
+                final String remove = forFilter + " REMOVE " + DOCUMENT + " IN " + collectionName;
+                return isVoid
+                        ? remove
+                        : "LET removed = (" + remove + " RETURN 1) RETURN LENGTH(removed)";
+            default:
+                final ClassElement returnType = element.getReturnType();
+                final boolean isMany = returnType.isAssignable(Iterable.class)
+                        || returnType.isAssignable("java.util.stream.Stream")
+                        || returnType.isAssignable("com.arangodb.ArangoCursor");
+                return isMany
+                        ? forFilter + " RETURN " + DOCUMENT
+                        : forFilter + " LIMIT 1 RETURN " + DOCUMENT;
+        }
+    }
+
+    private String deriveFilter(String conditions, Iterator<ParameterElement> parameters, String method) {
+        final StringBuilder builder = new StringBuilder();
+        final Matcher connectors = CONNECTOR.matcher(conditions);
+        int start = 0;
+        while (connectors.find()) {
+            builder.append(deriveCondition(conditions.substring(start, connectors.start()), parameters, method))
+                    .append(("And".equals(connectors.group(1))) ? " AND " : " OR ");
+            start = connectors.end();
+        }
+
+        return builder.append(deriveCondition(conditions.substring(start), parameters, method)).toString();
+    }
+
+    private String deriveCondition(String condition, Iterator<ParameterElement> parameters, String method) {
+        for (Operator operator : Operator.values()) {
+            if (condition.endsWith(operator.suffix) && condition.length() > operator.suffix.length()) {
+                final String property = getProperty(condition.substring(0, condition.length() - operator.suffix.length()));
+                if (!operator.hasParameter) {
+                    return DOCUMENT + "." + property + " " + operator.aql;
+                }
+
+                if (!parameters.hasNext()) {
+                    throw new IllegalArgumentException("Method '" + method + "' has no parameter for condition: " + condition);
+                }
+
+                final String bind = "@" + getBindName(parameters.next());
+                return (operator == Operator.IS_LIKE)
+                        ? "LIKE(" + DOCUMENT + "." + property + ", " + bind + ")"
+                        : DOCUMENT + "." + property + " " + operator.aql + " " + bind;
+            }
+        }
+
+        throw new IllegalArgumentException("Method '" + method + "' has invalid condition: " + condition);
+    }
+
+    private static String getProperty(String property) {
+        if ("Key".equals(property)) {
+            return "_key";
+        }
+
+        return Character.toLowerCase(property.charAt(0)) + property.substring(1);
+    }
+
+    private static String getBindName(ParameterElement parameter) {
+        return parameter.stringValue(Bind.class).orElse(parameter.getName());
+    }
+
+    @Override
+    public int getOrder() {
+        return POSITION;
+    }
+
+    @Override
+    public @NonNull VisitorKind getVisitorKind() {
+        return VisitorKind.ISOLATING;
+    }
+}
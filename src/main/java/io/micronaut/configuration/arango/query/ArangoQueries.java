@@ -0,0 +1,31 @@
+package io.micronaut.configuration.arango.query;
+
+import io.micronaut.aop.Introduction;
+import io.micronaut.context.annotation.Type;
+import jakarta.inject.Singleton;
+import java.lang.annotation.*;
+
+/**
+ * Marks interface which {@link Query} methods are implemented at compile time
+ * and executed against {@link io.micronaut.configuration.arango.ArangoClient}
+ * database.
+ *
+ * <pre>
+ * &#64;ArangoQueries
+ * public interface UserQueries {
+ *
+ *     &#64;Query("FOR u IN users FILTER u.age &gt; &#64;age RETURN u")
+ *     List&lt;User&gt; findOlderThan(int age);
+ * }
+ * </pre>
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Introduction
+@Type(ArangoQueryInterceptor.class)
+@Singleton
+public @interface ArangoQueries {}
@@ -0,0 +1,127 @@
+package io.micronaut.configuration.arango.query;
+
+import com.arangodb.ArangoCursor;
+import com.arangodb.ArangoDatabase;
+import io.micronaut.aop.MethodInterceptor;
+import io.micronaut.aop.MethodInvocationContext;
+import io.micronaut.configuration.arango.ArangoClient;
+import io.micronaut.context.BeanProvider;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.inject.ExecutableMethod;
+import jakarta.inject.Singleton;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Executes {@link Query} methods of {@link ArangoQueries} interfaces against
+ * {@link ArangoClient#db()}, {@link ReadOnly} queries against
+ * {@link ArangoClient#readDb()}.
+ * <p>
+ * Query, bind variable names and result type are taken from compile time
+ * method metadata once per method, so no reflection or query building happens
+ * per call.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+@Internal
+@Singleton
+public class ArangoQueryInterceptor implements MethodInterceptor<Object, Object> {
+
+    private final BeanProvider<ArangoClient> clientProvider;
+    private final Map<ExecutableMethod<?, ?>, PreparedQuery> queries = new ConcurrentHashMap<>();
+
+    public ArangoQueryInterceptor(BeanProvider<ArangoClient> clientProvider) {
+        this.clientProvider = clientProvider;
+    }
+
+    @Override
+    public Object intercept(MethodInvocationContext<Object, Object> context) {
+        if (!context.hasAnnotation(Query.class)) {
+            if (context.isAbstract() && context.hasAnnotation(ArangoRepository.class)) {
+                throw new UnsupportedOperationException("Repository method " + context + " query was not derived at "
+                        + "compile time, add micronaut-arangodb to annotationProcessor path or declare @Query");
+            } else if (context.isAbstract()) {
+                throw new UnsupportedOperationException("Method " + context + " is missing @Query annotation");
+            }
+            return context.proceed();
+        }
+
+        final PreparedQuery prepared = queries.computeIfAbsent(context.getExecutableMethod(), PreparedQuery::of);
+        final Object[] parameters = context.getParameterValues();
+        final ArangoDatabase database = prepared.isReadOnly()
+                ? getReadDatabase(context)
+                : getDatabase(context);
+        return execute(database, prepared, parameters);
+    }
+
+    /**
+     * @param context of invoked method
+     * @return database query is executed against
+     */
+    protected ArangoDatabase getDatabase(MethodInvocationContext<Object, Object> context) {
+        return clientProvider.get().db();
+    }
+
+    /**
+     * @param context of invoked {@link ReadOnly} method
+     * @return database read-only query is executed against
+     */
+    protected ArangoDatabase getReadDatabase(MethodInvocationContext<Object, Object> context) {
+        return clientProvider.get().readDb();
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static Object execute(ArangoDatabase database, PreparedQuery prepared, Object[] parameters) {
+        final ArangoCursor cursor = database.query(prepared.getQuery(),
+                prepared.getResultType(),
+                prepared.getBindVars(parameters),
+                prepared.getOptions(parameters));
+
+        switch (prepared.getResult()) {
+            case CURSOR:
+                return cursor;
+            case STREAM:
+                return cursor.stream().onClose(() -> close(cursor));
+            case VOID:
+                close(cursor);
+                return null;
+            default:
+                final List<Object> result;
+                try {
+                    result = cursor.asListRemaining();
+                } finally {
+                    close(cursor);
+                }
+
+                switch (prepared.getResult()) {
+                    case SET:
+                        return new HashSet<>(result);
+                    case OPTIONAL:
+                        return result.isEmpty()
+                                ? Optional.empty()
+                                : Optional.ofNullable(result.get(0));
+                    case SINGLE:
+                        return (result.isEmpty() || result.get(0) == null)
+                                ? prepared.getEmptyResult()
+                                : result.get(0);
+                    default:
+                        return result;
+                }
+        }
+    }
+
+    private static void close(Closeable cursor) {
+        try {
+            cursor.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
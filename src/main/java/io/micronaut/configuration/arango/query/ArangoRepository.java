@@ -0,0 +1,54 @@
+package io.micronaut.configuration.arango.query;
+
+import io.micronaut.aop.Introduction;
+import io.micronaut.context.annotation.Type;
+import jakarta.inject.Singleton;
+import java.lang.annotation.*;
+
+/**
+ * Marks repository interface for ArangoDB collection which methods are turned
+ * into AQL at compile time by method name and executed against
+ * {@link io.micronaut.configuration.arango.ArangoClient} database.
+ * <p>
+ * Supported methods are {@code findBy*}, {@code countBy*}, {@code existsBy*},
+ * {@code deleteBy*}, {@code findAll}, {@code count}, {@code deleteAll},
+ * {@code save} and {@code saveAll}, conditions are properties joined with
+ * {@code And} / {@code Or} and optional operator suffix ({@code IsNot},
+ * {@code GreaterThan}, {@code GreaterThanEqual}, {@code LessThan},
+ * {@code LessThanEqual}, {@code IsLike}, {@code IsIn}, {@code IsNotIn},
+ * {@code IsNull}, {@code IsNotNull}, {@code IsTrue}, {@code IsFalse}).
+ * Condition without operator suffix is property equality, so
+ * {@code findByLoggedIn} compares {@code loggedIn} property. Property
+ * {@code Key} refers to document {@code _key}.
+ * <p>
+ * Queries are derived by annotation processor, so library must be on
+ * {@code annotationProcessor} path.
+ *
+ * <pre>
+ * &#64;ArangoRepository("users")
+ * public interface UserRepository {
+ *
+ *     List&lt;User&gt; findByNameAndAgeGreaterThan(String name, int age);
+ *
+ *     User save(User user);
+ * }
+ * </pre>
+ *
+ * Methods annotated with {@link Query} are executed as declared.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Introduction
+@Type(ArangoQueryInterceptor.class)
+@Singleton
+public @interface ArangoRepository {
+
+    /**
+     * @return collection name
+     */
+    String value();
+}
@@ -0,0 +1,67 @@
+package io.micronaut.configuration.arango.query;
+
+import io.micronaut.configuration.arango.ArangoSettings;
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.exceptions.ConfigurationException;
+import java.time.Duration;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+@Requires(property = ArangoSettings.PREFIX)
+@ConfigurationProperties(ArangoSettings.PREFIX + ".slow-query")
+public class ArangoSlowQueryConfiguration {
+
+    private Duration threshold;
+    private double explainSampleRate = 0.0;
+    private int queryMaxLength = 2048;
+
+    /**
+     * @return duration after which AQL query is reported slow, slow queries are
+     *             not logged when not set
+     */
+    public Duration getThreshold() {
+        return threshold;
+    }
+
+    public void setThreshold(Duration threshold) {
+        if (threshold.isNegative())
+            throw new ConfigurationException("Slow query threshold can not be less than 0");
+        this.threshold = threshold;
+    }
+
+    /**
+     * @return share of slow queries for which execution plan is explained and
+     *             logged, 0 means never and 1 means always
+     */
+    public double getExplainSampleRate() {
+        return explainSampleRate;
+    }
+
+    public void setExplainSampleRate(double explainSampleRate) {
+        if (explainSampleRate < 0 || explainSampleRate > 1)
+            throw new ConfigurationException("Slow query explain sample rate must be between 0 and 1");
+        this.explainSampleRate = explainSampleRate;
+    }
+
+    /**
+     * @return max length of logged AQL, longer AQL is truncated
+     */
+    public int getQueryMaxLength() {
+        return queryMaxLength;
+    }
+
+    public void setQueryMaxLength(int queryMaxLength) {
+        if (queryMaxLength < 1)
+            throw new ConfigurationException("Slow query max length can not be less than 1");
+        this.queryMaxLength = queryMaxLength;
+    }
+
+    @Override
+    public String toString() {
+        return "[threshold=" + threshold + ", explainSampleRate=" + explainSampleRate + ", queryMaxLength="
+                + queryMaxLength + ']';
+    }
+}
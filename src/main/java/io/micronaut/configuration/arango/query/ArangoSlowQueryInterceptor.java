@@ -0,0 +1,167 @@
+package io.micronaut.configuration.arango.query;
+
+import com.arangodb.ArangoCursor;
+import com.arangodb.ArangoDatabase;
+import com.arangodb.ArangoDatabaseAsync;
+import com.arangodb.entity.AqlExecutionExplainEntity;
+import com.arangodb.entity.CursorStats;
+import com.arangodb.model.AqlQueryExplainOptions;
+import io.micronaut.configuration.arango.ArangoSettings;
+import io.micronaut.configuration.arango.intercept.AqlStatements;
+import io.micronaut.configuration.arango.intercept.ArangoInterceptor;
+import io.micronaut.configuration.arango.intercept.ArangoInterceptors;
+import io.micronaut.configuration.arango.intercept.ArangoInvocation;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.Nullable;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Logs AQL queries that take longer than
+ * {@link ArangoSlowQueryConfiguration#getThreshold()} with bind variable
+ * names, cursor execution stats and calling method.
+ * <p>
+ * Sampled slow queries are explained (not executed again, as query may modify
+ * data) and their execution plan is logged.
+ * <p>
+ * Async query is measured until its future is completed, cursor stats are
+ * logged for sync queries only.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+@Requires(property = "arangodb.slow-query.threshold")
+@Requires(beans = ArangoSlowQueryConfiguration.class)
+@Singleton
+public class ArangoSlowQueryInterceptor implements ArangoInterceptor {
+
+    public static final int ORDER = 150;
+
+    private static final Logger logger = LoggerFactory.getLogger(ArangoSlowQueryInterceptor.class);
+
+    /**
+     * Packages which frames are skipped when looking for calling method, Micronaut
+     * frames include AOP chain of {@link Query} and {@link ArangoRepository}
+     * methods
+     */
+    private static final Set<String> SKIP_PACKAGES = Set.of("com.arangodb", "io.micronaut.",
+            "java.", "jdk.", "sun.", "com.sun.");
+
+    private final ArangoSlowQueryConfiguration configuration;
+    private final long thresholdNanos;
+    private final Executor executor;
+
+    public ArangoSlowQueryInterceptor(ArangoSlowQueryConfiguration configuration,
+                                      @Nullable @Named(ArangoSettings.EXECUTOR) ExecutorService executor) {
+        this.configuration = configuration;
+        this.thresholdNanos = configuration.getThreshold().toNanos();
+        this.executor = (executor == null)
+                ? ForkJoinPool.commonPool()
+                : executor;
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    @Override
+    public Object intercept(ArangoInvocation invocation) {
+        final String query = AqlStatements.getQuery(invocation);
+        if (query == null || !"query".equals(invocation.getMethod().getName())) {
+            return invocation.proceed();
+        }
+
+        final long started = System.nanoTime();
+        // caller is resolved on calling thread, async query completes on driver thread
+        final String caller = invocation.isAsync()
+                ? getCaller()
+                : null;
+        return ArangoInterceptors.proceed(invocation, (result, e) -> {
+            final long tookNanos = System.nanoTime() - started;
+            if (e == null && tookNanos >= thresholdNanos) {
+                onSlowQuery(invocation, query, tookNanos, result, (caller == null) ? getCaller() : caller);
+            }
+        });
+    }
+
+    private void onSlowQuery(ArangoInvocation invocation, String query, long tookNanos, Object result, String caller) {
+        final Map<?, ?> bindVars = AqlStatements.getBindVars(invocation);
+        final String bindNames = (bindVars == null)
+                ? "[]"
+                : bindVars.keySet().stream().map(String::valueOf).collect(Collectors.joining(", ", "[", "]"));
+        final CursorStats stats = (result instanceof ArangoCursor)
+                ? ((ArangoCursor<?>) result).getStats()
+                : null;
+        final String sanitized = AqlStatements.sanitize(query, configuration.getQueryMaxLength());
+
+        if (stats == null) {
+            logger.warn("Slow AQL query took '{}' for database '{}' with bind vars {} called from '{}': {}",
+                    Duration.ofNanos(tookNanos), invocation.getDatabase(), bindNames, caller, sanitized);
+        } else {
+            logger.warn("Slow AQL query took '{}' (executionTime={}s, scannedFull={}, scannedIndex={}, filtered={}) "
+                    + "for database '{}' with bind vars {} called from '{}': {}",
+                    Duration.ofNanos(tookNanos), stats.getExecutionTime(), stats.getScannedFull(), stats.getScannedIndex(),
+                    stats.getFiltered(), invocation.getDatabase(), bindNames, caller, sanitized);
+        }
+
+        final double sampleRate = configuration.getExplainSampleRate();
+        if (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            @SuppressWarnings("unchecked")
+            final Map<String, Object> explainBindVars = (Map<String, Object>) bindVars;
+            if (invocation.getTarget() instanceof ArangoDatabase) {
+                final ArangoDatabase database = (ArangoDatabase) invocation.getTarget();
+                CompletableFuture.runAsync(() -> {
+                    try {
+                        logPlan(database.explainQuery(query, explainBindVars, new AqlQueryExplainOptions()), sanitized);
+                    } catch (Exception e) {
+                        logger.debug("Slow AQL query explain failed: {}", sanitized, e);
+                    }
+                }, executor);
+            } else if (invocation.getTarget() instanceof ArangoDatabaseAsync) {
+                final ArangoDatabaseAsync database = (ArangoDatabaseAsync) invocation.getTarget();
+                database.explainQuery(query, explainBindVars, new AqlQueryExplainOptions()).whenComplete((explain, e) -> {
+                    if (e == null) {
+                        logPlan(explain, sanitized);
+                    } else {
+                        logger.debug("Slow AQL query explain failed: {}", sanitized, e);
+                    }
+                });
+            }
+        }
+    }
+
+    private static void logPlan(AqlExecutionExplainEntity explain, String sanitized) {
+        final AqlExecutionExplainEntity.ExecutionPlan plan = explain.getPlan();
+        if (plan != null) {
+            final String nodes = Optional.ofNullable(plan.getNodes())
+                    .map(n -> n.stream()
+                            .map(AqlExecutionExplainEntity.ExecutionNode::getType)
+                            .collect(Collectors.joining(" -> ")))
+                    .orElse("");
+            logger.warn("Slow AQL query plan with estimatedCost={}, rules={}, nodes=[{}]: {}",
+                    plan.getEstimatedCost(), plan.getRules(), nodes, sanitized);
+        }
+    }
+
+    private static String getCaller() {
+        return StackWalker.getInstance().walk(frames -> frames
+                .filter(f -> SKIP_PACKAGES.stream().noneMatch(p -> f.getClassName().startsWith(p)))
+                .filter(f -> !f.getClassName().contains("$Proxy") && !f.getClassName().contains("$Intercepted"))
+                .findFirst()
+                .map(f -> f.getClassName() + "#" + f.getMethodName() + ":" + f.getLineNumber())
+                .orElse("unknown"));
+    }
+}
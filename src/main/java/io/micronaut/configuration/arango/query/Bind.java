@@ -0,0 +1,22 @@
+package io.micronaut.configuration.arango.query;
+
+import java.lang.annotation.*;
+
+/**
+ * Binds method parameter to {@link Query} bind variable with different name
+ * than parameter name, use {@code @collection} name for collection bind
+ * variables (referenced as {@code @@collection} in AQL).
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.PARAMETER)
+public @interface Bind {
+
+    /**
+     * @return bind variable name
+     */
+    String value();
+}
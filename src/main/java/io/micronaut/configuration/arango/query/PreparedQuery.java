@@ -0,0 +1,172 @@
+package io.micronaut.configuration.arango.query;
+
+import com.arangodb.ArangoCursor;
+import com.arangodb.model.AqlQueryOptions;
+import io.micronaut.core.reflect.ReflectionUtils;
+import io.micronaut.core.type.Argument;
+import io.micronaut.core.type.ReturnType;
+import io.micronaut.inject.ExecutableMethod;
+import java.lang.reflect.Array;
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * {@link Query} resolved once per method from compile time metadata: AQL, bind
+ * variable names for each parameter, result type and how result is returned.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+final class PreparedQuery {
+
+    enum Result {
+        VOID,
+        CURSOR,
+        LIST,
+        SET,
+        STREAM,
+        OPTIONAL,
+        SINGLE
+    }
+
+    private final String query;
+    /**
+     * Bind variable name for each method parameter, null for options parameter
+     */
+    private final String[] bindNames;
+    private final int optionsIndex;
+    private final Class<?> resultType;
+    private final Result result;
+    /**
+     * Returned as {@link Result#SINGLE} when query returns nothing or null,
+     * default value for primitive return types, so it can be unboxed
+     */
+    private final Object emptyResult;
+    private final boolean readOnly;
+
+    private PreparedQuery(String query,
+                          String[] bindNames,
+                          int optionsIndex,
+                          Class<?> resultType,
+                          Result result,
+                          Object emptyResult,
+                          boolean readOnly) {
+        this.query = query;
+        this.bindNames = bindNames;
+        this.optionsIndex = optionsIndex;
+        this.resultType = resultType;
+        this.result = result;
+        this.emptyResult = emptyResult;
+        this.readOnly = readOnly;
+    }
+
+    static PreparedQuery of(ExecutableMethod<?, ?> method) {
+        final String query = method.stringValue(Query.class)
+                .orElseThrow(() -> new IllegalStateException("Method " + method + " is missing @Query annotation"));
+
+        final Argument<?>[] arguments = method.getArguments();
+        final String[] bindNames = new String[arguments.length];
+        int optionsIndex = -1;
+        for (int i = 0; i < arguments.length; i++) {
+            final Argument<?> argument = arguments[i];
+            if (AqlQueryOptions.class.equals(argument.getType())) {
+                optionsIndex = i;
+            } else {
+                bindNames[i] = argument.getAnnotationMetadata().stringValue(Bind.class)
+                        .orElse(argument.getName());
+            }
+        }
+
+        final ReturnType<?> returnType = method.getReturnType();
+        final Class<?> type = returnType.getType();
+        final Result result;
+        final Class<?> resultType;
+        if (returnType.isVoid()) {
+            result = Result.VOID;
+            resultType = Void.class;
+        } else if (ArangoCursor.class.isAssignableFrom(type)) {
+            result = Result.CURSOR;
+            resultType = getFirstTypeParameter(returnType.asArgument());
+        } else if (Set.class.isAssignableFrom(type)) {
+            result = Result.SET;
+            resultType = getFirstTypeParameter(returnType.asArgument());
+        } else if (Iterable.class.isAssignableFrom(type)) {
+            result = Result.LIST;
+            resultType = getFirstTypeParameter(returnType.asArgument());
+        } else if (Stream.class.isAssignableFrom(type)) {
+            result = Result.STREAM;
+            resultType = getFirstTypeParameter(returnType.asArgument());
+        } else if (Optional.class.isAssignableFrom(type)) {
+            result = Result.OPTIONAL;
+            resultType = getFirstTypeParameter(returnType.asArgument());
+        } else {
+            result = Result.SINGLE;
+            resultType = ReflectionUtils.getWrapperType(type);
+        }
+
+        final Object emptyResult = (result == Result.SINGLE && type.isPrimitive())
+                ? Array.get(Array.newInstance(type, 1), 0)
+                : null;
+        return new PreparedQuery(query, bindNames, optionsIndex, resultType, result, emptyResult,
+                method.hasAnnotation(ReadOnly.class));
+    }
+
+    private static Class<?> getFirstTypeParameter(Argument<?> argument) {
+        return argument.getFirstTypeVariable()
+                .map(a -> (Class<?>) a.getType())
+                .orElse(Object.class);
+    }
+
+    String getQuery() {
+        return query;
+    }
+
+    Class<?> getResultType() {
+        return resultType;
+    }
+
+    Result getResult() {
+        return result;
+    }
+
+    Object getEmptyResult() {
+        return emptyResult;
+    }
+
+    boolean isReadOnly() {
+        return readOnly;
+    }
+
+    Map<String, Object> getBindVars(Object[] parameters) {
+        final Map<String, Object> bindVars = new HashMap<>(bindNames.length + 1, 1.0f);
+        for (int i = 0; i < bindNames.length; i++) {
+            if (bindNames[i] != null) {
+                bindVars.put(bindNames[i], parameters[i]);
+            }
+        }
+        return bindVars;
+    }
+
+    AqlQueryOptions getOptions(Object[] parameters) {
+        final Object options = (optionsIndex == -1)
+                ? null
+                : parameters[optionsIndex];
+        if (!readOnly || (options != null && ((AqlQueryOptions) options).getAllowDirtyRead() != null)) {
+            return (options == null)
+                    ? new AqlQueryOptions()
+                    : (AqlQueryOptions) options;
+        }
+
+        // caller options are copied, so dirty reads do not leak into caller's later queries
+        final AqlQueryOptions queryOptions = (options == null)
+                ? new AqlQueryOptions()
+                : ((AqlQueryOptions) options).clone();
+        return queryOptions.allowDirtyRead(true);
+    }
+
+    @Override
+    public String toString() {
+        return "[query=" + query + ", bindNames=" + Arrays.toString(bindNames) + ", resultType=" + resultType
+                + ", result=" + result + ", readOnly=" + readOnly + ']';
+    }
+}
@@ -0,0 +1,26 @@
+package io.micronaut.configuration.arango.query;
+
+import java.lang.annotation.*;
+
+/**
+ * AQL query executed when annotated method of {@link ArangoQueries} interface
+ * is called.
+ * <p>
+ * Method parameters are bound to query bind variables by name (or by
+ * {@link Bind}), {@link com.arangodb.model.AqlQueryOptions} parameter is used
+ * as query options. Bind variables are validated against method parameters at
+ * compile time.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface Query {
+
+    /**
+     * @return AQL query
+     */
+    String value();
+}
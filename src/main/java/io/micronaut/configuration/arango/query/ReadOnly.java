@@ -0,0 +1,17 @@
+package io.micronaut.configuration.arango.query;
+
+import java.lang.annotation.*;
+
+/**
+ * Marks {@link Query} that only reads data, so it is executed against
+ * {@link io.micronaut.configuration.arango.ArangoClient#readDb()} with dirty
+ * reads allowed (unless options parameter sets them explicitly) and can be
+ * served by followers of read hosts.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface ReadOnly {}
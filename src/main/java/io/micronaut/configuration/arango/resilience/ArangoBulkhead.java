@@ -0,0 +1,78 @@
+package io.micronaut.configuration.arango.resilience;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caps concurrent calls of single connection, so threads do not pile up
+ * waiting for degraded database.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+public final class ArangoBulkhead {
+
+    private final int maxConcurrentCalls;
+    private final long maxWaitNanos;
+    private final Semaphore permits;
+    private final LongAdder rejected = new LongAdder();
+
+    ArangoBulkhead(ArangoResilienceConfiguration configuration) {
+        this.maxConcurrentCalls = configuration.getMaxConcurrentCalls();
+        this.maxWaitNanos = configuration.getMaxWait().toNanos();
+        this.permits = new Semaphore(maxConcurrentCalls);
+    }
+
+    public int getMaxConcurrentCalls() {
+        return maxConcurrentCalls;
+    }
+
+    /**
+     * @return calls that can start without waiting
+     */
+    public int getAvailable() {
+        return permits.availablePermits();
+    }
+
+    /**
+     * @return calls rejected since bulkhead was created
+     */
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    boolean tryAcquire() {
+        return tryAcquire(true);
+    }
+
+    /**
+     * @param wait whenever to wait max wait for permit, async callers do not wait
+     * @return whenever permit is acquired
+     */
+    boolean tryAcquire(boolean wait) {
+        try {
+            final boolean acquired = (maxWaitNanos == 0 || !wait)
+                    ? permits.tryAcquire()
+                    : permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+            if (!acquired) {
+                rejected.increment();
+            }
+            return acquired;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            rejected.increment();
+            return false;
+        }
+    }
+
+    void release() {
+        permits.release();
+    }
+
+    @Override
+    public String toString() {
+        return "[available=" + permits.availablePermits() + ", maxConcurrentCalls=" + maxConcurrentCalls + ", rejected="
+                + rejected.sum() + ']';
+    }
+}
@@ -0,0 +1,147 @@
+package io.micronaut.configuration.arango.resilience;
+
+import io.micronaut.core.annotation.NonNull;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Circuit breaker of single connection, opened when failure rate of last calls
+ * reaches threshold. While open calls are rejected without waiting for
+ * timeout, after open duration limited trial calls are permitted and circuit
+ * is closed when all of them succeed or opened again on first failure.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+public final class ArangoCircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final ArangoResilienceConfiguration configuration;
+    private final long openNanos;
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     * Results of last calls as ring buffer, true for failed call, guarded by this
+     */
+    private final boolean[] window;
+    private int windowIndex = 0;
+    private int windowCalls = 0;
+    private int windowFailures = 0;
+
+    private volatile State state = State.CLOSED;
+    private long openedAt;
+    private int halfOpenPermits;
+    private int halfOpenSucceeded;
+
+    ArangoCircuitBreaker(ArangoResilienceConfiguration configuration) {
+        this.configuration = configuration;
+        this.openNanos = configuration.getOpenDuration().toNanos();
+        this.window = new boolean[configuration.getSlidingWindowSize()];
+    }
+
+    public @NonNull State getState() {
+        return state;
+    }
+
+    /**
+     * @return share of failed calls in sliding window
+     */
+    public synchronized double getFailureRate() {
+        return (windowCalls == 0)
+                ? 0
+                : (double) windowFailures / windowCalls;
+    }
+
+    /**
+     * @return calls rejected since circuit was created
+     */
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    synchronized boolean tryAcquire(long now) {
+        if (state == State.OPEN) {
+            if (now - openedAt < openNanos) {
+                rejected.increment();
+                return false;
+            }
+
+            state = State.HALF_OPEN;
+            halfOpenPermits = configuration.getHalfOpenCalls();
+            halfOpenSucceeded = 0;
+        }
+
+        if (state == State.HALF_OPEN) {
+            if (halfOpenPermits == 0) {
+                rejected.increment();
+                return false;
+            }
+            halfOpenPermits--;
+        }
+        return true;
+    }
+
+    /**
+     * Returns permit of call that was acquired but not made
+     */
+    synchronized void release() {
+        if (state == State.HALF_OPEN && halfOpenPermits < configuration.getHalfOpenCalls()) {
+            halfOpenPermits++;
+        }
+    }
+
+    synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            if (++halfOpenSucceeded >= configuration.getHalfOpenCalls()) {
+                state = State.CLOSED;
+            }
+        } else if (state == State.CLOSED) {
+            record(false);
+        }
+    }
+
+    synchronized void onFailure(long now) {
+        if (state == State.HALF_OPEN) {
+            open(now);
+        } else if (state == State.CLOSED) {
+            record(true);
+            if (windowCalls >= configuration.getMinimumCalls()
+                    && windowFailures >= configuration.getFailureRateThreshold() * windowCalls) {
+                open(now);
+            }
+        }
+    }
+
+    private void record(boolean failed) {
+        if (windowCalls == window.length) {
+            if (window[windowIndex]) {
+                windowFailures--;
+            }
+        } else {
+            windowCalls++;
+        }
+
+        window[windowIndex] = failed;
+        if (failed) {
+            windowFailures++;
+        }
+        windowIndex = (windowIndex + 1) % window.length;
+    }
+
+    private void open(long now) {
+        state = State.OPEN;
+        openedAt = now;
+        windowIndex = 0;
+        windowCalls = 0;
+        windowFailures = 0;
+    }
+
+    @Override
+    public String toString() {
+        return "[state=" + state + ", failureRate=" + getFailureRate() + ", rejected=" + rejected.sum() + ']';
+    }
+}
@@ -0,0 +1,17 @@
+package io.micronaut.configuration.arango.resilience;
+
+import com.arangodb.ArangoDBException;
+
+/**
+ * Thrown when call is rejected without calling database, because circuit of
+ * connection is open or its concurrent calls limit is reached.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+public class ArangoRejectedException extends ArangoDBException {
+
+    public ArangoRejectedException(String message) {
+        super(message);
+    }
+}
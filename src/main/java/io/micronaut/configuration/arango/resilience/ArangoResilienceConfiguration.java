@@ -0,0 +1,136 @@
+package io.micronaut.configuration.arango.resilience;
+
+import io.micronaut.configuration.arango.ArangoSettings;
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.exceptions.ConfigurationException;
+import java.time.Duration;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+@Requires(property = ArangoSettings.PREFIX)
+@ConfigurationProperties(ArangoSettings.PREFIX + ".resilience")
+public class ArangoResilienceConfiguration {
+
+    private boolean enabled = false;
+    private double failureRateThreshold = 0.5;
+    private int slidingWindowSize = 50;
+    private int minimumCalls = 10;
+    private Duration openDuration = Duration.ofSeconds(30);
+    private int halfOpenCalls = 3;
+    private int maxConcurrentCalls = 100;
+    private Duration maxWait = Duration.ZERO;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * @return share of failed calls in sliding window after which circuit is
+     *             opened
+     */
+    public double getFailureRateThreshold() {
+        return failureRateThreshold;
+    }
+
+    public void setFailureRateThreshold(double failureRateThreshold) {
+        if (failureRateThreshold <= 0 || failureRateThreshold > 1)
+            throw new ConfigurationException("Resilience failure rate threshold must be greater than 0 and not greater than 1");
+        this.failureRateThreshold = failureRateThreshold;
+    }
+
+    /**
+     * @return amount of last calls failure rate is calculated for
+     */
+    public int getSlidingWindowSize() {
+        return slidingWindowSize;
+    }
+
+    public void setSlidingWindowSize(int slidingWindowSize) {
+        if (slidingWindowSize < 1)
+            throw new ConfigurationException("Resilience sliding window size can not be less than 1");
+        this.slidingWindowSize = slidingWindowSize;
+    }
+
+    /**
+     * @return calls required in sliding window before failure rate is checked
+     */
+    public int getMinimumCalls() {
+        return minimumCalls;
+    }
+
+    public void setMinimumCalls(int minimumCalls) {
+        if (minimumCalls < 1)
+            throw new ConfigurationException("Resilience minimum calls can not be less than 1");
+        this.minimumCalls = minimumCalls;
+    }
+
+    /**
+     * @return time calls fail fast after circuit is opened, before trial calls
+     *             are permitted
+     */
+    public Duration getOpenDuration() {
+        return openDuration;
+    }
+
+    public void setOpenDuration(Duration openDuration) {
+        if (openDuration.isNegative() || openDuration.isZero())
+            throw new ConfigurationException("Resilience open duration must be greater than 0");
+        this.openDuration = openDuration;
+    }
+
+    /**
+     * @return trial calls permitted in half-open state, circuit is closed when
+     *             all of them succeed
+     */
+    public int getHalfOpenCalls() {
+        return halfOpenCalls;
+    }
+
+    public void setHalfOpenCalls(int halfOpenCalls) {
+        if (halfOpenCalls < 1)
+            throw new ConfigurationException("Resilience half open calls can not be less than 1");
+        this.halfOpenCalls = halfOpenCalls;
+    }
+
+    /**
+     * @return max concurrent calls per connection, calls over limit are rejected
+     */
+    public int getMaxConcurrentCalls() {
+        return maxConcurrentCalls;
+    }
+
+    public void setMaxConcurrentCalls(int maxConcurrentCalls) {
+        if (maxConcurrentCalls < 1)
+            throw new ConfigurationException("Resilience max concurrent calls can not be less than 1");
+        this.maxConcurrentCalls = maxConcurrentCalls;
+    }
+
+    /**
+     * @return time call waits for concurrent call to complete before it is
+     *             rejected
+     */
+    public Duration getMaxWait() {
+        return maxWait;
+    }
+
+    public void setMaxWait(Duration maxWait) {
+        if (maxWait.isNegative())
+            throw new ConfigurationException("Resilience max wait can not be negative");
+        this.maxWait = maxWait;
+    }
+
+    @Override
+    public String toString() {
+        return "[enabled=" + enabled + ", failureRateThreshold=" + failureRateThreshold + ", slidingWindowSize="
+                + slidingWindowSize + ", minimumCalls=" + minimumCalls + ", openDuration=" + openDuration
+                + ", halfOpenCalls=" + halfOpenCalls + ", maxConcurrentCalls=" + maxConcurrentCalls + ", maxWait="
+                + maxWait + ']';
+    }
+}
@@ -0,0 +1,130 @@
+package io.micronaut.configuration.arango.resilience;
+
+import io.micronaut.configuration.arango.ArangoClusterConfiguration;
+import io.micronaut.configuration.arango.ArangoConfiguration;
+import io.micronaut.configuration.arango.ArangoSettings;
+import io.micronaut.configuration.arango.intercept.ArangoInterceptor;
+import io.micronaut.configuration.arango.intercept.ArangoInterceptors;
+import io.micronaut.configuration.arango.intercept.ArangoInvocation;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import jakarta.inject.Singleton;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Guards ArangoDB driver requests of each connection (default, read hosts
+ * accessor and {@link ArangoClusterConfiguration} clusters) with
+ * {@link ArangoCircuitBreaker} and {@link ArangoBulkhead}, rejected calls fail
+ * fast with {@link ArangoRejectedException}.
+ * <p>
+ * Async calls are guarded until their future is completed, they are rejected
+ * with failed future and do not wait for bulkhead permit.
+ * <p>
+ * Connection errors, timeouts and 5xx responses are counted as failures,
+ * errors caused by request itself (e.g. document not found) are not.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+@Requires(property = "arangodb.resilience.enabled", value = "true", defaultValue = "false")
+@Requires(beans = ArangoResilienceConfiguration.class)
+@Singleton
+public class ArangoResilienceInterceptor implements ArangoInterceptor {
+
+    /**
+     * Runs after tracing so rejected calls are traced, but before metrics so they
+     * are not reported as database requests
+     */
+    public static final int ORDER = 80;
+
+    public static final String DEFAULT_CONNECTION = "default";
+
+    private final Map<String, ArangoCircuitBreaker> circuitBreakers;
+    private final Map<String, ArangoBulkhead> bulkheads;
+
+    public ArangoResilienceInterceptor(ArangoResilienceConfiguration configuration,
+                                       @Nullable ArangoConfiguration arangoConfiguration,
+                                       List<ArangoClusterConfiguration> clusters) {
+        final Map<String, ArangoCircuitBreaker> connectionCircuitBreakers = new LinkedHashMap<>();
+        final Map<String, ArangoBulkhead> connectionBulkheads = new LinkedHashMap<>();
+        connectionCircuitBreakers.put(DEFAULT_CONNECTION, new ArangoCircuitBreaker(configuration));
+        connectionBulkheads.put(DEFAULT_CONNECTION, new ArangoBulkhead(configuration));
+        // read hosts are separate servers, so their failures and load do not affect default connection
+        if (arangoConfiguration != null && !arangoConfiguration.getReadHosts().isEmpty()) {
+            connectionCircuitBreakers.put(ArangoSettings.READ, new ArangoCircuitBreaker(configuration));
+            connectionBulkheads.put(ArangoSettings.READ, new ArangoBulkhead(configuration));
+        }
+        for (ArangoClusterConfiguration cluster : clusters) {
+            connectionCircuitBreakers.put(cluster.getName(), new ArangoCircuitBreaker(configuration));
+            connectionBulkheads.put(cluster.getName(), new ArangoBulkhead(configuration));
+        }
+
+        this.circuitBreakers = Map.copyOf(connectionCircuitBreakers);
+        this.bulkheads = Map.copyOf(connectionBulkheads);
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    /**
+     * @return circuit breakers by connection name, default connection is named
+     *             {@link #DEFAULT_CONNECTION} and read hosts accessor
+     *             {@link ArangoSettings#READ}
+     */
+    public @NonNull Map<String, ArangoCircuitBreaker> getCircuitBreakers() {
+        return circuitBreakers;
+    }
+
+    /**
+     * @return bulkheads by connection name, default connection is named
+     *             {@link #DEFAULT_CONNECTION} and read hosts accessor
+     *             {@link ArangoSettings#READ}
+     */
+    public @NonNull Map<String, ArangoBulkhead> getBulkheads() {
+        return bulkheads;
+    }
+
+    @Override
+    public Object intercept(ArangoInvocation invocation) {
+        final String connection = (invocation.getCluster() == null || !circuitBreakers.containsKey(invocation.getCluster()))
+                ? DEFAULT_CONNECTION
+                : invocation.getCluster();
+
+        // circuit is checked first, so calls fail fast while it is open instead of waiting for bulkhead
+        final ArangoCircuitBreaker circuitBreaker = circuitBreakers.get(connection);
+        if (!circuitBreaker.tryAcquire(System.nanoTime())) {
+            return ArangoInterceptors.reject(invocation, new ArangoRejectedException("ArangoDB connection '" + connection
+                    + "' circuit is " + circuitBreaker.getState() + ", call " + invocation.getOperation() + " rejected"));
+        }
+
+        final ArangoBulkhead bulkhead = bulkheads.get(connection);
+        if (!bulkhead.tryAcquire(!invocation.isAsync())) {
+            circuitBreaker.release();
+            return ArangoInterceptors.reject(invocation, new ArangoRejectedException("ArangoDB connection '" + connection
+                    + "' reached " + bulkhead.getMaxConcurrentCalls() + " concurrent calls, call "
+                    + invocation.getOperation() + " rejected"));
+        }
+
+        return ArangoInterceptors.proceed(invocation, (result, e) -> {
+            try {
+                if (e != null && ArangoInterceptors.isServerFailure(e)) {
+                    circuitBreaker.onFailure(System.nanoTime());
+                } else {
+                    circuitBreaker.onSuccess();
+                }
+            } finally {
+                bulkhead.release();
+            }
+        });
+    }
+
+    @Override
+    public String toString() {
+        return "[circuitBreakers=" + circuitBreakers + ", bulkheads=" + bulkheads + ']';
+    }
+}
@@ -0,0 +1,67 @@
+package io.micronaut.configuration.arango.resilience;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micronaut.context.annotation.Requires;
+import jakarta.inject.Singleton;
+
+/**
+ * Binds {@link ArangoResilienceInterceptor} circuit breaker and bulkhead state
+ * of each connection to Micrometer.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+@Requires(classes = MeterRegistry.class)
+@Requires(beans = ArangoResilienceInterceptor.class)
+@Singleton
+public class ArangoResilienceMetricsBinder implements MeterBinder {
+
+    /**
+     * Circuit state as 0 for closed, 1 for open and 2 for half-open
+     */
+    public static final String CIRCUIT_STATE = "arangodb.client.circuit.state";
+    public static final String CIRCUIT_FAILURE_RATE = "arangodb.client.circuit.failure.rate";
+    public static final String BULKHEAD_AVAILABLE = "arangodb.client.bulkhead.available";
+    public static final String REJECTED = "arangodb.client.rejected";
+
+    private static final String TAG_CLUSTER = "cluster";
+    private static final String TAG_REASON = "reason";
+
+    private final ArangoResilienceInterceptor interceptor;
+
+    public ArangoResilienceMetricsBinder(ArangoResilienceInterceptor interceptor) {
+        this.interceptor = interceptor;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        interceptor.getCircuitBreakers().forEach((connection, circuitBreaker) -> {
+            Gauge.builder(CIRCUIT_STATE, circuitBreaker, c -> c.getState().ordinal())
+                    .description("ArangoDB circuit state, 0 - closed, 1 - open, 2 - half-open")
+                    .tag(TAG_CLUSTER, connection)
+                    .register(registry);
+            Gauge.builder(CIRCUIT_FAILURE_RATE, circuitBreaker, ArangoCircuitBreaker::getFailureRate)
+                    .description("ArangoDB failed calls share in circuit sliding window")
+                    .tag(TAG_CLUSTER, connection)
+                    .register(registry);
+            FunctionCounter.builder(REJECTED, circuitBreaker, ArangoCircuitBreaker::getRejected)
+                    .description("ArangoDB calls rejected without calling database")
+                    .tags(TAG_CLUSTER, connection, TAG_REASON, "circuit")
+                    .register(registry);
+        });
+
+        interceptor.getBulkheads().forEach((connection, bulkhead) -> {
+            Gauge.builder(BULKHEAD_AVAILABLE, bulkhead, ArangoBulkhead::getAvailable)
+                    .description("ArangoDB calls that can start without waiting")
+                    .tag(TAG_CLUSTER, connection)
+                    .register(registry);
+            FunctionCounter.builder(REJECTED, bulkhead, ArangoBulkhead::getRejected)
+                    .description("ArangoDB calls rejected without calling database")
+                    .tags(TAG_CLUSTER, connection, TAG_REASON, "bulkhead")
+                    .register(registry);
+        });
+    }
+}
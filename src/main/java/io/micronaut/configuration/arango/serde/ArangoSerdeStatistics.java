@@ -0,0 +1,93 @@
+package io.micronaut.configuration.arango.serde;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Allocation and throughput counters for {@link StreamingArangoSerde}.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+public final class ArangoSerdeStatistics {
+
+    private final LongAdder serializedDocuments = new LongAdder();
+    private final LongAdder serializedBytes = new LongAdder();
+    private final LongAdder deserializedDocuments = new LongAdder();
+    private final LongAdder deserializedBytes = new LongAdder();
+    private final LongAdder bufferAllocations = new LongAdder();
+    private final LongAdder bufferAllocatedBytes = new LongAdder();
+
+    void onSerialized(int bytes) {
+        serializedDocuments.increment();
+        serializedBytes.add(bytes);
+    }
+
+    void onDeserialized(int bytes) {
+        deserializedDocuments.increment();
+        deserializedBytes.add(bytes);
+    }
+
+    void onBufferAllocated(int bytes) {
+        bufferAllocations.increment();
+        bufferAllocatedBytes.add(bytes);
+    }
+
+    /**
+     * @return amount of documents serialized
+     */
+    public long getSerializedDocuments() {
+        return serializedDocuments.sum();
+    }
+
+    /**
+     * @return amount of bytes returned to driver as serialized documents
+     */
+    public long getSerializedBytes() {
+        return serializedBytes.sum();
+    }
+
+    public long getDeserializedDocuments() {
+        return deserializedDocuments.sum();
+    }
+
+    public long getDeserializedBytes() {
+        return deserializedBytes.sum();
+    }
+
+    /**
+     * @return amount of times pooled buffer was allocated or had to grow
+     */
+    public long getBufferAllocations() {
+        return bufferAllocations.sum();
+    }
+
+    /**
+     * @return amount of bytes allocated for pooled buffers
+     */
+    public long getBufferAllocatedBytes() {
+        return bufferAllocatedBytes.sum();
+    }
+
+    /**
+     * Serialized document itself is always allocated once as it is returned to
+     * driver, all other allocations are pooled buffer allocations.
+     *
+     * @return average bytes allocated per serialized document
+     */
+    public long getAllocatedBytesPerDocument() {
+        final long documents = getSerializedDocuments();
+        return (documents == 0)
+                ? 0
+                : (getSerializedBytes() + getBufferAllocatedBytes()) / documents;
+    }
+
+    @Override
+    public String toString() {
+        return "[serializedDocuments=" + getSerializedDocuments() +
+                ", serializedBytes=" + getSerializedBytes() +
+                ", deserializedDocuments=" + getDeserializedDocuments() +
+                ", deserializedBytes=" + getDeserializedBytes() +
+                ", bufferAllocations=" + getBufferAllocations() +
+                ", bufferAllocatedBytes=" + getBufferAllocatedBytes() + ']';
+    }
+}
@@ -0,0 +1,64 @@
+package io.micronaut.configuration.arango.serde;
+
+import com.arangodb.serde.ArangoSerde;
+import io.micronaut.configuration.arango.ArangoSettings;
+import io.micronaut.context.annotation.Context;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.beans.BeanIntrospection;
+import io.micronaut.core.beans.BeanIntrospector;
+import io.micronaut.core.type.Argument;
+import io.micronaut.serde.SerdeRegistry;
+import io.micronaut.serde.annotation.Serdeable;
+import jakarta.annotation.PostConstruct;
+import java.util.Collection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Resolves serializers and deserializers for all {@link Serdeable} types on
+ * startup, so first requests after deploy do not pay for serde resolution.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+@Requires(property = ArangoSettings.PREFIX + ".serde.warmup", value = "true", defaultValue = "false")
+@Requires(beans = { ArangoSerde.class, SerdeRegistry.class })
+@Context
+@Internal
+public class ArangoSerdeWarmup {
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final ArangoSerde serde;
+    private final SerdeRegistry registry;
+
+    public ArangoSerdeWarmup(ArangoSerde serde, SerdeRegistry registry) {
+        this.serde = serde;
+        this.registry = registry;
+    }
+
+    @PostConstruct
+    public void warmup() {
+        final long startTime = System.currentTimeMillis();
+        final Collection<BeanIntrospection<Object>> introspections = BeanIntrospector.SHARED.findIntrospections(Serdeable.class);
+        int resolved = 0;
+        for (BeanIntrospection<Object> introspection : introspections) {
+            final Class<Object> type = introspection.getBeanType();
+            try {
+                if (serde instanceof CompiledArangoSerde) {
+                    ((CompiledArangoSerde) serde).warmup(type);
+                } else {
+                    registry.findSerializer(Argument.of(type));
+                    registry.findDeserializer(Argument.of(type));
+                }
+                resolved++;
+            } catch (Exception e) {
+                logger.debug("ArangoDB Serde warmup skipped type '{}' due to: {}", type.getName(), e.getMessage());
+            }
+        }
+
+        final long tookTime = System.currentTimeMillis() - startTime;
+        logger.debug("ArangoDB Serde warmup resolved '{}' types in '{}' millis", resolved, tookTime);
+    }
+}
@@ -0,0 +1,163 @@
+package io.micronaut.configuration.arango.serde;
+
+import com.arangodb.serde.ArangoSerde;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import io.micronaut.core.serialize.exceptions.SerializationException;
+import io.micronaut.core.type.Argument;
+import io.micronaut.serde.Decoder;
+import io.micronaut.serde.Deserializer;
+import io.micronaut.serde.Encoder;
+import io.micronaut.serde.SerdeRegistry;
+import io.micronaut.serde.Serializer;
+import io.micronaut.serde.exceptions.SerdeException;
+import io.micronaut.serde.jackson.JacksonDecoder;
+import io.micronaut.serde.jackson.JacksonEncoder;
+import java.io.IOException;
+
+/**
+ * {@link ArangoSerde} that resolves Micronaut {@link Serializer} and
+ * {@link Deserializer} once per type and caches them, documents are written
+ * directly via {@link JsonFactory} streaming API into pooled buffers.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+public class CompiledArangoSerde implements ArangoSerde {
+
+    private static final class SerializerEntry {
+
+        private final Argument<Object> argument;
+        private final Serializer<Object> serializer;
+
+        private SerializerEntry(Argument<Object> argument, Serializer<Object> serializer) {
+            this.argument = argument;
+            this.serializer = serializer;
+        }
+    }
+
+    private static final class DeserializerEntry {
+
+        private final Argument<Object> argument;
+        private final Deserializer<Object> deserializer;
+
+        private DeserializerEntry(Argument<Object> argument, Deserializer<Object> deserializer) {
+            this.argument = argument;
+            this.deserializer = deserializer;
+        }
+    }
+
+    private final SerdeRegistry registry;
+    private final JsonFactory factory;
+    private final SerdeBufferPool pool;
+    private final ArangoSerdeStatistics statistics;
+
+    private final ClassValue<SerializerEntry> serializers = new ClassValue<>() {
+
+        @Override
+        protected SerializerEntry computeValue(Class<?> type) {
+            return createSerializer(type);
+        }
+    };
+
+    private final ClassValue<DeserializerEntry> deserializers = new ClassValue<>() {
+
+        @Override
+        protected DeserializerEntry computeValue(Class<?> type) {
+            return createDeserializer(type);
+        }
+    };
+
+    public CompiledArangoSerde(SerdeRegistry registry,
+                               JsonFactory factory,
+                               int bufferSize,
+                               int bufferMaxSize,
+                               int poolSize,
+                               ArangoSerdeStatistics statistics) {
+        this.registry = registry;
+        this.factory = factory;
+        this.pool = new SerdeBufferPool(bufferSize, bufferMaxSize, poolSize, statistics);
+        this.statistics = statistics;
+    }
+
+    @SuppressWarnings("unchecked")
+    private SerializerEntry createSerializer(Class<?> type) {
+        try {
+            final Argument<Object> argument = (Argument<Object>) Argument.of(type);
+            final Serializer<Object> serializer = (Serializer<Object>) registry.findSerializer(argument)
+                    .createSpecific(registry.newEncoderContext(null), argument);
+            return new SerializerEntry(argument, serializer);
+        } catch (SerdeException e) {
+            throw new SerializationException("Can't resolve serializer for: " + type, e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private DeserializerEntry createDeserializer(Class<?> type) {
+        try {
+            final Argument<Object> argument = (Argument<Object>) Argument.of(type);
+            final Deserializer<Object> deserializer = (Deserializer<Object>) registry.findDeserializer(argument)
+                    .createSpecific(registry.newDecoderContext(null), argument);
+            return new DeserializerEntry(argument, deserializer);
+        } catch (SerdeException e) {
+            throw new SerializationException("Can't resolve deserializer for: " + type, e);
+        }
+    }
+
+    /**
+     * Resolves and caches serializer and deserializer for type ahead of first
+     * usage
+     *
+     * @param type to resolve serde for
+     */
+    public void warmup(Class<?> type) {
+        serializers.get(type);
+        deserializers.get(type);
+    }
+
+    @Override
+    public byte[] serialize(Object value) {
+        final SerdeBufferPool.Buffer buffer = pool.acquire();
+        try {
+            try (JsonGenerator generator = factory.createGenerator(buffer)) {
+                final Encoder encoder = JacksonEncoder.create(generator);
+                if (value == null) {
+                    encoder.encodeNull();
+                } else {
+                    final SerializerEntry entry = serializers.get(value.getClass());
+                    entry.serializer.serialize(encoder, registry.newEncoderContext(null), entry.argument, value);
+                }
+            }
+
+            final byte[] bytes = buffer.toByteArray();
+            statistics.onSerialized(bytes.length);
+            return bytes;
+        } catch (IOException e) {
+            throw (value == null)
+                    ? new SerializationException("Can't serialize", e)
+                    : new SerializationException("Can't serialize: " + value.getClass(), e);
+        } finally {
+            pool.release(buffer);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T deserialize(byte[] content, Class<T> clazz) {
+        try (JsonParser parser = factory.createParser(content)) {
+            final Decoder decoder = JacksonDecoder.create(parser);
+            final DeserializerEntry entry = deserializers.get(clazz);
+            final T value = (T) entry.deserializer.deserializeNullable(decoder, registry.newDecoderContext(null),
+                    entry.argument);
+            statistics.onDeserialized(content.length);
+            return value;
+        } catch (IOException e) {
+            throw new SerializationException("Can't deserialize: " + clazz, e);
+        }
+    }
+
+    public ArangoSerdeStatistics getStatistics() {
+        return statistics;
+    }
+}
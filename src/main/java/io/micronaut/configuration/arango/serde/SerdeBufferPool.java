@@ -0,0 +1,96 @@
+package io.micronaut.configuration.arango.serde;
+
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Bounded pool of growable byte buffers used for serialization. Pool is not
+ * bound to threads, so it works the same for platform and virtual threads.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+final class SerdeBufferPool {
+
+    /**
+     * Unsynchronized growable {@link OutputStream}, single owner at a time.
+     */
+    static final class Buffer extends OutputStream {
+
+        private final ArangoSerdeStatistics statistics;
+
+        private byte[] buf;
+        private int count;
+
+        private Buffer(int size, ArangoSerdeStatistics statistics) {
+            this.buf = new byte[size];
+            this.statistics = statistics;
+            statistics.onBufferAllocated(size);
+        }
+
+        private void ensureCapacity(int required) {
+            if (required > buf.length) {
+                final int size = Math.max(required, buf.length << 1);
+                buf = Arrays.copyOf(buf, size);
+                statistics.onBufferAllocated(size);
+            }
+        }
+
+        @Override
+        public void write(int b) {
+            ensureCapacity(count + 1);
+            buf[count++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            ensureCapacity(count + len);
+            System.arraycopy(b, off, buf, count, len);
+            count += len;
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buf, count);
+        }
+
+        int capacity() {
+            return buf.length;
+        }
+
+        void reset() {
+            count = 0;
+        }
+    }
+
+    private final int bufferSize;
+    private final int bufferMaxSize;
+    private final BlockingQueue<Buffer> buffers;
+    private final ArangoSerdeStatistics statistics;
+
+    SerdeBufferPool(int bufferSize, int bufferMaxSize, int poolSize, ArangoSerdeStatistics statistics) {
+        this.bufferSize = bufferSize;
+        this.bufferMaxSize = bufferMaxSize;
+        this.buffers = new ArrayBlockingQueue<>(poolSize);
+        this.statistics = statistics;
+    }
+
+    Buffer acquire() {
+        final Buffer buffer = buffers.poll();
+        return (buffer == null)
+                ? new Buffer(bufferSize, statistics)
+                : buffer;
+    }
+
+    /**
+     * Buffers that grew over max size are not returned to pool, so single huge
+     * document doesn't pin memory forever
+     */
+    void release(Buffer buffer) {
+        if (buffer.capacity() <= bufferMaxSize) {
+            buffer.reset();
+            buffers.offer(buffer);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package io.micronaut.configuration.arango.serde;
+
+import com.arangodb.serde.ArangoSerde;
+import io.micronaut.core.serialize.exceptions.SerializationException;
+import io.micronaut.serde.ObjectMapper;
+import java.io.IOException;
+
+/**
+ * {@link ArangoSerde} based on {@link ObjectMapper} that writes documents into
+ * pooled buffers instead of allocating new growing buffer for each document,
+ * so serialized document is copied only once when returned to driver.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+public final class StreamingArangoSerde implements ArangoSerde {
+
+    private final ObjectMapper mapper;
+    private final SerdeBufferPool pool;
+    private final ArangoSerdeStatistics statistics;
+
+    public StreamingArangoSerde(ObjectMapper mapper,
+                                int bufferSize,
+                                int bufferMaxSize,
+                                int poolSize,
+                                ArangoSerdeStatistics statistics) {
+        this.mapper = mapper;
+        this.pool = new SerdeBufferPool(bufferSize, bufferMaxSize, poolSize, statistics);
+        this.statistics = statistics;
+    }
+
+    @Override
+    public byte[] serialize(Object value) {
+        final SerdeBufferPool.Buffer buffer = pool.acquire();
+        try {
+            mapper.writeValue(buffer, value);
+            final byte[] bytes = buffer.toByteArray();
+            statistics.onSerialized(bytes.length);
+            return bytes;
+        } catch (IOException e) {
+            throw (value == null)
+                    ? new SerializationException("Can't serialize", e)
+                    : new SerializationException("Can't serialize: " + value.getClass(), e);
+        } finally {
+            pool.release(buffer);
+        }
+    }
+
+    @Override
+    public <T> T deserialize(byte[] content, Class<T> clazz) {
+        try {
+            final T value = mapper.readValue(content, clazz);
+            statistics.onDeserialized(content.length);
+            return value;
+        } catch (IOException e) {
+            throw new SerializationException("Can't deserialize: " + clazz, e);
+        }
+    }
+
+    public ArangoSerdeStatistics getStatistics() {
+        return statistics;
+    }
+}
@@ -0,0 +1,22 @@
+package io.micronaut.configuration.arango.serde;
+
+import com.arangodb.jackson.dataformat.velocypack.VPackFactory;
+import io.micronaut.serde.SerdeRegistry;
+
+/**
+ * {@link CompiledArangoSerde} that encodes documents directly to VelocyPack,
+ * should be used with VelocyPack based {@link com.arangodb.Protocol}.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+public final class VPackArangoSerde extends CompiledArangoSerde {
+
+    public VPackArangoSerde(SerdeRegistry registry,
+                            int bufferSize,
+                            int bufferMaxSize,
+                            int poolSize,
+                            ArangoSerdeStatistics statistics) {
+        super(registry, new VPackFactory(), bufferSize, bufferMaxSize, poolSize, statistics);
+    }
+}
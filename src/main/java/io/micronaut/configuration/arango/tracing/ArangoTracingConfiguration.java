@@ -0,0 +1,71 @@
+package io.micronaut.configuration.arango.tracing;
+
+import io.micronaut.configuration.arango.ArangoSettings;
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.exceptions.ConfigurationException;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+@Requires(property = ArangoSettings.PREFIX)
+@ConfigurationProperties(ArangoSettings.PREFIX + ".tracing")
+public class ArangoTracingConfiguration {
+
+    private boolean enabled = false;
+    private boolean statement = true;
+    private int statementMaxLength = 2048;
+    private boolean propagate = false;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * @return whether sanitized AQL is recorded as span db.statement
+     */
+    public boolean isStatement() {
+        return statement;
+    }
+
+    public void setStatement(boolean statement) {
+        this.statement = statement;
+    }
+
+    /**
+     * @return max length of recorded AQL, longer AQL is truncated
+     */
+    public int getStatementMaxLength() {
+        return statementMaxLength;
+    }
+
+    public void setStatementMaxLength(int statementMaxLength) {
+        if (statementMaxLength < 1)
+            throw new ConfigurationException("Statement max length for tracing can not be less than 1");
+        this.statementMaxLength = statementMaxLength;
+    }
+
+    /**
+     * @return whether trace context is appended to AQL as comment, so it is
+     *             visible in ArangoDB slow query log and query list (disables
+     *             AQL query cache hits across traces)
+     */
+    public boolean isPropagate() {
+        return propagate;
+    }
+
+    public void setPropagate(boolean propagate) {
+        this.propagate = propagate;
+    }
+
+    @Override
+    public String toString() {
+        return "[enabled=" + enabled + ", statement=" + statement + ", statementMaxLength=" + statementMaxLength
+                + ", propagate=" + propagate + ']';
+    }
+}
@@ -0,0 +1,136 @@
+package io.micronaut.configuration.arango.tracing;
+
+import com.arangodb.ArangoDBException;
+import io.micronaut.configuration.arango.intercept.AqlStatements;
+import io.micronaut.configuration.arango.intercept.ArangoInterceptor;
+import io.micronaut.configuration.arango.intercept.ArangoInterceptors;
+import io.micronaut.configuration.arango.intercept.ArangoInvocation;
+import io.micronaut.context.annotation.Requires;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanBuilder;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+import jakarta.inject.Singleton;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Creates OpenTelemetry client span for each ArangoDB driver request with
+ * db.system, db.name, db.operation and sanitized AQL as db.statement.
+ * <p>
+ * Span is current while driver executes request, so spans created by driver
+ * transport are its children. Span of async request ends when its future is
+ * completed.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+@Requires(classes = OpenTelemetry.class)
+@Requires(beans = { OpenTelemetry.class, ArangoTracingConfiguration.class })
+@Requires(property = "arangodb.tracing.enabled", value = "true", defaultValue = "false")
+@Singleton
+public class ArangoTracingInterceptor implements ArangoInterceptor {
+
+    public static final int ORDER = 50;
+
+    static final String INSTRUMENTATION = "io.micronaut.configuration.arango";
+
+    static final String DB_SYSTEM = "db.system";
+    static final String DB_NAME = "db.name";
+    static final String DB_OPERATION = "db.operation";
+    static final String DB_STATEMENT = "db.statement";
+    static final String DB_COLLECTION = "db.arangodb.collection";
+
+    private static final String SYSTEM = "arangodb";
+
+    private static final String TRACEPARENT = "traceparent";
+    private static final Pattern TRACEPARENT_PATTERN = Pattern.compile("^[0-9a-f]{2}-[0-9a-f]{32}-[0-9a-f]{16}-[0-9a-f]{2}$");
+
+    private final OpenTelemetry openTelemetry;
+    private final Tracer tracer;
+    private final ArangoTracingConfiguration configuration;
+
+    public ArangoTracingInterceptor(OpenTelemetry openTelemetry, ArangoTracingConfiguration configuration) {
+        this.openTelemetry = openTelemetry;
+        this.tracer = openTelemetry.getTracer(INSTRUMENTATION);
+        this.configuration = configuration;
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    @Override
+    public Object intercept(ArangoInvocation invocation) {
+        final String database = invocation.getDatabase();
+        final String operation = invocation.getOperation();
+        final SpanBuilder builder = tracer.spanBuilder((database == null)
+                ? operation
+                : operation + " " + database)
+                .setSpanKind(SpanKind.CLIENT)
+                .setAttribute(DB_SYSTEM, SYSTEM)
+                .setAttribute(DB_OPERATION, operation);
+
+        if (database != null) {
+            builder.setAttribute(DB_NAME, database);
+        }
+        if (invocation.getCollection() != null) {
+            builder.setAttribute(DB_COLLECTION, invocation.getCollection());
+        }
+
+        final String query = AqlStatements.getQuery(invocation);
+        if (query != null && configuration.isStatement()) {
+            builder.setAttribute(DB_STATEMENT, AqlStatements.sanitize(query, configuration.getStatementMaxLength()));
+        }
+
+        final Span span = builder.startSpan();
+        try (Scope ignored = span.makeCurrent()) {
+            if (query != null && configuration.isPropagate()) {
+                final String comment = getTraceComment(Context.current());
+                if (comment != null) {
+                    invocation.getArguments()[0] = query + " " + comment;
+                }
+            }
+
+            return ArangoInterceptors.proceed(invocation, (result, e) -> {
+                if (e != null) {
+                    span.recordException(e);
+                    span.setStatus(StatusCode.ERROR, e.getMessage());
+                    if (e instanceof ArangoDBException && ((ArangoDBException) e).getResponseCode() != null) {
+                        span.setAttribute("db.arangodb.response_code", ((ArangoDBException) e).getResponseCode());
+                    }
+                }
+                span.end();
+            });
+        }
+    }
+
+    /**
+     * Only W3C traceparent is propagated, other fields (tracestate, baggage) may
+     * carry values of inbound request headers and are never put into AQL
+     *
+     * @return AQL comment with traceparent or null if there is no valid one
+     */
+    String getTraceComment(Context context) {
+        final Map<String, String> carrier = new HashMap<>(4);
+        openTelemetry.getPropagators().getTextMapPropagator().inject(context, carrier, Map::put);
+        final String traceparent = carrier.get(TRACEPARENT);
+        if (traceparent == null
+                || !TRACEPARENT_PATTERN.matcher(traceparent).matches()
+                || traceparent.contains("*/")
+                || traceparent.indexOf('\'') != -1
+                || traceparent.indexOf('"') != -1
+                || traceparent.indexOf('\n') != -1
+                || traceparent.indexOf('\r') != -1) {
+            return null;
+        }
+
+        return "/* " + TRACEPARENT + "='" + traceparent + "' */";
+    }
+}
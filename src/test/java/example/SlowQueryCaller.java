@@ -0,0 +1,43 @@
+package example;
+
+import io.micronaut.configuration.arango.ArangoClient;
+import io.micronaut.configuration.arango.query.ArangoQueries;
+import io.micronaut.configuration.arango.query.Query;
+import jakarta.inject.Singleton;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Calls queries from outside of module packages, so slow query caller is
+ * reported as this bean
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+@Singleton
+public class SlowQueryCaller {
+
+    @ArangoQueries
+    public interface NumberQueries {
+
+        @Query("FOR i IN 1..@count RETURN i")
+        List<Integer> range(int count);
+    }
+
+    private final NumberQueries queries;
+    private final ArangoClient client;
+
+    public SlowQueryCaller(NumberQueries queries, ArangoClient client) {
+        this.queries = queries;
+        this.client = client;
+    }
+
+    public List<Integer> rangeWithQuery(int count) {
+        return queries.range(count);
+    }
+
+    public List<Integer> rangeWithClient(int count) {
+        return client.db().query("FOR i IN 1..@count RETURN i", Integer.class, Map.of("count", count))
+                .asListRemaining();
+    }
+}
@@ -3,6 +3,7 @@
 import com.arangodb.entity.BaseDocument;
 import com.arangodb.entity.CollectionEntity;
 import com.arangodb.entity.DocumentCreateEntity;
+import com.arangodb.model.AqlQueryOptions;
 import com.arangodb.serde.ArangoSerde;
 import com.arangodb.serde.jackson.Key;
 import com.arangodb.serde.jackson.internal.JacksonSerdeImpl;
@@ -10,9 +11,11 @@
 import io.micronaut.context.ApplicationContext;
 import io.micronaut.serde.annotation.Serdeable;
 import io.testcontainers.arangodb.containers.ArangoContainer;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
@@ -225,6 +228,63 @@ void createDatabaseSimpleQuerySuccess() {
         }
     }
 
+    @Test
+    void createDatabaseWithAsyncClientSuccess() throws Exception {
+        final String database = "async-client";
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("arangodb.hosts", List.of("localhost:" + CONTAINER_3_11.getPort()));
+        properties.put("arangodb.database", database);
+
+        try (final ApplicationContext context = ApplicationContext.run(properties)) {
+            final ArangoAsyncClient client = context.getBean(ArangoAsyncClient.class);
+            assertEquals(database, client.db().name());
+            assertNotNull(client.toString());
+
+            final Boolean dbCreated = client.db().create().get(10, TimeUnit.SECONDS);
+            assertTrue(dbCreated);
+
+            final Boolean exists = context.getBean(ArangoClient.class).db().exists();
+            assertTrue(exists);
+        }
+    }
+
+    @Test
+    void queryWithReactiveClientStreamsBatches() {
+        final String database = "reactive-client";
+        final String collection = "reactive";
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("arangodb.hosts", List.of("localhost:" + CONTAINER_3_11.getPort()));
+        properties.put("arangodb.database", database);
+
+        try (final ApplicationContext context = ApplicationContext.run(properties)) {
+            final ArangoClient client = context.getBean(ArangoClient.class);
+            assertTrue(client.db().create());
+            assertNotNull(client.db().collection(collection).create());
+            for (int i = 0; i < 10; i++) {
+                final BaseDocument document = new BaseDocument();
+                document.setKey(String.valueOf(i));
+                client.db().collection(collection).insertDocument(document);
+            }
+
+            final ReactiveArangoClient reactiveClient = context.getBean(ReactiveArangoClient.class);
+            final AqlQueryOptions options = new AqlQueryOptions().batchSize(3);
+            final List<BaseDocument> all = reactiveClient
+                    .query("FOR d IN " + collection + " RETURN d", BaseDocument.class, Map.of(), options)
+                    .collectList()
+                    .block(Duration.ofSeconds(10));
+            assertNotNull(all);
+            assertEquals(10, all.size());
+
+            final List<BaseDocument> partial = reactiveClient
+                    .query("FOR d IN " + collection + " RETURN d", BaseDocument.class, Map.of(), options)
+                    .take(4)
+                    .collectList()
+                    .block(Duration.ofSeconds(10));
+            assertNotNull(partial);
+            assertEquals(4, partial.size());
+        }
+    }
+
     @Test
     void createDatabaseForProtocolHttpSimpleQuerySuccess() {
         final Map<String, Object> properties = new HashMap<>();
@@ -0,0 +1,102 @@
+package io.micronaut.configuration.arango;
+
+import com.arangodb.ArangoDB;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micronaut.configuration.arango.health.ArangoHealthIndicator;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.context.exceptions.ConfigurationException;
+import io.micronaut.health.HealthStatus;
+import io.micronaut.inject.qualifiers.Qualifiers;
+import io.micronaut.management.health.indicator.HealthResult;
+import io.testcontainers.arangodb.containers.ArangoContainer;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import reactor.core.publisher.Mono;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+@Testcontainers
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ArangoClustersTests extends ArangoRunner {
+
+    @Container
+    private static final ArangoContainer<?> CONTAINER_3_11 = new ArangoContainer<>(IMAGE_3_11).withoutAuth();
+
+    @Test
+    void clusterConnectionsCreatedWithOwnAccessors() {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("arangodb.hosts", List.of("localhost:" + CONTAINER_3_11.getPort()));
+        properties.put("arangodb.clusters.archive.hosts", List.of("localhost:" + CONTAINER_3_11.getPort()));
+        properties.put("arangodb.clusters.archive.database", "archive");
+        properties.put("arangodb.clusters.archive.connection-max", 2);
+
+        try (final ApplicationContext context = ApplicationContext.run(properties)) {
+            final ArangoConfiguration configuration = context.getBean(ArangoConfiguration.class);
+            assertEquals(ArangoSettings.SYSTEM_DATABASE, configuration.getDatabase());
+
+            final ArangoClusterConfiguration archiveConfiguration = context.getBean(ArangoClusterConfiguration.class,
+                    Qualifiers.byName("archive"));
+            assertEquals("archive", archiveConfiguration.getDatabase());
+            assertEquals(2, archiveConfiguration.getConnectionMax());
+            assertFalse(archiveConfiguration.getSslConfiguration().isEnabled());
+
+            final ArangoDB accessor = context.getBean(ArangoDB.class);
+            final ArangoDB archiveAccessor = context.getBean(ArangoDB.class, Qualifiers.byName("archive"));
+            assertNotSame(accessor, archiveAccessor);
+
+            final ArangoClient archive = context.getBean(ArangoClient.class, Qualifiers.byName("archive"));
+            assertSame(archiveAccessor, archive.accessor());
+            assertEquals("archive", archive.db().name());
+            assertTrue(archive.db().create());
+            assertEquals(ArangoSettings.SYSTEM_DATABASE, context.getBean(ArangoClient.class).db().name());
+
+            final Collection<ArangoHealthIndicator> indicators = context.getBeansOfType(ArangoHealthIndicator.class);
+            assertEquals(2, indicators.size());
+            final HealthResult archiveHealth = Mono.from(context.getBean(ArangoHealthIndicator.class,
+                    Qualifiers.byName("archive")).getResult()).block();
+            assertNotNull(archiveHealth);
+            assertEquals("arangodb-archive", archiveHealth.getName());
+            assertEquals(HealthStatus.UP, archiveHealth.getStatus());
+
+            final MeterRegistry registry = context.getBean(MeterRegistry.class);
+            assertNotNull(registry.find("arangodb.client.requests").tag("cluster", "archive").timer());
+        }
+    }
+
+    @Test
+    void clusterDatabaseCreatedOnStartup() {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("arangodb.hosts", List.of("localhost:" + CONTAINER_3_11.getPort()));
+        properties.put("arangodb.clusters.created.hosts", List.of("localhost:" + CONTAINER_3_11.getPort()));
+        properties.put("arangodb.clusters.created.database", "cluster_created");
+        properties.put("arangodb.clusters.created.create-database-if-not-exist", true);
+
+        try (final ApplicationContext context = ApplicationContext.run(properties)) {
+            final ArangoClient client = context.getBean(ArangoClient.class, Qualifiers.byName("created"));
+            assertTrue(client.db().exists());
+        }
+    }
+
+    @Test
+    void clusterReadHostsRejectedOnStartup() {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("arangodb.hosts", List.of("localhost:" + CONTAINER_3_11.getPort()));
+        properties.put("arangodb.clusters.archive.hosts", List.of("localhost:" + CONTAINER_3_11.getPort()));
+        properties.put("arangodb.clusters.archive.read-hosts", List.of("localhost:" + CONTAINER_3_11.getPort()));
+
+        final RuntimeException e = assertThrows(RuntimeException.class, () -> ApplicationContext.run(properties));
+        Throwable cause = e;
+        while (cause != null && !(cause instanceof ConfigurationException)) {
+            cause = cause.getCause();
+        }
+        assertNotNull(cause);
+    }
+}
@@ -1,12 +1,21 @@
 package io.micronaut.configuration.arango;
 
+import io.micronaut.configuration.arango.bulk.ArangoBulkConfiguration;
+import io.micronaut.configuration.arango.bulk.ArangoWriteBehindConfiguration;
+import io.micronaut.configuration.arango.cache.ArangoQueryCacheConfiguration;
+import io.micronaut.configuration.arango.health.ArangoClusterHealthConfiguration;
 import io.micronaut.configuration.arango.health.ArangoHealthConfiguration;
+import io.micronaut.configuration.arango.metrics.ArangoPoolConfiguration;
+import io.micronaut.configuration.arango.resilience.ArangoResilienceConfiguration;
 import io.micronaut.context.ApplicationContext;
 import io.micronaut.context.exceptions.ConfigurationException;
+import io.micronaut.inject.qualifiers.Qualifiers;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 
@@ -47,6 +56,21 @@ void createConnectionWithCreateDatabaseIfNotExistOnStartup() {
         }
     }
 
+    @Test
+    void configurationExecutorVirtual() {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("arangodb.hosts", List.of("localhost:" + 8528));
+        properties.put("arangodb.executor", "VIRTUAL");
+
+        try (final ApplicationContext context = ApplicationContext.run(properties)) {
+            final ArangoConfiguration configuration = context.getBean(ArangoConfiguration.class);
+            assertEquals(ArangoConfiguration.ExecutorType.VIRTUAL, configuration.getExecutor());
+            if (Runtime.version().feature() >= 21) {
+                assertTrue(context.findBean(ExecutorService.class, Qualifiers.byName(ArangoSettings.EXECUTOR)).isPresent());
+            }
+        }
+    }
+
     @Test
     void configurationDriverTimeoutNegativeFail() {
         final Map<String, Object> properties = new HashMap<>();
@@ -101,6 +125,66 @@ void createConfigurationForHostsAsList() {
         }
     }
 
+    @Test
+    void createConfigurationForReadHosts() {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("arangodb.hosts", "localhost:8528");
+        properties.put("arangodb.read-hosts", "localhost:8529,localhost:8530");
+        properties.put("arangodb.acquire-host-list", true);
+
+        try (final ApplicationContext context = ApplicationContext.run(properties)) {
+            final ArangoConfiguration configuration = context.getBean(ArangoConfiguration.class);
+            assertEquals(List.of("localhost:8529", "localhost:8530"), configuration.getReadHosts());
+            assertEquals(2, configuration.getReadArangoConfigProperties().getHosts().orElseThrow().size());
+            assertEquals(Optional.of(false), configuration.getReadArangoConfigProperties().getAcquireHostList());
+            assertEquals(Optional.of(true), configuration.getArangoConfigProperties().getAcquireHostList());
+        }
+    }
+
+    @Test
+    void createConfigurationForAdaptiveLoadBalancing() {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("arangodb.hosts", "localhost:8528,localhost:8529");
+        properties.put("arangodb.adaptive-load-balancing.enabled", true);
+        properties.put("arangodb.adaptive-load-balancing.decay-time", "5s");
+        properties.put("arangodb.adaptive-load-balancing.failure-threshold", 2);
+        properties.put("arangodb.adaptive-load-balancing.ejection-duration", "1m");
+
+        try (final ApplicationContext context = ApplicationContext.run(properties)) {
+            final ArangoConfiguration.ArangoAdaptiveLoadBalancingConfig configuration = context
+                    .getBean(ArangoConfiguration.class).getAdaptiveLoadBalancing();
+            assertTrue(configuration.isEnabled());
+            assertEquals(Duration.ofSeconds(5), configuration.getDecayTime());
+            assertEquals(2, configuration.getFailureThreshold());
+            assertEquals(Duration.ofMinutes(1), configuration.getEjectionDuration());
+        }
+    }
+
+    @Test
+    void adaptiveLoadBalancingConfigurationFail() {
+        final ArangoConfiguration.ArangoAdaptiveLoadBalancingConfig configuration =
+                new ArangoConfiguration.ArangoAdaptiveLoadBalancingConfig();
+        assertFalse(configuration.isEnabled());
+        assertThrows(ConfigurationException.class, () -> configuration.setDecayTime(Duration.ZERO));
+        assertThrows(ConfigurationException.class, () -> configuration.setFailureThreshold(0));
+        assertThrows(ConfigurationException.class, () -> configuration.setEjectionDuration(Duration.ofSeconds(-1)));
+    }
+
+    @Test
+    void resilienceConfigurationFail() {
+        final ArangoResilienceConfiguration configuration = new ArangoResilienceConfiguration();
+        assertFalse(configuration.isEnabled());
+        assertThrows(ConfigurationException.class, () -> configuration.setFailureRateThreshold(0));
+        assertThrows(ConfigurationException.class, () -> configuration.setFailureRateThreshold(1.5));
+        assertThrows(ConfigurationException.class, () -> configuration.setSlidingWindowSize(0));
+        assertThrows(ConfigurationException.class, () -> configuration.setMinimumCalls(0));
+        assertThrows(ConfigurationException.class, () -> configuration.setOpenDuration(Duration.ZERO));
+        assertThrows(ConfigurationException.class, () -> configuration.setHalfOpenCalls(0));
+        assertThrows(ConfigurationException.class, () -> configuration.setMaxConcurrentCalls(0));
+        assertThrows(ConfigurationException.class, () -> configuration.setMaxWait(Duration.ofSeconds(-1)));
+        assertNotNull(configuration.toString());
+    }
+
     @Test
     void healthConfigurationBuild() {
         final ArangoHealthConfiguration healthConfiguration = new ArangoHealthConfiguration();
@@ -121,6 +205,91 @@ void healthConfigurationRetryFail() {
         }
     }
 
+    @Test
+    void healthConfigurationPoolAndQueueFail() {
+        final ArangoHealthConfiguration healthConfiguration = new ArangoHealthConfiguration();
+        assertThrows(ConfigurationException.class, () -> healthConfiguration.setPoolSize(0));
+        assertThrows(ConfigurationException.class, () -> healthConfiguration.setQueueSize(0));
+
+        healthConfiguration.setPoolSize(4);
+        healthConfiguration.setQueueSize(10);
+        assertEquals(4, healthConfiguration.getPoolSize());
+        assertEquals(10, healthConfiguration.getQueueSize());
+    }
+
+    @Test
+    void healthConfigurationCacheTtlFail() {
+        final ArangoHealthConfiguration healthConfiguration = new ArangoHealthConfiguration();
+        assertEquals(Duration.ZERO, healthConfiguration.getCacheTtl());
+        assertThrows(ConfigurationException.class, () -> healthConfiguration.setCacheTtl(Duration.ofSeconds(-1)));
+
+        healthConfiguration.setCacheTtl(Duration.ofSeconds(10));
+        assertEquals(Duration.ofSeconds(10), healthConfiguration.getCacheTtl());
+    }
+
+    @Test
+    void clusterConfigurationUnsupportedOptionsFail() {
+        final ArangoClusterConfiguration configuration = new ArangoClusterConfiguration("archive");
+        assertThrows(ConfigurationException.class, () -> configuration.setReadHosts(List.of("localhost:8529")));
+        assertThrows(ConfigurationException.class, () -> configuration.setReadHosts("localhost:8529"));
+        assertThrows(ConfigurationException.class, () -> configuration.setExecutor(ArangoConfiguration.ExecutorType.VIRTUAL));
+        assertTrue(configuration.getReadHosts().isEmpty());
+    }
+
+    @Test
+    void healthClusterMonitorConfigurationFail() {
+        final ArangoClusterHealthConfiguration healthConfiguration = new ArangoClusterHealthConfiguration();
+        assertFalse(healthConfiguration.getMonitor().isEnabled());
+        assertThrows(ConfigurationException.class, () -> healthConfiguration.getMonitor().setInterval(Duration.ZERO));
+        assertNotNull(healthConfiguration.toString());
+    }
+
+    @Test
+    void poolConfigurationSaturationThresholdFail() {
+        final ArangoPoolConfiguration poolConfiguration = new ArangoPoolConfiguration();
+        assertThrows(ConfigurationException.class, () -> poolConfiguration.setSaturationThreshold(0));
+        assertThrows(ConfigurationException.class, () -> poolConfiguration.setSaturationThreshold(1.5));
+
+        poolConfiguration.setSaturationThreshold(0.5);
+        assertEquals(0.5, poolConfiguration.getSaturationThreshold());
+        assertThrows(ConfigurationException.class, () -> poolConfiguration.setStreamsPerConnection(0));
+        assertThrows(ConfigurationException.class, () -> poolConfiguration.setRecoveryThreshold(1));
+        assertThrows(ConfigurationException.class, () -> poolConfiguration.setRecoveryThreshold(-0.1));
+    }
+
+    @Test
+    void bulkConfigurationFail() {
+        final ArangoBulkConfiguration bulkConfiguration = new ArangoBulkConfiguration();
+        assertThrows(ConfigurationException.class, () -> bulkConfiguration.setBatchSize(0));
+        assertThrows(ConfigurationException.class, () -> bulkConfiguration.setFlushInterval(Duration.ZERO));
+        assertThrows(ConfigurationException.class, () -> bulkConfiguration.setMaxInFlightBatches(0));
+        assertThrows(ConfigurationException.class, () -> bulkConfiguration.setMaxPendingDocuments(0));
+
+        bulkConfiguration.setBatchSize(10);
+        assertEquals(10, bulkConfiguration.getBatchSize());
+        assertNotNull(bulkConfiguration.toString());
+    }
+
+    @Test
+    void writeBehindConfigurationFail() {
+        final ArangoWriteBehindConfiguration writeBehindConfiguration = new ArangoWriteBehindConfiguration();
+        assertThrows(ConfigurationException.class, () -> writeBehindConfiguration.setBatchSize(0));
+        assertThrows(ConfigurationException.class, () -> writeBehindConfiguration.setFlushInterval(Duration.ZERO));
+        assertThrows(ConfigurationException.class, () -> writeBehindConfiguration.setCapacity(0));
+
+        assertEquals(ArangoWriteBehindConfiguration.OverflowPolicy.BLOCK, writeBehindConfiguration.getOverflowPolicy());
+        assertNotNull(writeBehindConfiguration.toString());
+    }
+
+    @Test
+    void queryCacheConfigurationFail() {
+        final ArangoQueryCacheConfiguration queryCacheConfiguration = new ArangoQueryCacheConfiguration();
+        assertThrows(ConfigurationException.class, () -> queryCacheConfiguration.setMaximumEntries(0));
+        assertThrows(ConfigurationException.class, () -> queryCacheConfiguration.setMaximumBytes(0));
+        assertThrows(ConfigurationException.class, () -> queryCacheConfiguration.setExpireAfterWrite(Duration.ZERO));
+        assertNotNull(queryCacheConfiguration.toString());
+    }
+
     @Test
     void healthConfigurationTimeoutFail() {
         try {
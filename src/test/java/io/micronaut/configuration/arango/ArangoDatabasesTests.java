@@ -0,0 +1,125 @@
+package io.micronaut.configuration.arango;
+
+import com.arangodb.ArangoDB;
+import com.arangodb.ArangoDatabase;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.exceptions.BeanInstantiationException;
+import io.micronaut.context.exceptions.ConfigurationException;
+import io.micronaut.inject.qualifiers.Qualifiers;
+import io.micronaut.runtime.context.scope.refresh.RefreshEvent;
+import io.testcontainers.arangodb.containers.ArangoContainer;
+import jakarta.inject.Singleton;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+@Testcontainers
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ArangoDatabasesTests extends ArangoRunner {
+
+    @Container
+    private static final ArangoContainer<?> CONTAINER_3_11 = new ArangoContainer<>(IMAGE_3_11).withoutAuth();
+
+    static final ThreadLocal<String> TENANT = new ThreadLocal<>();
+
+    @Requires(property = "test.tenant.resolver", value = "true")
+    @Singleton
+    static class ThreadLocalTenantResolver implements ArangoTenantResolver {
+
+        @Override
+        public String resolveTenant() {
+            return TENANT.get();
+        }
+    }
+
+    @Test
+    void namedClientsShareAccessor() {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("arangodb.hosts", List.of("localhost:" + CONTAINER_3_11.getPort()));
+        properties.put("arangodb.database", "main");
+        properties.put("arangodb.databases.orders.database", "orders_db");
+        properties.put("arangodb.databases.billing.database", "billing_db");
+
+        try (final ApplicationContext context = ApplicationContext.run(properties)) {
+            final ArangoClient client = context.getBean(ArangoClient.class);
+            assertEquals("main", client.db().name());
+
+            final ArangoClient orders = context.getBean(ArangoClient.class, Qualifiers.byName("orders"));
+            assertEquals("orders_db", orders.db().name());
+            assertEquals("billing_db", context.getBean(ArangoClient.class, Qualifiers.byName("billing")).db().name());
+            assertSame(context.getBean(ArangoDB.class), orders.accessor());
+
+            orders.close();
+            assertTrue(client.accessor().getVersion().getVersion().startsWith("3"));
+        }
+    }
+
+    @Test
+    void tenantDatabasesResolvedAndCached() {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("arangodb.hosts", List.of("localhost:" + CONTAINER_3_11.getPort()));
+        properties.put("arangodb.databases.acme.database", "tenant_acme");
+        properties.put("test.tenant.resolver", true);
+
+        try (final ApplicationContext context = ApplicationContext.run(properties)) {
+            final ArangoDatabases databases = context.getBean(ArangoDatabases.class);
+            assertEquals(ArangoSettings.SYSTEM_DATABASE, databases.current().name());
+            assertEquals("tenant_acme", databases.db("acme").name());
+            assertEquals("tenant_other", databases.db("tenant_other").name());
+            assertSame(databases.db("acme"), databases.db("acme"));
+
+            TENANT.set("acme");
+            try {
+                assertEquals("tenant_acme", databases.current().name());
+            } finally {
+                TENANT.remove();
+            }
+        }
+    }
+
+    @Test
+    void tenantDatabasesCacheBoundedAndClearedOnRefresh() {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("arangodb.hosts", List.of("localhost:" + CONTAINER_3_11.getPort()));
+        properties.put("arangodb.database-cache-size", 2);
+
+        try (final ApplicationContext context = ApplicationContext.run(properties)) {
+            final ArangoDatabases databases = context.getBean(ArangoDatabases.class);
+            final ArangoDatabase recent = databases.db("tenant_recent");
+            final ArangoDatabase old = databases.db("tenant_old");
+            assertSame(recent, databases.db("tenant_recent"));
+
+            // least recently used handle is evicted, so new tenants are still cached
+            final ArangoDatabase added = databases.db("tenant_new");
+            assertSame(added, databases.db("tenant_new"));
+            assertSame(recent, databases.db("tenant_recent"));
+            assertNotSame(old, databases.db("tenant_old"));
+            assertEquals("tenant_old", databases.db("tenant_old").name());
+
+            context.publishEvent(new RefreshEvent());
+            assertNotSame(recent, databases.db("tenant_recent"));
+        }
+    }
+
+    @Test
+    void tenantDatabasesCacheSizeValidated() {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("arangodb.hosts", List.of("localhost:" + CONTAINER_3_11.getPort()));
+        properties.put("arangodb.database-cache-size", 0);
+
+        try (final ApplicationContext context = ApplicationContext.run(properties)) {
+            final BeanInstantiationException e = assertThrows(BeanInstantiationException.class,
+                    () -> context.getBean(ArangoDatabases.class));
+            assertTrue(e.getCause() instanceof ConfigurationException);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package io.micronaut.configuration.arango;
+
+import com.arangodb.serde.ArangoSerde;
+import io.micronaut.configuration.arango.serde.ArangoSerdeStatistics;
+import io.micronaut.configuration.arango.serde.CompiledArangoSerde;
+import io.micronaut.configuration.arango.serde.StreamingArangoSerde;
+import io.micronaut.configuration.arango.serde.VPackArangoSerde;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.context.exceptions.BeanInstantiationException;
+import io.micronaut.context.exceptions.ConfigurationException;
+import io.micronaut.serde.annotation.Serdeable;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ArangoSerdeTests extends ArangoRunner {
+
+    @Serdeable
+    static class SerdeExample {
+
+        private String id;
+        private String name;
+
+        public String getId() {
+            return id;
+        }
+
+        public void setId(String id) {
+            this.id = id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+
+    private static SerdeExample example(String name) {
+        final SerdeExample example = new SerdeExample();
+        example.setId("1");
+        example.setName(name);
+        return example;
+    }
+
+    @Test
+    void streamingSerdeSerializeAndDeserialize() {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("arangodb.hosts", List.of("localhost:" + 8528));
+        properties.put("arangodb.serde.mode", "STREAMING");
+        properties.put("arangodb.serde.buffer-size", 16);
+        properties.put("arangodb.serde.buffer-max-size", 64);
+
+        try (final ApplicationContext context = ApplicationContext.run(properties)) {
+            final ArangoSerde serde = context.getBean(ArangoSerde.class);
+            assertTrue(serde instanceof StreamingArangoSerde);
+
+            final byte[] small = serde.serialize(example("bob"));
+            final SerdeExample smallRead = serde.deserialize(small, SerdeExample.class);
+            assertEquals("bob", smallRead.getName());
+
+            final String largeName = "b".repeat(1000);
+            final byte[] large = serde.serialize(example(largeName));
+            final SerdeExample largeRead = serde.deserialize(large, SerdeExample.class);
+            assertEquals(largeName, largeRead.getName());
+
+            final ArangoSerdeStatistics statistics = context.getBean(ArangoSerdeStatistics.class);
+            assertEquals(2, statistics.getSerializedDocuments());
+            assertEquals(small.length + large.length, statistics.getSerializedBytes());
+            assertEquals(2, statistics.getDeserializedDocuments());
+            assertTrue(statistics.getBufferAllocations() > 0);
+            assertTrue(statistics.getAllocatedBytesPerDocument() > 0);
+        }
+    }
+
+    @Test
+    void compiledSerdeSerializeAndDeserialize() {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("arangodb.hosts", List.of("localhost:" + 8528));
+        properties.put("arangodb.serde.mode", "COMPILED");
+        properties.put("arangodb.serde.warmup", true);
+
+        try (final ApplicationContext context = ApplicationContext.run(properties)) {
+            final ArangoSerde serde = context.getBean(ArangoSerde.class);
+            assertTrue(serde instanceof CompiledArangoSerde);
+
+            final byte[] bytes = serde.serialize(example("bob"));
+            final SerdeExample read = serde.deserialize(bytes, SerdeExample.class);
+            assertEquals("1", read.getId());
+            assertEquals("bob", read.getName());
+            assertEquals("null", new String(serde.serialize(null)));
+            assertNull(serde.deserialize("null".getBytes(), SerdeExample.class));
+        }
+    }
+
+    @Test
+    void vpackSerdeSelectedForVPackProtocol() {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("arangodb.hosts", List.of("localhost:" + 8528));
+        properties.put("arangodb.protocol", "HTTP2_VPACK");
+
+        try (final ApplicationContext context = ApplicationContext.run(properties)) {
+            final ArangoSerde serde = context.getBean(ArangoSerde.class);
+            assertTrue(serde instanceof VPackArangoSerde);
+
+            final byte[] bytes = serde.serialize(example("bob"));
+            assertNotEquals('{', (char) bytes[0]);
+
+            final SerdeExample read = serde.deserialize(bytes, SerdeExample.class);
+            assertEquals("1", read.getId());
+            assertEquals("bob", read.getName());
+        }
+    }
+
+    @Test
+    void vpackSerdeRejectsStreamingMode() {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("arangodb.hosts", List.of("localhost:" + 8528));
+        properties.put("arangodb.protocol", "HTTP2_VPACK");
+        properties.put("arangodb.serde.mode", "STREAMING");
+
+        try (final ApplicationContext context = ApplicationContext.run(properties)) {
+            final BeanInstantiationException e = assertThrows(BeanInstantiationException.class,
+                    () -> context.getBean(ArangoSerde.class));
+            assertTrue(e.getCause() instanceof ConfigurationException);
+        }
+    }
+
+    @Test
+    void defaultSerdeIsNotStreaming() {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("arangodb.hosts", List.of("localhost:" + 8528));
+
+        try (final ApplicationContext context = ApplicationContext.run(properties)) {
+            final ArangoSerde serde = context.getBean(ArangoSerde.class);
+            assertFalse(serde instanceof StreamingArangoSerde);
+
+            final byte[] bytes = serde.serialize(example("bob"));
+            assertEquals("bob", serde.deserialize(bytes, SerdeExample.class).getName());
+        }
+    }
+}
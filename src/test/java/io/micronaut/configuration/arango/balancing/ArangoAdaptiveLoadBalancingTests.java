@@ -0,0 +1,159 @@
+package io.micronaut.configuration.arango.balancing;
+
+import com.arangodb.ArangoDB;
+import com.arangodb.ArangoDBException;
+import io.micronaut.configuration.arango.ArangoClient;
+import io.micronaut.configuration.arango.ArangoRunner;
+import io.micronaut.context.ApplicationContext;
+import io.testcontainers.arangodb.containers.ArangoContainer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+@Testcontainers
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ArangoAdaptiveLoadBalancingTests extends ArangoRunner {
+
+    @Container
+    private static final ArangoContainer<?> CONTAINER_3_11 = new ArangoContainer<>(IMAGE_3_11).withoutAuth();
+
+    @Test
+    void unavailableHostEjected() {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("arangodb.hosts", List.of("localhost:" + CONTAINER_3_11.getPort(), "localhost:1"));
+        properties.put("arangodb.adaptive-load-balancing.enabled", true);
+        properties.put("arangodb.adaptive-load-balancing.failure-threshold", 1);
+        properties.put("arangodb.adaptive-load-balancing.ejection-duration", "1m");
+
+        try (final ApplicationContext context = ApplicationContext.run(properties)) {
+            final ArangoDB accessor = context.getBean(ArangoDB.class);
+            int failed = 0;
+            for (int i = 0; i < 4; i++) {
+                try {
+                    assertNotNull(accessor.getVersion());
+                } catch (ArangoDBException e) {
+                    failed++;
+                }
+            }
+            assertTrue(failed <= 1);
+
+            final ArangoClient client = context.getBean(ArangoClient.class);
+            for (int i = 0; i < 10; i++) {
+                assertNotNull(accessor.getVersion());
+                assertNotNull(client.db().getInfo());
+            }
+        }
+    }
+
+    @Test
+    void requestsBalancedAcrossHosts() {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("arangodb.hosts",
+                List.of("localhost:" + CONTAINER_3_11.getPort(), "127.0.0.1:" + CONTAINER_3_11.getPort()));
+        properties.put("arangodb.adaptive-load-balancing.enabled", true);
+
+        try (final ApplicationContext context = ApplicationContext.run(properties)) {
+            final ArangoClient client = context.getBean(ArangoClient.class);
+            assertNotNull(client.db().collection("balanced").create());
+            for (int i = 0; i < 10; i++) {
+                client.db().collection("balanced").insertDocument(Map.of("_key", String.valueOf(i)));
+            }
+            assertEquals(10L, client.db().collection("balanced").count().getCount());
+        }
+    }
+
+    private static List<AdaptiveHost> getHosts(int count, long ejectionNanos) {
+        final List<AdaptiveHost> hosts = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            hosts.add(new AdaptiveHost("host-" + i, null, Duration.ofSeconds(10).toNanos(), 1, ejectionNanos));
+        }
+        return hosts;
+    }
+
+    @Test
+    void slowHostScoresHigherAndIsAvoided() {
+        final List<AdaptiveHost> hosts = getHosts(2, Duration.ofMinutes(1).toNanos());
+        final AdaptiveHost slow = hosts.get(0);
+        final AdaptiveHost fast = hosts.get(1);
+        final long now = System.nanoTime();
+        slow.onStart();
+        slow.onSuccess(now, Duration.ofMillis(100).toNanos());
+        fast.onStart();
+        fast.onSuccess(now, Duration.ofMillis(1).toNanos());
+        assertTrue(slow.getScore(now) > fast.getScore(now));
+
+        final AdaptiveArangoDB balancer = new AdaptiveArangoDB(hosts);
+        for (int i = 0; i < 4; i++) {
+            assertSame(fast, balancer.select());
+        }
+    }
+
+    @Test
+    void hostWithInFlightRequestsScoresHigher() {
+        final List<AdaptiveHost> hosts = getHosts(2, Duration.ofMinutes(1).toNanos());
+        hosts.get(0).onStart();
+        final long now = System.nanoTime();
+        assertTrue(hosts.get(0).getScore(now) > hosts.get(1).getScore(now));
+
+        final AdaptiveArangoDB balancer = new AdaptiveArangoDB(hosts);
+        for (int i = 0; i < 4; i++) {
+            assertSame(hosts.get(1), balancer.select());
+        }
+    }
+
+    @Test
+    void hostsWithSameScoreSelectedInTurn() {
+        final List<AdaptiveHost> hosts = getHosts(3, Duration.ofMinutes(1).toNanos());
+        final AdaptiveArangoDB balancer = new AdaptiveArangoDB(hosts);
+        final List<AdaptiveHost> selected = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            selected.add(balancer.select());
+        }
+        assertEquals(List.of(hosts.get(0), hosts.get(1), hosts.get(2), hosts.get(0), hosts.get(1), hosts.get(2)),
+                selected);
+    }
+
+    @Test
+    void ejectedHostSelectedAgainAfterEjectionExpires() throws InterruptedException {
+        final long ejectionNanos = Duration.ofMillis(500).toNanos();
+        final List<AdaptiveHost> hosts = getHosts(2, ejectionNanos);
+        final AdaptiveHost failing = hosts.get(0);
+        final long now = System.nanoTime();
+        failing.onStart();
+        failing.onFailure(now);
+        assertTrue(failing.isEjected(now));
+        assertTrue(failing.isEjected(now + ejectionNanos - 1));
+        assertFalse(failing.isEjected(now + ejectionNanos));
+
+        final AdaptiveArangoDB balancer = new AdaptiveArangoDB(hosts);
+        for (int i = 0; i < 4; i++) {
+            assertSame(hosts.get(1), balancer.select());
+        }
+
+        Thread.sleep(Duration.ofNanos(ejectionNanos).toMillis() + 50);
+        final List<AdaptiveHost> selected = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            selected.add(balancer.select());
+        }
+        assertTrue(selected.contains(failing));
+    }
+
+    @Test
+    void ejectedHostSelectedWhenAllHostsEjected() {
+        final List<AdaptiveHost> hosts = getHosts(1, Duration.ofMinutes(1).toNanos());
+        hosts.get(0).onStart();
+        hosts.get(0).onFailure(System.nanoTime());
+
+        assertSame(hosts.get(0), new AdaptiveArangoDB(hosts).select());
+    }
+}
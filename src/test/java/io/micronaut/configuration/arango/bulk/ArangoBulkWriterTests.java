@@ -0,0 +1,146 @@
+package io.micronaut.configuration.arango.bulk;
+
+import com.arangodb.ArangoDBException;
+import com.arangodb.entity.BaseDocument;
+import com.arangodb.entity.DocumentCreateEntity;
+import io.micronaut.configuration.arango.ArangoClient;
+import io.micronaut.configuration.arango.ArangoRunner;
+import io.micronaut.configuration.arango.intercept.ArangoInterceptor;
+import io.micronaut.configuration.arango.intercept.ArangoInvocation;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.context.annotation.Requires;
+import io.testcontainers.arangodb.containers.ArangoContainer;
+import jakarta.inject.Singleton;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+@Testcontainers
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ArangoBulkWriterTests extends ArangoRunner {
+
+    @Container
+    private static final ArangoContainer<?> CONTAINER_3_11 = new ArangoContainer<>(IMAGE_3_11).withoutAuth();
+
+    @Test
+    void documentsWrittenInBatches() throws Exception {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("arangodb.hosts", List.of("localhost:" + CONTAINER_3_11.getPort()));
+        properties.put("arangodb.bulk.batch-size", 10);
+        properties.put("arangodb.bulk.max-pending-documents", 25);
+
+        try (final ApplicationContext context = ApplicationContext.run(properties)) {
+            final ArangoClient client = context.getBean(ArangoClient.class);
+            assertNotNull(client.db().collection("bulk").create());
+
+            final BulkWriter writer = context.getBean(BulkWriter.class);
+            final List<CompletableFuture<DocumentCreateEntity<Void>>> futures = new ArrayList<>();
+            for (int i = 0; i < 105; i++) {
+                futures.add(writer.insert("bulk", new BaseDocument(String.valueOf(i))));
+            }
+
+            writer.flush().get(10, TimeUnit.SECONDS);
+            for (CompletableFuture<DocumentCreateEntity<Void>> future : futures) {
+                assertNotNull(future.get(10, TimeUnit.SECONDS).getKey());
+            }
+            assertEquals(105L, client.db().collection("bulk").count().getCount());
+        }
+    }
+
+    @Test
+    void documentErrorFailsOnlyItsFuture() throws Exception {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("arangodb.hosts", List.of("localhost:" + CONTAINER_3_11.getPort()));
+        properties.put("arangodb.bulk.flush-interval", "10ms");
+
+        try (final ApplicationContext context = ApplicationContext.run(properties)) {
+            final ArangoClient client = context.getBean(ArangoClient.class);
+            assertNotNull(client.db().collection("bulk_errors").create());
+
+            final BulkWriter writer = context.getBean(BulkWriter.class);
+            final CompletableFuture<DocumentCreateEntity<Void>> first = writer.insert("bulk_errors", new BaseDocument("1"));
+            final CompletableFuture<DocumentCreateEntity<Void>> duplicate = writer.insert("bulk_errors",
+                    new BaseDocument("1"));
+
+            assertEquals("1", first.get(10, TimeUnit.SECONDS).getKey());
+            final ExecutionException exception = assertThrows(ExecutionException.class,
+                    () -> duplicate.get(10, TimeUnit.SECONDS));
+            assertTrue(exception.getCause() instanceof ArangoDBException);
+        }
+    }
+
+    @Test
+    void pendingDocumentsWrittenOnClose() {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("arangodb.hosts", List.of("localhost:" + CONTAINER_3_11.getPort()));
+        properties.put("arangodb.bulk.flush-interval", "1h");
+
+        final CompletableFuture<DocumentCreateEntity<Void>> future;
+        try (final ApplicationContext context = ApplicationContext.run(properties)) {
+            final ArangoClient client = context.getBean(ArangoClient.class);
+            assertNotNull(client.db().collection("bulk_close").create());
+
+            future = context.getBean(BulkWriter.class).insert("bulk_close", new BaseDocument("1"));
+            assertFalse(future.isDone());
+        }
+
+        assertTrue(future.isDone());
+        assertFalse(future.isCompletedExceptionally());
+    }
+
+    @Test
+    void unsentBatchesFailedWhenCloseTimeoutReached() {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("arangodb.hosts", List.of("localhost:" + CONTAINER_3_11.getPort()));
+        properties.put("arangodb.bulk.batch-size", 2);
+        properties.put("arangodb.bulk.flush-interval", "1h");
+        properties.put("arangodb.bulk.max-in-flight-batches", 1);
+        properties.put("arangodb.bulk.close-timeout", "500ms");
+        properties.put("test.bulk.stall", true);
+
+        final CompletableFuture<DocumentCreateEntity<Void>> unsent;
+        final long started;
+        try (final ApplicationContext context = ApplicationContext.run(properties)) {
+            final BulkWriter writer = context.getBean(BulkWriter.class);
+            // full batch takes only in-flight slot and never completes
+            writer.insert("bulk_stalled", new BaseDocument("1"));
+            writer.insert("bulk_stalled", new BaseDocument("2"));
+
+            unsent = writer.insert("bulk_unsent", new BaseDocument("1"));
+            assertFalse(unsent.isDone());
+            started = System.nanoTime();
+        }
+
+        assertTrue(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - started) < 5);
+        final ExecutionException exception = assertThrows(ExecutionException.class, unsent::get);
+        assertTrue(exception.getCause() instanceof ArangoDBException);
+    }
+
+    /**
+     * Batches for 'bulk_stalled' collection are never completed
+     */
+    @Requires(property = "test.bulk.stall", value = "true")
+    @Singleton
+    static class StallingInterceptor implements ArangoInterceptor {
+
+        @Override
+        public Object intercept(ArangoInvocation invocation) {
+            if ("bulk_stalled".equals(invocation.getCollection()) && invocation.isAsync()) {
+                return new CompletableFuture<>();
+            }
+            return invocation.proceed();
+        }
+    }
+}
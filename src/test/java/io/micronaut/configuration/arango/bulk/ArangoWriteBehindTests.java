@@ -0,0 +1,188 @@
+package io.micronaut.configuration.arango.bulk;
+
+import com.arangodb.ArangoDBException;
+import com.arangodb.entity.BaseDocument;
+import io.micronaut.configuration.arango.ArangoClient;
+import io.micronaut.configuration.arango.ArangoRunner;
+import io.micronaut.context.ApplicationContext;
+import io.testcontainers.arangodb.containers.ArangoContainer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.io.TempDir;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+@Testcontainers
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ArangoWriteBehindTests extends ArangoRunner {
+
+    @Container
+    private static final ArangoContainer<?> CONTAINER_3_11 = new ArangoContainer<>(IMAGE_3_11).withoutAuth();
+
+    @TempDir
+    Path spillDirectory;
+
+    private Map<String, Object> getProperties(String policy) {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("arangodb.hosts", List.of("localhost:" + CONTAINER_3_11.getPort()));
+        properties.put("arangodb.write-behind.enabled", true);
+        properties.put("arangodb.write-behind.capacity", 2);
+        properties.put("arangodb.write-behind.flush-interval", "1h");
+        properties.put("arangodb.write-behind.overflow-policy", policy);
+        properties.put("arangodb.write-behind.spill-directory", spillDirectory.toString());
+        return properties;
+    }
+
+    @Test
+    void writerNotCreatedWhenDisabled() {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("arangodb.hosts", List.of("localhost:" + CONTAINER_3_11.getPort()));
+
+        try (final ApplicationContext context = ApplicationContext.run(properties)) {
+            assertFalse(context.containsBean(WriteBehindWriter.class));
+        }
+    }
+
+    @Test
+    void documentsDroppedWhenQueueFull() throws Exception {
+        try (final ApplicationContext context = ApplicationContext.run(getProperties("DROP"))) {
+            final ArangoClient client = context.getBean(ArangoClient.class);
+            assertNotNull(client.db().collection("write_behind_drop").create());
+
+            final WriteBehindWriter writer = context.getBean(WriteBehindWriter.class);
+            assertTrue(writer.write("write_behind_drop", new BaseDocument("1")).get());
+            assertTrue(writer.write("write_behind_drop", new BaseDocument("2")).get());
+            assertFalse(writer.write("write_behind_drop", new BaseDocument("3")).get());
+            assertEquals(2, writer.getQueued());
+            assertEquals(1, writer.getDropped());
+
+            writer.close();
+            assertEquals(0, writer.getQueued());
+            assertEquals(2L, client.db().collection("write_behind_drop").count().getCount());
+        }
+    }
+
+    @Test
+    void documentsSpilledWhenQueueFullAndReplayed() throws Exception {
+        try (final ApplicationContext context = ApplicationContext.run(getProperties("SPILL"))) {
+            final ArangoClient client = context.getBean(ArangoClient.class);
+            assertNotNull(client.db().collection("write_behind_spill").create());
+
+            final WriteBehindWriter writer = context.getBean(WriteBehindWriter.class);
+            for (int i = 0; i < 10; i++) {
+                assertTrue(writer.write("write_behind_spill", new BaseDocument(String.valueOf(i))).get());
+            }
+            assertEquals(2, writer.getQueued());
+            assertEquals(0, writer.getDropped());
+
+            writer.close();
+            assertEquals(10L, client.db().collection("write_behind_spill").count().getCount());
+            assertFalse(Files.exists(spillDirectory.resolve("replay.bin")));
+        }
+    }
+
+    @Test
+    void documentsRejectedByDatabaseCountedAsDropped() throws Exception {
+        try (final ApplicationContext context = ApplicationContext.run(getProperties("DROP"))) {
+            final ArangoClient client = context.getBean(ArangoClient.class);
+            assertNotNull(client.db().collection("write_behind_rejected").create());
+
+            final WriteBehindWriter writer = context.getBean(WriteBehindWriter.class);
+            assertTrue(writer.write("write_behind_rejected", new BaseDocument("1")).get());
+            assertTrue(writer.write("write_behind_rejected", new BaseDocument("1")).get());
+
+            writer.close();
+            assertEquals(1, writer.getDropped());
+            assertEquals(1L, client.db().collection("write_behind_rejected").count().getCount());
+        }
+    }
+
+    @Test
+    void spillDirectoryLockedByOpenSpill() throws Exception {
+        final WriteBehindSpill spill = new WriteBehindSpill(spillDirectory);
+        try {
+            assertThrows(IllegalStateException.class, () -> new WriteBehindSpill(spillDirectory));
+        } finally {
+            spill.close();
+        }
+
+        new WriteBehindSpill(spillDirectory).close();
+    }
+
+    @Test
+    void spillReplayContinuesFromFailedBatch() throws Exception {
+        final WriteBehindSpill spill = new WriteBehindSpill(spillDirectory);
+        try {
+            for (int i = 0; i < 3; i++) {
+                spill.append("spilled", new byte[] { (byte) i });
+            }
+
+            final List<Byte> replayed = new ArrayList<>();
+            final AtomicInteger calls = new AtomicInteger();
+            assertThrows(ArangoDBException.class, () -> spill.replay(1, batch -> {
+                if (calls.incrementAndGet() == 2) {
+                    throw new ArangoDBException("unavailable");
+                }
+                batch.forEach(r -> replayed.add(r.getDocument()[0]));
+                return List.of();
+            }));
+            assertEquals(List.of((byte) 0), replayed);
+            assertTrue(Files.exists(spillDirectory.resolve("replay.bin")));
+            assertFalse(Files.exists(spillDirectory.resolve("spill.bin")));
+
+            assertEquals(2, spill.replay(1, batch -> {
+                batch.forEach(r -> replayed.add(r.getDocument()[0]));
+                return List.of();
+            }));
+            assertEquals(List.of((byte) 0, (byte) 1, (byte) 2), replayed);
+            assertFalse(spill.hasRecords());
+        } finally {
+            spill.close();
+        }
+    }
+
+    @Test
+    void spillReplaysOnlyFailedRecordsOfBatch() throws Exception {
+        final WriteBehindSpill spill = new WriteBehindSpill(spillDirectory);
+        try {
+            spill.append("available", new byte[] { 0 });
+            spill.append("unavailable", new byte[] { 1 });
+            spill.append("available", new byte[] { 2 });
+
+            final List<Byte> replayed = new ArrayList<>();
+            assertEquals(2, spill.replay(3, batch -> {
+                final List<WriteBehindSpill.Record> failed = new ArrayList<>();
+                for (WriteBehindSpill.Record record : batch) {
+                    if ("unavailable".equals(record.getCollection())) {
+                        failed.add(record);
+                    } else {
+                        replayed.add(record.getDocument()[0]);
+                    }
+                }
+                return failed;
+            }));
+            assertEquals(List.of((byte) 0, (byte) 2), replayed);
+            assertTrue(spill.hasRecords());
+
+            assertEquals(1, spill.replay(3, batch -> {
+                batch.forEach(r -> replayed.add(r.getDocument()[0]));
+                return List.of();
+            }));
+            assertEquals(List.of((byte) 0, (byte) 2, (byte) 1), replayed);
+            assertFalse(spill.hasRecords());
+        } finally {
+            spill.close();
+        }
+    }
+}
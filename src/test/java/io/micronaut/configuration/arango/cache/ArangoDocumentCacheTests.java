@@ -0,0 +1,204 @@
+package io.micronaut.configuration.arango.cache;
+
+import com.arangodb.ArangoCollection;
+import com.arangodb.ArangoCollectionAsync;
+import com.arangodb.ArangoDBAsync;
+import com.arangodb.entity.BaseDocument;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micronaut.configuration.arango.ArangoClient;
+import io.micronaut.configuration.arango.ArangoRunner;
+import io.micronaut.configuration.arango.intercept.ArangoInterceptor;
+import io.micronaut.configuration.arango.intercept.ArangoInvocation;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.context.BeanProvider;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.inject.qualifiers.Qualifiers;
+import io.testcontainers.arangodb.containers.ArangoContainer;
+import jakarta.inject.Singleton;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+@Testcontainers
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ArangoDocumentCacheTests extends ArangoRunner {
+
+    @Container
+    private static final ArangoContainer<?> CONTAINER_3_11 = new ArangoContainer<>(IMAGE_3_11).withoutAuth();
+
+    @Test
+    void documentsReadThroughCacheAndInvalidatedOnWrite() {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("arangodb.hosts", List.of("localhost:" + CONTAINER_3_11.getPort()));
+        properties.put("arangodb.cache.documents.hot.maximum-size", 100);
+        properties.put("arangodb.cache.documents.hot.expire-after-write", "1m");
+
+        try (final ApplicationContext context = ApplicationContext.run(properties)) {
+            final ArangoClient client = context.getBean(ArangoClient.class);
+            final ArangoCollection collection = client.db().collection("hot");
+            assertNotNull(collection.create());
+
+            final BaseDocument document = new BaseDocument("1");
+            document.addAttribute("name", "bob");
+            collection.insertDocument(document);
+
+            assertEquals("bob", collection.getDocument("1", BaseDocument.class).getAttribute("name"));
+            final BaseDocument cached = collection.getDocument("1", BaseDocument.class);
+            assertEquals("bob", cached.getAttribute("name"));
+            assertNotSame(cached, collection.getDocument("1", BaseDocument.class));
+            assertNull(collection.getDocument("2", BaseDocument.class));
+
+            final ArangoDocumentCacheInterceptor interceptor = context.getBean(ArangoDocumentCacheInterceptor.class);
+            final CacheStats stats = interceptor.getCaches().get("hot").stats();
+            assertEquals(2, stats.hitCount());
+            assertEquals(2, stats.missCount());
+
+            document.updateAttribute("name", "alice");
+            collection.replaceDocument("1", document);
+            assertEquals("alice", collection.getDocument("1", BaseDocument.class).getAttribute("name"));
+
+            final MeterRegistry registry = context.getBean(MeterRegistry.class);
+            assertNotNull(registry.find("cache.gets").tag("cache", "arangodb.documents.hot").functionCounter());
+        }
+    }
+
+    @Test
+    void documentsCachedPerConnection() {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("arangodb.hosts", List.of("localhost:" + CONTAINER_3_11.getPort()));
+        properties.put("arangodb.clusters.archive.hosts", List.of("localhost:" + CONTAINER_3_11.getPort()));
+        properties.put("arangodb.cache.documents.shared.maximum-size", 100);
+
+        try (final ApplicationContext context = ApplicationContext.run(properties)) {
+            final ArangoCollection collection = context.getBean(ArangoClient.class).db().collection("shared");
+            final ArangoCollection archiveCollection = context.getBean(ArangoClient.class, Qualifiers.byName("archive"))
+                    .db().collection("shared");
+            assertNotNull(collection.create());
+            collection.insertDocument(new BaseDocument("1"));
+
+            assertNotNull(collection.getDocument("1", BaseDocument.class));
+            assertNotNull(archiveCollection.getDocument("1", BaseDocument.class));
+
+            final ArangoDocumentCacheInterceptor interceptor = context.getBean(ArangoDocumentCacheInterceptor.class);
+            final Cache<String, byte[]> cache = interceptor.getCaches().get("shared");
+            assertEquals(2, cache.stats().missCount());
+            assertNotNull(cache.getIfPresent(ArangoDocumentCacheInterceptor.DEFAULT_CONNECTION + "/_system/1"));
+            assertNotNull(cache.getIfPresent("archive/_system/1"));
+
+            collection.deleteDocument("1");
+            assertNull(cache.getIfPresent(ArangoDocumentCacheInterceptor.DEFAULT_CONNECTION + "/_system/1"));
+            assertNotNull(cache.getIfPresent("archive/_system/1"));
+        }
+    }
+
+    /**
+     * Writes collection with bulk write after first document is loaded, but
+     * before cache interceptor publishes it
+     */
+    @Requires(property = "test.document.race", value = "true")
+    @Singleton
+    static class RacingWriteInterceptor implements ArangoInterceptor {
+
+        private final BeanProvider<ArangoClient> client;
+        private final AtomicBoolean written = new AtomicBoolean();
+
+        RacingWriteInterceptor(BeanProvider<ArangoClient> client) {
+            this.client = client;
+        }
+
+        @Override
+        public int getOrder() {
+            return ArangoDocumentCacheInterceptor.ORDER + 1;
+        }
+
+        @Override
+        public Object intercept(ArangoInvocation invocation) {
+            final Object result = invocation.proceed();
+            if ("getDocument".equals(invocation.getMethod().getName()) && written.compareAndSet(false, true)) {
+                final BaseDocument document = new BaseDocument("1");
+                document.addAttribute("name", "alice");
+                client.get().db().collection("race").replaceDocuments(List.of(document));
+            }
+            return result;
+        }
+    }
+
+    @Test
+    void documentNotCachedWhenCollectionWrittenWhileLoaded() {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("arangodb.hosts", List.of("localhost:" + CONTAINER_3_11.getPort()));
+        properties.put("arangodb.cache.documents.race.maximum-size", 100);
+        properties.put("test.document.race", true);
+
+        try (final ApplicationContext context = ApplicationContext.run(properties)) {
+            final ArangoCollection collection = context.getBean(ArangoClient.class).db().collection("race");
+            assertNotNull(collection.create());
+
+            final BaseDocument document = new BaseDocument("1");
+            document.addAttribute("name", "bob");
+            collection.insertDocument(document);
+
+            // loaded before bulk write, so returned but not cached
+            assertEquals("bob", collection.getDocument("1", BaseDocument.class).getAttribute("name"));
+            final Cache<String, byte[]> cache = context.getBean(ArangoDocumentCacheInterceptor.class).getCaches().get("race");
+            assertNull(cache.getIfPresent(ArangoDocumentCacheInterceptor.DEFAULT_CONNECTION + "/_system/1"));
+
+            assertEquals("alice", collection.getDocument("1", BaseDocument.class).getAttribute("name"));
+            assertEquals("alice", collection.getDocument("1", BaseDocument.class).getAttribute("name"));
+            assertEquals(1, cache.stats().hitCount());
+        }
+    }
+
+    @Test
+    void asyncReadsCachedAndAsyncWritesInvalidate() throws Exception {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("arangodb.hosts", List.of("localhost:" + CONTAINER_3_11.getPort()));
+        properties.put("arangodb.cache.documents.hot_async.maximum-size", 100);
+
+        try (final ApplicationContext context = ApplicationContext.run(properties)) {
+            final ArangoCollection collection = context.getBean(ArangoClient.class).db().collection("hot_async");
+            final ArangoCollectionAsync asyncCollection = context.getBean(ArangoDBAsync.class).db().collection("hot_async");
+            assertNotNull(collection.create());
+
+            final BaseDocument document = new BaseDocument("1");
+            document.addAttribute("name", "bob");
+            collection.insertDocument(document);
+
+            assertEquals("bob", collection.getDocument("1", BaseDocument.class).getAttribute("name"));
+            assertEquals("bob", asyncCollection.getDocument("1", BaseDocument.class).get(10, TimeUnit.SECONDS)
+                    .getAttribute("name"));
+            final Cache<String, byte[]> cache = context.getBean(ArangoDocumentCacheInterceptor.class).getCaches()
+                    .get("hot_async");
+            assertEquals(1, cache.stats().hitCount());
+
+            document.updateAttribute("name", "alice");
+            asyncCollection.replaceDocument("1", document).get(10, TimeUnit.SECONDS);
+            assertNull(cache.getIfPresent(ArangoDocumentCacheInterceptor.DEFAULT_CONNECTION + "/_system/1"));
+            assertEquals("alice", asyncCollection.getDocument("1", BaseDocument.class).get(10, TimeUnit.SECONDS)
+                    .getAttribute("name"));
+            assertEquals("alice", collection.getDocument("1", BaseDocument.class).getAttribute("name"));
+        }
+    }
+
+    @Test
+    void cacheNotCreatedWhenNotConfigured() {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("arangodb.hosts", List.of("localhost:" + CONTAINER_3_11.getPort()));
+
+        try (final ApplicationContext context = ApplicationContext.run(properties)) {
+            assertFalse(context.containsBean(ArangoDocumentCacheInterceptor.class));
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package io.micronaut.configuration.arango.cache;
+
+import com.arangodb.ArangoCollection;
+import com.arangodb.ArangoDatabase;
+import com.arangodb.entity.BaseDocument;
+import com.arangodb.model.AqlQueryOptions;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micronaut.configuration.arango.ArangoClient;
+import io.micronaut.configuration.arango.ArangoRunner;
+import io.micronaut.configuration.arango.intercept.AqlStatements;
+import io.micronaut.context.ApplicationContext;
+import io.testcontainers.arangodb.containers.ArangoContainer;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+@Testcontainers
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ArangoQueryCacheTests extends ArangoRunner {
+
+    @Container
+    private static final ArangoContainer<?> CONTAINER_3_11 = new ArangoContainer<>(IMAGE_3_11).withoutAuth();
+
+    @Test
+    void queryNormalizedOutsideStringLiterals() {
+        assertEquals("FOR d IN c FILTER d.name == 'a  b' RETURN d",
+                AqlStatements.normalize("  FOR d IN c\n    FILTER d.name == 'a  b'\n  RETURN d "));
+    }
+
+    @Test
+    void queryResultsCachedAndInvalidated() {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("arangodb.hosts", List.of("localhost:" + CONTAINER_3_11.getPort()));
+        properties.put("arangodb.cache.queries.enabled", true);
+
+        try (final ApplicationContext context = ApplicationContext.run(properties)) {
+            final ArangoClient client = context.getBean(ArangoClient.class);
+            final ArangoCollection collection = client.db().collection("reference");
+            assertNotNull(collection.create());
+            collection.insertDocument(new BaseDocument("1"));
+
+            final ArangoQueryCache cache = context.getBean(ArangoQueryCache.class);
+            final String query = "FOR d IN reference FILTER d._key == @key RETURN d";
+            assertEquals(1, cache.query(query, BaseDocument.class, Map.of("key", "1")).size());
+            assertEquals(1, cache.query("FOR d IN reference\n FILTER d._key == @key\n RETURN d", BaseDocument.class,
+                    Map.of("key", "1")).size());
+            assertEquals(0, cache.query(query, BaseDocument.class, Map.of("key", "2")).size());
+            assertEquals(1, cache.stats().hitCount());
+            assertEquals(2, cache.size());
+
+            cache.query("INSERT { _key: @key } INTO reference", Void.class, Map.of("key", "2"));
+            assertEquals(2, cache.size());
+            assertEquals(0, cache.query(query, BaseDocument.class, Map.of("key", "2")).size());
+
+            cache.invalidate("reference");
+            assertEquals(0, cache.size());
+            assertEquals(1, cache.query(query, BaseDocument.class, Map.of("key", "2")).size());
+
+            final MeterRegistry registry = context.getBean(MeterRegistry.class);
+            assertNotNull(registry.find("cache.size").tag("cache", ArangoCacheMetricsBinder.QUERIES_CACHE).gauge());
+        }
+    }
+
+    @Test
+    void queryResultsCachedPerOptions() {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("arangodb.hosts", List.of("localhost:" + CONTAINER_3_11.getPort()));
+        properties.put("arangodb.cache.queries.enabled", true);
+
+        try (final ApplicationContext context = ApplicationContext.run(properties)) {
+            final ArangoCollection collection = context.getBean(ArangoClient.class).db().collection("reference_options");
+            assertNotNull(collection.create());
+            collection.insertDocument(new BaseDocument("1"));
+
+            final ArangoQueryCache cache = context.getBean(ArangoQueryCache.class);
+            final String query = "FOR d IN reference_options RETURN d";
+            assertEquals(1, cache.query(query, BaseDocument.class, Map.of()).size());
+            assertEquals(1, cache.query(query, BaseDocument.class, Map.of(), new AqlQueryOptions().allowDirtyRead(true))
+                    .size());
+            assertEquals(1, cache.query(query, BaseDocument.class, Map.of(), new AqlQueryOptions().failOnWarning(true))
+                    .size());
+            assertEquals(0, cache.stats().hitCount());
+            assertEquals(3, cache.size());
+
+            assertEquals(1, cache.query(query, BaseDocument.class, Map.of(), new AqlQueryOptions().allowDirtyRead(true))
+                    .size());
+            assertEquals(1, cache.stats().hitCount());
+        }
+    }
+
+    @Test
+    void queryResultNotCachedWhenInvalidatedWhileExecuted() {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("arangodb.hosts", List.of("localhost:" + CONTAINER_3_11.getPort()));
+        properties.put("arangodb.cache.queries.enabled", true);
+
+        try (final ApplicationContext context = ApplicationContext.run(properties)) {
+            final ArangoClient client = context.getBean(ArangoClient.class);
+            final ArangoCollection collection = client.db().collection("reference_race");
+            assertNotNull(collection.create());
+            collection.insertDocument(new BaseDocument("1"));
+
+            // document is written and collection invalidated after query executed, but before result is cached
+            final AtomicBoolean written = new AtomicBoolean();
+            final ArangoQueryCache cache = new ArangoQueryCache(client,
+                    context.getBean(ArangoQueryCacheConfiguration.class)) {
+
+                @Override
+                List<byte[]> execute(ArangoDatabase database,
+                                     String query,
+                                     Map<String, Object> bindVars,
+                                     AqlQueryOptions options) {
+                    final List<byte[]> documents = super.execute(database, query, bindVars, options);
+                    if (written.compareAndSet(false, true)) {
+                        collection.insertDocument(new BaseDocument("2"));
+                        invalidate("reference_race");
+                    }
+                    return documents;
+                }
+            };
+
+            final String query = "FOR d IN reference_race RETURN d";
+            assertEquals(1, cache.query(query, BaseDocument.class, Map.of()).size());
+            assertEquals(0, cache.size());
+            assertEquals(2, cache.query(query, BaseDocument.class, Map.of()).size());
+            assertEquals(1, cache.size());
+            assertEquals(0, cache.stats().hitCount());
+        }
+    }
+
+    @Test
+    void queryResultsKeyedByOptionsNotChangedByDriver() {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("arangodb.hosts", List.of("localhost:" + CONTAINER_3_11.getPort()));
+        properties.put("arangodb.cache.queries.enabled", true);
+
+        try (final ApplicationContext context = ApplicationContext.run(properties)) {
+            final ArangoCollection collection = context.getBean(ArangoClient.class).db().collection("reference_reused");
+            assertNotNull(collection.create());
+            collection.insertDocument(new BaseDocument("1"));
+
+            final ArangoQueryCache cache = context.getBean(ArangoQueryCache.class);
+            final String query = "FOR d IN reference_reused RETURN d";
+            final AqlQueryOptions options = new AqlQueryOptions().batchSize(10);
+            assertEquals(1, cache.query(query, BaseDocument.class, Map.of(), options).size());
+            // options that do not change result share cached result
+            assertEquals(1, cache.query(query, BaseDocument.class, Map.of(), options.batchSize(20).count(true)).size());
+            assertEquals(1, cache.stats().hitCount());
+            assertEquals(1, cache.size());
+        }
+    }
+}
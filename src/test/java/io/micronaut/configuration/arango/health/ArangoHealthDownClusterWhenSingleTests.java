@@ -62,4 +62,26 @@ void healthClusterDownWhenDatabaseIsSingle() {
             assertNotNull(result.getDetails());
         }
     }
+
+    @Test
+    void healthClusterMonitorDownWhenDatabaseIsSingle() throws InterruptedException {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("arangodb.hosts", List.of("localhost:" + CONTAINER_3_11.getPort()));
+        properties.put("endpoints.health.arangodb.cluster.enabled", "true");
+        properties.put("endpoints.health.arangodb.cluster.monitor.enabled", "true");
+        properties.put("endpoints.health.arangodb.cluster.monitor.interval", "100ms");
+
+        try (final ApplicationContext context = ApplicationContext.run(properties)) {
+            final ArangoClusterHealthMonitor monitor = context.getBean(ArangoClusterHealthMonitor.class);
+            for (int i = 0; i < 100 && monitor.getSnapshot() == null; i++) {
+                Thread.sleep(100);
+            }
+            assertEquals(HealthStatus.DOWN, monitor.getStatus());
+
+            final ArangoClusterHealthIndicator clusterHealthIndicator = context.getBean(ArangoClusterHealthIndicator.class);
+            final HealthResult result = Flux.from(clusterHealthIndicator.getResult()).blockFirst(Duration.ofSeconds(10));
+            assertNotNull(result);
+            assertEquals(HealthStatus.DOWN, result.getStatus());
+        }
+    }
 }
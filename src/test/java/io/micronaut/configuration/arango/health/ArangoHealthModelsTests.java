@@ -3,8 +3,10 @@
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micronaut.health.HealthStatus;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
@@ -41,6 +43,32 @@ void healthClusterParsedCorrectly() throws JsonProcessingException {
         });
     }
 
+    @Test
+    void healthClusterStatusFromCriticalNodes() throws JsonProcessingException {
+        final ClusterHealthResponse down = readResponse("/data/cluster-health.json");
+        assertEquals(HealthStatus.DOWN, down.getHealthStatus());
+        assertEquals(List.of("DBServer0002"), down.getDownNodes());
+
+        final ClusterHealthResponse up = readResponse("/data/cluster-health-up.json");
+        assertEquals(HealthStatus.UP, up.getHealthStatus());
+        assertEquals(List.of(), up.getDownNodes());
+
+        // node that can be deleted is not critical, so cluster is up while it is down
+        final ClusterHealthResponse deletableDown = readResponse("/data/cluster-health-deletable-down.json");
+        assertEquals(HealthStatus.UP, deletableDown.getHealthStatus());
+        assertEquals(List.of(), deletableDown.getDownNodes());
+
+        final ClusterHealthResponse unknown = readResponse("/data/cluster-health-unknown.json");
+        assertEquals(HealthStatus.UNKNOWN, unknown.getHealthStatus());
+        assertEquals(List.of(), unknown.getDownNodes());
+    }
+
+    private ClusterHealthResponse readResponse(String path) throws JsonProcessingException {
+        final ObjectMapper mapper = new ObjectMapper()
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        return mapper.readValue(getFromResource(path), ClusterHealthResponse.class);
+    }
+
     private String getFromResource(String path) {
         try {
             return new String(getClass().getResourceAsStream(path).readAllBytes(), StandardCharsets.UTF_8);
@@ -0,0 +1,245 @@
+package io.micronaut.configuration.arango.health;
+
+import com.arangodb.ArangoDB;
+import com.arangodb.ArangoDatabase;
+import com.arangodb.entity.DatabaseEntity;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micronaut.configuration.arango.ArangoConfiguration;
+import io.micronaut.configuration.arango.ArangoRunner;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.health.HealthStatus;
+import io.micronaut.management.health.indicator.HealthResult;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import reactor.core.publisher.Mono;
+
+/**
+ * Health probes against stub accessor that counts probes, so no database is
+ * required
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ArangoHealthProbeTests extends ArangoRunner {
+
+    /**
+     * Accessor which database info call is counted and optionally waits for
+     * release
+     */
+    static final class CountingProbe {
+
+        private final AtomicInteger probes = new AtomicInteger();
+        private final List<String> threads = new CopyOnWriteArrayList<>();
+        private final CountDownLatch release;
+        private final DatabaseEntity entity;
+
+        CountingProbe(CountDownLatch release) throws Exception {
+            this.release = release;
+            this.entity = new ObjectMapper()
+                    .setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY)
+                    .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+                    .readValue("{\"id\":\"1\",\"name\":\"_system\"}", DatabaseEntity.class);
+        }
+
+        ArangoDB getAccessor() {
+            final ArangoDatabase database = (ArangoDatabase) Proxy.newProxyInstance(getClass().getClassLoader(),
+                    new Class<?>[] { ArangoDatabase.class }, (proxy, method, args) -> {
+                        if (!"getInfo".equals(method.getName())) {
+                            return stub(proxy, method.getName(), args);
+                        }
+
+                        probes.incrementAndGet();
+                        threads.add(Thread.currentThread().getName());
+                        release.await(10, TimeUnit.SECONDS);
+                        return entity;
+                    });
+
+            return (ArangoDB) Proxy.newProxyInstance(getClass().getClassLoader(),
+                    new Class<?>[] { ArangoDB.class },
+                    (proxy, method, args) -> ("db".equals(method.getName()))
+                            ? database
+                            : stub(proxy, method.getName(), args));
+        }
+
+        private static Object stub(Object proxy, String method, Object[] args) {
+            switch (method) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "stub";
+                default:
+                    throw new UnsupportedOperationException(method);
+            }
+        }
+
+        int getProbes() {
+            return probes.get();
+        }
+
+        List<String> getThreads() {
+            return threads;
+        }
+    }
+
+    private static ArangoHealthIndicator getIndicator(ApplicationContext context, CountingProbe probe) {
+        return getIndicator(context, probe, null);
+    }
+
+    private static ArangoHealthIndicator getIndicator(ApplicationContext context,
+                                                      CountingProbe probe,
+                                                      ExecutorService executor) {
+        return new ArangoHealthIndicator("arangodb-probe", probe.getAccessor(),
+                context.getBean(ArangoConfiguration.class),
+                context.getBean(ArangoHealthConfiguration.class),
+                executor);
+    }
+
+    private static HealthResult getResult(ArangoHealthIndicator indicator) {
+        return Mono.from(indicator.getResult()).block(Duration.ofSeconds(10));
+    }
+
+    @Test
+    void healthProbedOnceWithinCacheTtl() throws Exception {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("arangodb.hosts", List.of("localhost:8529"));
+        properties.put("endpoints.health.arangodb.cache-ttl", "1m");
+
+        try (final ApplicationContext context = ApplicationContext.run(properties)) {
+            final CountingProbe probe = new CountingProbe(new CountDownLatch(0));
+            final ArangoHealthIndicator indicator = getIndicator(context, probe);
+            try {
+                for (int i = 0; i < 3; i++) {
+                    assertEquals(HealthStatus.UP, getResult(indicator).getStatus());
+                }
+                assertEquals(1, probe.getProbes());
+            } finally {
+                indicator.close();
+            }
+        }
+    }
+
+    @Test
+    void healthProbedEachTimeWithoutCacheTtl() throws Exception {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("arangodb.hosts", List.of("localhost:8529"));
+
+        try (final ApplicationContext context = ApplicationContext.run(properties)) {
+            final CountingProbe probe = new CountingProbe(new CountDownLatch(0));
+            final ArangoHealthIndicator indicator = getIndicator(context, probe);
+            try {
+                for (int i = 0; i < 3; i++) {
+                    assertEquals(HealthStatus.UP, getResult(indicator).getStatus());
+                }
+                assertEquals(3, probe.getProbes());
+            } finally {
+                indicator.close();
+            }
+        }
+    }
+
+    @Test
+    void concurrentHealthRequestsShareInFlightProbe() throws Exception {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("arangodb.hosts", List.of("localhost:8529"));
+        properties.put("endpoints.health.arangodb.cache-ttl", "1m");
+
+        final ExecutorService executor = Executors.newFixedThreadPool(5);
+        try (final ApplicationContext context = ApplicationContext.run(properties)) {
+            final CountDownLatch release = new CountDownLatch(1);
+            final CountingProbe probe = new CountingProbe(release);
+            final ArangoHealthIndicator indicator = getIndicator(context, probe);
+            try {
+                final CountDownLatch start = new CountDownLatch(1);
+                final CountDownLatch subscribed = new CountDownLatch(5);
+                final List<CompletableFuture<HealthResult>> results = new ArrayList<>();
+                for (int i = 0; i < 5; i++) {
+                    results.add(CompletableFuture.supplyAsync(() -> {
+                        try {
+                            start.await();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            throw new IllegalStateException(e);
+                        }
+                        return Mono.from(indicator.getResult())
+                                .doOnSubscribe(subscription -> subscribed.countDown())
+                                .block(Duration.ofSeconds(10));
+                    }, executor));
+                }
+
+                // all requests are subscribed while first probe is still in flight
+                start.countDown();
+                assertTrue(subscribed.await(10, TimeUnit.SECONDS));
+                release.countDown();
+
+                for (CompletableFuture<HealthResult> result : results) {
+                    assertEquals(HealthStatus.UP, result.get(10, TimeUnit.SECONDS).getStatus());
+                }
+                assertEquals(1, probe.getProbes());
+            } finally {
+                indicator.close();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void healthProbedOnSchedulerThreadNotCallerThread() throws Exception {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("arangodb.hosts", List.of("localhost:8529"));
+
+        try (final ApplicationContext context = ApplicationContext.run(properties)) {
+            final CountingProbe probe = new CountingProbe(new CountDownLatch(0));
+            final ArangoHealthIndicator indicator = getIndicator(context, probe);
+            try {
+                assertEquals(HealthStatus.UP, getResult(indicator).getStatus());
+                assertEquals(1, probe.getThreads().size());
+
+                final String thread = probe.getThreads().get(0);
+                assertNotEquals(Thread.currentThread().getName(), thread);
+                assertTrue(thread.startsWith("arangodb-probe"), thread);
+            } finally {
+                indicator.close();
+            }
+        }
+    }
+
+    @Test
+    void healthProbedOnConfiguredExecutorThread() throws Exception {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("arangodb.hosts", List.of("localhost:8529"));
+
+        final ExecutorService executor = Executors.newSingleThreadExecutor(r -> new Thread(r, "arangodb-executor"));
+        try (final ApplicationContext context = ApplicationContext.run(properties)) {
+            final CountingProbe probe = new CountingProbe(new CountDownLatch(0));
+            final ArangoHealthIndicator indicator = getIndicator(context, probe, executor);
+            try {
+                assertEquals(HealthStatus.UP, getResult(indicator).getStatus());
+                assertEquals(List.of("arangodb-executor"), probe.getThreads());
+            } finally {
+                indicator.close();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
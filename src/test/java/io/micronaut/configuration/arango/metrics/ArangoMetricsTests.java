@@ -0,0 +1,285 @@
+package io.micronaut.configuration.arango.metrics;
+
+import com.arangodb.ArangoDBException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micronaut.configuration.arango.ArangoAsyncClient;
+import io.micronaut.configuration.arango.ArangoClient;
+import io.micronaut.configuration.arango.ArangoRunner;
+import io.micronaut.configuration.arango.intercept.ArangoInvocation;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.event.ApplicationEventListener;
+import io.micronaut.inject.qualifiers.Qualifiers;
+import io.testcontainers.arangodb.containers.ArangoContainer;
+import jakarta.inject.Singleton;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+@Testcontainers
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ArangoMetricsTests extends ArangoRunner {
+
+    @Container
+    private static final ArangoContainer<?> CONTAINER_3_11 = new ArangoContainer<>(IMAGE_3_11).withoutAuth();
+
+    @Test
+    void requestsAndErrorsRecorded() {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("arangodb.hosts", List.of("localhost:" + CONTAINER_3_11.getPort()));
+        properties.put("arangodb.database", "metrics");
+        properties.put("arangodb.metrics.database-tag", true);
+
+        try (final ApplicationContext context = ApplicationContext.run(properties)) {
+            final ArangoClient client = context.getBean(ArangoClient.class);
+            assertTrue(client.db().create());
+            assertThrows(ArangoDBException.class, () -> client.db().collection("unknown").getInfo());
+
+            final MeterRegistry registry = context.getBean(MeterRegistry.class);
+            final Timer created = registry.find(ArangoMetricsInterceptor.REQUESTS)
+                    .tag("database", "metrics")
+                    .tag("operation", "ArangoDatabase.create")
+                    .tag("status", "OK")
+                    .timer();
+            assertNotNull(created);
+            assertEquals(1, created.count());
+
+            final Timer failed = registry.find(ArangoMetricsInterceptor.REQUESTS)
+                    .tag("operation", "ArangoCollection.getInfo")
+                    .tag("status", "404")
+                    .timer();
+            assertNotNull(failed);
+            assertNotNull(registry.find(ArangoMetricsInterceptor.ERRORS).counter());
+            assertEquals(0.0, registry.find(ArangoMetricsInterceptor.REQUESTS_ACTIVE).gauge().value());
+            assertNotNull(registry.find(ArangoMetricsInterceptor.QUEUE_TIME).timeGauge());
+        }
+    }
+
+    @Test
+    void metricsTaggedByClusterWithoutDatabase() {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("arangodb.hosts", List.of("localhost:" + CONTAINER_3_11.getPort()));
+        properties.put("arangodb.clusters.archive.hosts", List.of("localhost:" + CONTAINER_3_11.getPort()));
+
+        try (final ApplicationContext context = ApplicationContext.run(properties)) {
+            final ArangoClient client = context.getBean(ArangoClient.class);
+            assertTrue(client.db().exists());
+            assertTrue(client.db().exists());
+            assertTrue(context.getBean(ArangoClient.class, Qualifiers.byName("archive")).db().exists());
+
+            final MeterRegistry registry = context.getBean(MeterRegistry.class);
+            final Timer exists = registry.find(ArangoMetricsInterceptor.REQUESTS)
+                    .tag("cluster", "default")
+                    .tag("operation", "ArangoDatabase.exists")
+                    .timer();
+            assertNotNull(exists);
+            assertEquals(2, exists.count());
+            assertNull(exists.getId().getTag("database"));
+
+            assertEquals(0.0, registry.get(ArangoMetricsInterceptor.REQUESTS_ACTIVE).tag("cluster", "default").gauge().value());
+            assertEquals(0.0, registry.get(ArangoMetricsInterceptor.REQUESTS_ACTIVE).tag("cluster", "archive").gauge().value());
+            assertNotNull(registry.find(ArangoMetricsInterceptor.QUEUE_TIME).tag("cluster", "default").timeGauge());
+            assertNotNull(registry.find(ArangoMetricsInterceptor.QUEUE_TIME).tag("cluster", "archive").timeGauge());
+        }
+    }
+
+    @Test
+    void asyncRequestsRecordedWhenCompleted() throws Exception {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("arangodb.hosts", List.of("localhost:" + CONTAINER_3_11.getPort()));
+
+        try (final ApplicationContext context = ApplicationContext.run(properties)) {
+            final ArangoAsyncClient client = context.getBean(ArangoAsyncClient.class);
+            assertTrue(client.db().exists().get(10, TimeUnit.SECONDS));
+            final ExecutionException e = assertThrows(ExecutionException.class,
+                    () -> client.db().collection("unknown").getInfo().get(10, TimeUnit.SECONDS));
+            assertTrue(e.getCause() instanceof ArangoDBException);
+
+            final MeterRegistry registry = context.getBean(MeterRegistry.class);
+            final Timer exists = registry.find(ArangoMetricsInterceptor.REQUESTS)
+                    .tag("operation", "ArangoDatabaseAsync.exists")
+                    .tag("status", "OK")
+                    .timer();
+            assertNotNull(exists);
+            assertEquals(1, exists.count());
+
+            final Timer failed = registry.find(ArangoMetricsInterceptor.REQUESTS)
+                    .tag("operation", "ArangoCollectionAsync.getInfo")
+                    .tag("status", "404")
+                    .timer();
+            assertNotNull(failed);
+            assertEquals(1, failed.count());
+            assertEquals(0.0, registry.get(ArangoMetricsInterceptor.REQUESTS_ACTIVE).tag("cluster", "default").gauge().value());
+        }
+    }
+
+    @Test
+    void metricsDisabled() {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("arangodb.hosts", List.of("localhost:" + CONTAINER_3_11.getPort()));
+        properties.put("arangodb.metrics.enabled", false);
+
+        try (final ApplicationContext context = ApplicationContext.run(properties)) {
+            assertFalse(context.containsBean(ArangoMetricsInterceptor.class));
+            assertTrue(context.getBean(ArangoClient.class).db().exists());
+        }
+    }
+
+    @Requires(property = "test.pool.listener", value = "true")
+    @Singleton
+    static class PoolSaturationListener implements ApplicationEventListener<ArangoPoolSaturationEvent> {
+
+        private final List<ArangoPoolSaturationEvent> events = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void onApplicationEvent(ArangoPoolSaturationEvent event) {
+            events.add(event);
+        }
+    }
+
+    @Test
+    void poolSaturationNotReportedAtLowLoadForMultiplexedProtocol() throws InterruptedException {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("arangodb.hosts", List.of("localhost:" + CONTAINER_3_11.getPort()));
+        properties.put("arangodb.connection-max", 1);
+        properties.put("arangodb.pool-monitor.enabled", true);
+        properties.put("test.pool.listener", true);
+
+        try (final ApplicationContext context = ApplicationContext.run(properties)) {
+            final ArangoPoolMonitor monitor = context.getBean(ArangoPoolMonitor.class);
+            assertEquals(100, monitor.getRequestsPerConnection());
+            assertEquals(100, monitor.getCapacity());
+
+            for (int i = 0; i < 5; i++) {
+                assertTrue(context.getBean(ArangoClient.class).db().exists());
+            }
+            assertEquals(0, monitor.getBusy());
+            assertEquals(0, monitor.getWaiting());
+            assertEquals(0.0, monitor.getUtilization());
+            assertFalse(monitor.isSaturated());
+
+            Thread.sleep(500);
+            assertTrue(context.getBean(PoolSaturationListener.class).events.isEmpty());
+
+            final MeterRegistry registry = context.getBean(MeterRegistry.class);
+            assertNotNull(registry.find(ArangoPoolMetricsBinder.CONNECTIONS_MAX).gauge());
+            assertNotNull(registry.find(ArangoPoolMetricsBinder.CONNECTIONS_BUSY).gauge());
+        }
+    }
+
+    @Test
+    void poolSaturationReportedForHttp11() throws InterruptedException {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("arangodb.hosts", List.of("localhost:" + CONTAINER_3_11.getPort()));
+        properties.put("arangodb.protocol", "HTTP_JSON");
+        properties.put("arangodb.connection-max", 1);
+        properties.put("arangodb.pool-monitor.enabled", true);
+        properties.put("arangodb.pool-monitor.saturation-threshold", 1.0);
+        properties.put("test.pool.listener", true);
+
+        try (final ApplicationContext context = ApplicationContext.run(properties)) {
+            final ArangoPoolMonitor monitor = context.getBean(ArangoPoolMonitor.class);
+            assertEquals(1, monitor.getRequestsPerConnection());
+            assertEquals(1, monitor.getCapacity());
+
+            // single HTTP/1.1 connection is fully used by single request
+            assertTrue(context.getBean(ArangoClient.class).db().exists());
+            assertEquals(0, monitor.getBusy());
+            assertFalse(monitor.isSaturated());
+
+            final PoolSaturationListener listener = context.getBean(PoolSaturationListener.class);
+            for (int i = 0; i < 50 && listener.events.size() < 2; i++) {
+                Thread.sleep(100);
+            }
+            assertEquals(2, listener.events.size());
+        }
+    }
+
+    @Test
+    void poolMonitorIgnoresClusterRequests() throws InterruptedException {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("arangodb.hosts", List.of("localhost:" + CONTAINER_3_11.getPort()));
+        properties.put("arangodb.protocol", "HTTP_JSON");
+        properties.put("arangodb.connection-max", 1);
+        properties.put("arangodb.pool-monitor.enabled", true);
+        properties.put("arangodb.pool-monitor.saturation-threshold", 1.0);
+        properties.put("arangodb.clusters.archive.hosts", List.of("localhost:" + CONTAINER_3_11.getPort()));
+        properties.put("test.pool.listener", true);
+
+        try (final ApplicationContext context = ApplicationContext.run(properties)) {
+            final ArangoClient archive = context.getBean(ArangoClient.class, Qualifiers.byName("archive"));
+            for (int i = 0; i < 5; i++) {
+                assertTrue(archive.db().exists());
+            }
+
+            Thread.sleep(500);
+            assertTrue(context.getBean(PoolSaturationListener.class).events.isEmpty());
+            assertFalse(context.getBean(ArangoPoolMonitor.class).isSaturated());
+        }
+    }
+
+    private static ArangoInvocation getInvocation(Supplier<Object> proceed) {
+        return (ArangoInvocation) Proxy.newProxyInstance(ArangoInvocation.class.getClassLoader(),
+                new Class<?>[] { ArangoInvocation.class },
+                (proxy, method, args) -> ("proceed".equals(method.getName())) ? proceed.get() : null);
+    }
+
+    /**
+     * Runs action while requests are in flight of monitor
+     */
+    private static Object hold(ArangoPoolMonitor monitor, int requests, Runnable action) {
+        if (requests == 0) {
+            action.run();
+            return null;
+        }
+        return monitor.intercept(getInvocation(() -> hold(monitor, requests - 1, action)));
+    }
+
+    @Test
+    void poolSaturationNotReportedForEachRequestNearThreshold() throws InterruptedException {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("arangodb.hosts", List.of("localhost:" + CONTAINER_3_11.getPort()));
+        properties.put("arangodb.protocol", "HTTP_JSON");
+        properties.put("arangodb.connection-max", 10);
+        properties.put("arangodb.pool-monitor.enabled", true);
+        properties.put("arangodb.pool-monitor.saturation-threshold", 0.8);
+        properties.put("arangodb.pool-monitor.recovery-threshold", 0.5);
+        properties.put("test.pool.listener", true);
+
+        try (final ApplicationContext context = ApplicationContext.run(properties)) {
+            final ArangoPoolMonitor monitor = context.getBean(ArangoPoolMonitor.class);
+            assertEquals(10, monitor.getCapacity());
+
+            // requests in flight oscillate between 7 and 8 around saturation limit of 8
+            hold(monitor, 7, () -> {
+                for (int i = 0; i < 100; i++) {
+                    monitor.intercept(getInvocation(() -> null));
+                    assertTrue(monitor.isSaturated());
+                }
+            });
+            assertEquals(0, monitor.getBusy());
+            assertFalse(monitor.isSaturated());
+
+            final PoolSaturationListener listener = context.getBean(PoolSaturationListener.class);
+            for (int i = 0; i < 50 && listener.events.size() < 2; i++) {
+                Thread.sleep(100);
+            }
+            Thread.sleep(200);
+            assertEquals(2, listener.events.size());
+        }
+    }
+}
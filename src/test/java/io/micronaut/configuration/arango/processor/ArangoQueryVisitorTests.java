@@ -0,0 +1,63 @@
+package io.micronaut.configuration.arango.processor;
+
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.Compiler;
+import com.google.testing.compile.JavaFileObjects;
+import io.micronaut.annotation.processing.TypeElementVisitorProcessor;
+import io.micronaut.configuration.arango.ArangoRunner;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+class ArangoQueryVisitorTests extends ArangoRunner {
+
+    private static Compilation compile(String methods) {
+        return Compiler.javac()
+                .withProcessors(new TypeElementVisitorProcessor())
+                .compile(JavaFileObjects.forSourceString("example.UserQueries", "package example;\n"
+                        + "import io.micronaut.configuration.arango.query.*;\n"
+                        + "import java.util.List;\n"
+                        + "@ArangoQueries\n"
+                        + "public interface UserQueries {\n"
+                        + methods
+                        + "}\n"));
+    }
+
+    private static void assertFailed(Compilation compilation, String message) {
+        assertEquals(Compilation.Status.FAILURE, compilation.status());
+        assertTrue(compilation.errors().stream()
+                .map(d -> d.getMessage(null))
+                .anyMatch(m -> m.contains(message)),
+                () -> "Expected error '" + message + "' but got: " + compilation.errors());
+    }
+
+    @Test
+    void validQueriesCompiled() {
+        final Compilation compilation = compile("@Query(\"FOR u IN users FILTER u.age > @age RETURN u.name\")\n"
+                + "List<String> names(int age);\n"
+                + "default int count(int age) { return names(age).size(); }\n");
+        assertEquals(Compilation.Status.SUCCESS, compilation.status(), () -> compilation.errors().toString());
+    }
+
+    @Test
+    void unknownBindVariableFailsCompilation() {
+        assertFailed(compile("@Query(\"FOR u IN users FILTER u.age > @age RETURN u.name\")\n"
+                + "List<String> names(int years);\n"),
+                "Bind variable 'age' used in @Query has no matching parameter in method: names");
+    }
+
+    @Test
+    void unusedParameterFailsCompilation() {
+        assertFailed(compile("@Query(\"FOR u IN users RETURN u.name\")\n"
+                + "List<String> names(int age);\n"),
+                "Parameter 'age' is bound to variable 'age' that is not used in @Query of method: names");
+    }
+
+    @Test
+    void methodWithoutQueryFailsCompilation() {
+        assertFailed(compile("List<String> names(int age);\n"),
+                "Method of @ArangoQueries interface must have @Query or be default method: names");
+    }
+}
@@ -0,0 +1,157 @@
+package io.micronaut.configuration.arango.query;
+
+import com.arangodb.ArangoCursor;
+import com.arangodb.ArangoDB;
+import com.arangodb.entity.BaseDocument;
+import com.arangodb.model.AqlQueryOptions;
+import io.micronaut.configuration.arango.ArangoClient;
+import io.micronaut.configuration.arango.ArangoRunner;
+import io.micronaut.configuration.arango.ArangoSettings;
+import io.micronaut.configuration.arango.intercept.AqlStatements;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.inject.qualifiers.Qualifiers;
+import io.testcontainers.arangodb.containers.ArangoContainer;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+@Testcontainers
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ArangoQueriesTests extends ArangoRunner {
+
+    @Container
+    private static final ArangoContainer<?> CONTAINER_3_11 = new ArangoContainer<>(IMAGE_3_11).withoutAuth();
+
+    @ArangoQueries
+    interface NumberQueries {
+
+        @Query("FOR i IN 1..@count RETURN i")
+        List<Integer> range(int count);
+
+        @Query("FOR i IN 1..@count RETURN i")
+        Set<Integer> rangeAsSet(int count, AqlQueryOptions options);
+
+        @Query("FOR i IN 1..@count RETURN i")
+        Stream<Integer> rangeAsStream(int count);
+
+        @Query("FOR i IN 1..@count RETURN i")
+        ArangoCursor<Integer> rangeAsCursor(int count);
+
+        @Query("RETURN LENGTH(1..@size)")
+        long count(@Bind("size") int count);
+
+        @Query("FOR i IN [] RETURN i")
+        Optional<Integer> none();
+
+        @Query("FOR i IN [] RETURN i")
+        long nothing();
+
+        @Query("FOR d IN @@collection RETURN d")
+        List<BaseDocument> all(@Bind("@collection") String collection);
+
+        @ReadOnly
+        @Query("FOR i IN 1..@count RETURN i")
+        List<Integer> rangeReadOnly(int count);
+
+        @ReadOnly
+        @Query("FOR i IN 1..@count RETURN i")
+        List<Integer> rangeReadOnly(int count, AqlQueryOptions options);
+
+        default int sum(int count) {
+            return range(count).stream().mapToInt(Integer::intValue).sum();
+        }
+    }
+
+    @Test
+    void bindNamesParsed() {
+        assertEquals(Set.of("age", "@collection"),
+                AqlStatements.getBindNames("FOR d IN @@collection FILTER d.age > @age AND d.mail != 'a@b' RETURN d"));
+        assertEquals(Set.of("name"),
+                AqlStatements.getBindNames("/* @ignored */ FOR d IN users FILTER d.name == @name RETURN d"));
+    }
+
+    @Test
+    void writeQueriesRecognized() {
+        assertTrue(AqlStatements.isWrite("FOR d IN users UPDATE d WITH { age: 1 } IN users"));
+        assertTrue(AqlStatements.isWrite("insert { _key: @key } into users"));
+        assertTrue(AqlStatements.isWrite("UPSERT { _key: @key } INSERT {} UPDATE {} IN users"));
+        assertFalse(AqlStatements.isWrite("FOR d IN users FILTER d.update == 'remove' RETURN d.insert"));
+        assertFalse(AqlStatements.isWrite("/* REMOVE */ FOR d IN `replace` RETURN REPLACE_NTH(d.list, 0, 1)"));
+        assertFalse(AqlStatements.isWrite("FOR d IN users FILTER d.name == @update OR d.name == @remove RETURN d"));
+        assertFalse(AqlStatements.isWrite("FOR d IN users RETURN { update: d.x, remove : d.y }"));
+        assertTrue(AqlStatements.isWrite("FOR d IN users REMOVE d IN users RETURN { update: OLD.x }"));
+    }
+
+    @Test
+    void queriesExecuted() {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("arangodb.hosts", List.of("localhost:" + CONTAINER_3_11.getPort()));
+        properties.put("arangodb.database", "queries");
+
+        try (final ApplicationContext context = ApplicationContext.run(properties)) {
+            final ArangoClient client = context.getBean(ArangoClient.class);
+            assertTrue(client.db().create());
+            assertNotNull(client.db().collection("numbers").create());
+            client.db().collection("numbers").insertDocument(new BaseDocument("1"));
+
+            final NumberQueries queries = context.getBean(NumberQueries.class);
+            assertEquals(List.of(1, 2, 3), queries.range(3));
+            assertEquals(Set.of(1, 2), queries.rangeAsSet(2, new AqlQueryOptions().batchSize(1)));
+            try (Stream<Integer> stream = queries.rangeAsStream(4)) {
+                assertEquals(List.of(1, 2, 3, 4), stream.collect(Collectors.toList()));
+            }
+            assertEquals(List.of(1, 2), queries.rangeAsCursor(2).asListRemaining());
+            assertEquals(5L, queries.count(5));
+            assertTrue(queries.none().isEmpty());
+            assertEquals(0L, queries.nothing());
+            assertEquals(1, queries.all("numbers").size());
+            assertEquals(6, queries.sum(3));
+        }
+    }
+
+    @Test
+    void readOnlyQueriesExecutedWithReadAccessor() {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("arangodb.hosts", List.of("localhost:" + CONTAINER_3_11.getPort()));
+        properties.put("arangodb.read-hosts", List.of("localhost:" + CONTAINER_3_11.getPort()));
+
+        try (final ApplicationContext context = ApplicationContext.run(properties)) {
+            final ArangoClient client = context.getBean(ArangoClient.class);
+            assertNotSame(client.db(), client.readDb());
+            assertNotSame(client.accessor(), context.getBean(ArangoDB.class, Qualifiers.byName(ArangoSettings.READ)));
+            assertEquals(client.db().name(), client.readDb().name());
+
+            final NumberQueries queries = context.getBean(NumberQueries.class);
+            assertEquals(List.of(1, 2, 3), queries.rangeReadOnly(3));
+
+            final AqlQueryOptions options = new AqlQueryOptions().batchSize(1);
+            assertEquals(List.of(1, 2), queries.rangeReadOnly(2, options));
+            assertNull(options.getAllowDirtyRead());
+        }
+    }
+
+    @Test
+    void readOnlyQueriesExecutedWithDefaultAccessorWithoutReadHosts() {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("arangodb.hosts", List.of("localhost:" + CONTAINER_3_11.getPort()));
+
+        try (final ApplicationContext context = ApplicationContext.run(properties)) {
+            final ArangoClient client = context.getBean(ArangoClient.class);
+            assertSame(client.db(), client.readDb());
+            assertFalse(context.containsBean(ArangoDB.class, Qualifiers.byName(ArangoSettings.READ)));
+            assertEquals(List.of(1, 2), context.getBean(NumberQueries.class).rangeReadOnly(2));
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package io.micronaut.configuration.arango.query;
+
+import com.arangodb.entity.BaseDocument;
+import io.micronaut.configuration.arango.ArangoClient;
+import io.micronaut.configuration.arango.ArangoRunner;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.inject.BeanDefinition;
+import io.micronaut.inject.ExecutableMethod;
+import io.testcontainers.arangodb.containers.ArangoContainer;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+@Testcontainers
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ArangoRepositoryTests extends ArangoRunner {
+
+    @Container
+    private static final ArangoContainer<?> CONTAINER_3_11 = new ArangoContainer<>(IMAGE_3_11).withoutAuth();
+
+    @ArangoRepository("people")
+    interface PersonRepository {
+
+        BaseDocument save(BaseDocument person);
+
+        void saveAll(List<BaseDocument> people);
+
+        Optional<BaseDocument> findByKey(String key);
+
+        List<BaseDocument> findByNameAndAgeGreaterThan(String name, int age);
+
+        List<BaseDocument> findByNameIsIn(Collection<String> names);
+
+        List<BaseDocument> findByLoggedIn(boolean loggedIn);
+
+        long countByLoggedInIsTrue();
+
+        List<BaseDocument> findByNameIsNotAndAgeGreaterThan(String name, int age);
+
+        List<BaseDocument> findAll();
+
+        long count();
+
+        long countByAgeLessThanEqual(int age);
+
+        boolean existsByName(String name);
+
+        long deleteByName(String name);
+
+        @Query("FOR p IN people FILTER p.age == @age RETURN p")
+        List<BaseDocument> findWithAge(int age);
+    }
+
+    private static BaseDocument person(String key, String name, int age) {
+        final BaseDocument document = new BaseDocument(key);
+        document.addAttribute("name", name);
+        document.addAttribute("age", age);
+        return document;
+    }
+
+    @Test
+    void queriesDerivedAtCompileTime() {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("arangodb.hosts", List.of("localhost:" + CONTAINER_3_11.getPort()));
+
+        try (final ApplicationContext context = ApplicationContext.run(properties)) {
+            final ExecutableMethod<PersonRepository, Object> method = context.getBeanDefinition(PersonRepository.class)
+                    .findMethod("findByNameAndAgeGreaterThan", String.class, int.class)
+                    .orElseThrow();
+            assertEquals("FOR d IN `people` FILTER d.name == @name AND d.age > @age RETURN d",
+                    method.stringValue(Query.class).orElseThrow());
+        }
+    }
+
+    @Test
+    void propertyNamesEndingWithOperatorDerivedAsProperties() {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("arangodb.hosts", List.of("localhost:" + CONTAINER_3_11.getPort()));
+
+        try (final ApplicationContext context = ApplicationContext.run(properties)) {
+            final BeanDefinition<PersonRepository> definition = context.getBeanDefinition(PersonRepository.class);
+            assertEquals("FOR d IN `people` FILTER d.loggedIn == @loggedIn RETURN d",
+                    definition.findMethod("findByLoggedIn", boolean.class).orElseThrow()
+                            .stringValue(Query.class).orElseThrow());
+            assertEquals("RETURN LENGTH(FOR d IN `people` FILTER d.loggedIn == true RETURN 1)",
+                    definition.findMethod("countByLoggedInIsTrue").orElseThrow()
+                            .stringValue(Query.class).orElseThrow());
+            assertEquals("FOR d IN `people` FILTER d.name IN @names RETURN d",
+                    definition.findMethod("findByNameIsIn", Collection.class).orElseThrow()
+                            .stringValue(Query.class).orElseThrow());
+            assertEquals("FOR d IN `people` FILTER d.name != @name AND d.age > @age RETURN d",
+                    definition.findMethod("findByNameIsNotAndAgeGreaterThan", String.class, int.class).orElseThrow()
+                            .stringValue(Query.class).orElseThrow());
+        }
+    }
+
+    @Test
+    void repositoryExecuted() {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("arangodb.hosts", List.of("localhost:" + CONTAINER_3_11.getPort()));
+        properties.put("arangodb.database", "repository");
+
+        try (final ApplicationContext context = ApplicationContext.run(properties)) {
+            final ArangoClient client = context.getBean(ArangoClient.class);
+            assertTrue(client.db().create());
+            assertNotNull(client.db().collection("people").create());
+
+            final PersonRepository repository = context.getBean(PersonRepository.class);
+            final BaseDocument saved = repository.save(person("1", "bob", 30));
+            assertEquals("1", saved.getKey());
+            repository.saveAll(List.of(person("2", "bob", 20), person("3", "alice", 40)));
+
+            assertEquals(3L, repository.count());
+            assertEquals(3, repository.findAll().size());
+            assertTrue(repository.findByKey("3").isPresent());
+            assertTrue(repository.findByKey("4").isEmpty());
+            assertEquals(1, repository.findByNameAndAgeGreaterThan("bob", 25).size());
+            assertEquals(3, repository.findByNameIsIn(List.of("bob", "alice")).size());
+            assertEquals(2L, repository.countByAgeLessThanEqual(30));
+            assertTrue(repository.existsByName("alice"));
+            assertEquals(1, repository.findWithAge(40).size());
+
+            assertEquals(2L, repository.deleteByName("bob"));
+            assertFalse(repository.existsByName("bob"));
+        }
+    }
+}
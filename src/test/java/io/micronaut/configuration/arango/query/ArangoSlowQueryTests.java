@@ -0,0 +1,132 @@
+package io.micronaut.configuration.arango.query;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.arangodb.entity.BaseDocument;
+import example.SlowQueryCaller;
+import io.micronaut.configuration.arango.ArangoClient;
+import io.micronaut.configuration.arango.ArangoRunner;
+import io.micronaut.context.ApplicationContext;
+import io.testcontainers.arangodb.containers.ArangoContainer;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+@Testcontainers
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ArangoSlowQueryTests extends ArangoRunner {
+
+    @Container
+    private static final ArangoContainer<?> CONTAINER_3_11 = new ArangoContainer<>(IMAGE_3_11).withoutAuth();
+
+    private static Optional<String> getMessage(ListAppender<ILoggingEvent> appender, String prefix) {
+        // appender appends while holding its own lock
+        synchronized (appender) {
+            return appender.list.stream()
+                    .filter(e -> e.getLevel() == Level.WARN)
+                    .map(ILoggingEvent::getFormattedMessage)
+                    .filter(m -> m.startsWith(prefix))
+                    .findFirst();
+        }
+    }
+
+    @Test
+    void slowQueryLoggedAndResultReturned() throws Exception {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("arangodb.hosts", List.of("localhost:" + CONTAINER_3_11.getPort()));
+        properties.put("arangodb.slow-query.threshold", "0ms");
+        properties.put("arangodb.slow-query.explain-sample-rate", 1.0);
+
+        final Logger logger = (Logger) LoggerFactory.getLogger(ArangoSlowQueryInterceptor.class);
+        final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+        appender.start();
+        logger.addAppender(appender);
+
+        try (final ApplicationContext context = ApplicationContext.run(properties)) {
+            assertTrue(context.containsBean(ArangoSlowQueryInterceptor.class));
+
+            final ArangoClient client = context.getBean(ArangoClient.class);
+            final List<BaseDocument> documents = client.db()
+                    .query("FOR i IN 1..@count RETURN {value: i}", BaseDocument.class, Map.of("count", 5))
+                    .asListRemaining();
+            assertEquals(5, documents.size());
+
+            final String slow = getMessage(appender, "Slow AQL query took").orElse(null);
+            assertNotNull(slow);
+            assertTrue(slow.contains("with bind vars [count]"), slow);
+            // logged query has literals masked
+            assertTrue(slow.endsWith("FOR i IN ?..@count RETURN {value: i}"), slow);
+
+            // sampled explain is logged asynchronously
+            for (int i = 0; i < 100 && getMessage(appender, "Slow AQL query plan").isEmpty(); i++) {
+                Thread.sleep(50);
+            }
+            final String plan = getMessage(appender, "Slow AQL query plan").orElse(null);
+            assertNotNull(plan);
+            assertTrue(plan.contains("estimatedCost="), plan);
+            assertTrue(plan.contains("EnumerateListNode"), plan);
+            assertTrue(plan.contains("ReturnNode"), plan);
+            assertTrue(plan.endsWith("FOR i IN ?..@count RETURN {value: i}"), plan);
+        } finally {
+            logger.detachAppender(appender);
+            appender.stop();
+        }
+    }
+
+    @Test
+    void slowQueryCallerReportedAsCallingBean() {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("arangodb.hosts", List.of("localhost:" + CONTAINER_3_11.getPort()));
+        properties.put("arangodb.slow-query.threshold", "0ms");
+
+        final Logger logger = (Logger) LoggerFactory.getLogger(ArangoSlowQueryInterceptor.class);
+        final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+        appender.start();
+        logger.addAppender(appender);
+
+        try (final ApplicationContext context = ApplicationContext.run(properties)) {
+            final SlowQueryCaller caller = context.getBean(SlowQueryCaller.class);
+
+            assertEquals(List.of(1, 2), caller.rangeWithClient(2));
+            final String clientQuery = getMessage(appender, "Slow AQL query took").orElse(null);
+            assertNotNull(clientQuery);
+            assertTrue(clientQuery.contains("called from '" + SlowQueryCaller.class.getName() + "#rangeWithClient:"),
+                    clientQuery);
+
+            synchronized (appender) {
+                appender.list.clear();
+            }
+
+            // @Query method call goes through Micronaut AOP chain, which frames are skipped
+            assertEquals(List.of(1, 2, 3), caller.rangeWithQuery(3));
+            final String query = getMessage(appender, "Slow AQL query took").orElse(null);
+            assertNotNull(query);
+            assertTrue(query.contains("called from '" + SlowQueryCaller.class.getName() + "#rangeWithQuery:"), query);
+        } finally {
+            logger.detachAppender(appender);
+            appender.stop();
+        }
+    }
+
+    @Test
+    void slowQueryDisabledWithoutThreshold() {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("arangodb.hosts", List.of("localhost:" + CONTAINER_3_11.getPort()));
+
+        try (final ApplicationContext context = ApplicationContext.run(properties)) {
+            assertFalse(context.containsBean(ArangoSlowQueryInterceptor.class));
+        }
+    }
+}
@@ -0,0 +1,278 @@
+package io.micronaut.configuration.arango.resilience;
+
+import com.arangodb.ArangoDB;
+import com.arangodb.ArangoDBAsync;
+import com.arangodb.ArangoDBException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micronaut.configuration.arango.ArangoClient;
+import io.micronaut.configuration.arango.ArangoRunner;
+import io.micronaut.configuration.arango.ArangoSettings;
+import io.micronaut.configuration.arango.health.ArangoResilienceHealthIndicator;
+import io.micronaut.configuration.arango.intercept.ArangoInvocation;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.health.HealthStatus;
+import io.micronaut.management.health.indicator.HealthResult;
+import io.testcontainers.arangodb.containers.ArangoContainer;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import reactor.core.publisher.Mono;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+@Testcontainers
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ArangoResilienceTests extends ArangoRunner {
+
+    @Container
+    private static final ArangoContainer<?> CONTAINER_3_11 = new ArangoContainer<>(IMAGE_3_11).withoutAuth();
+
+    @Test
+    void callsPermittedWhileDatabaseIsAvailable() {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("arangodb.hosts", List.of("localhost:" + CONTAINER_3_11.getPort()));
+        properties.put("arangodb.resilience.enabled", true);
+        properties.put("arangodb.resilience.minimum-calls", 1);
+
+        try (final ApplicationContext context = ApplicationContext.run(properties)) {
+            final ArangoClient client = context.getBean(ArangoClient.class);
+            for (int i = 0; i < 5; i++) {
+                assertNotNull(client.db().getInfo());
+            }
+            // not found is caused by request and is not counted as failure
+            assertThrows(ArangoDBException.class, () -> client.db().collection("missing").getProperties());
+
+            final ArangoResilienceInterceptor interceptor = context.getBean(ArangoResilienceInterceptor.class);
+            final ArangoCircuitBreaker circuitBreaker = interceptor.getCircuitBreakers()
+                    .get(ArangoResilienceInterceptor.DEFAULT_CONNECTION);
+            assertEquals(ArangoCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+            assertEquals(0.0, circuitBreaker.getFailureRate());
+
+            final HealthResult health = Mono.from(context.getBean(ArangoResilienceHealthIndicator.class).getResult()).block();
+            assertNotNull(health);
+            assertEquals(HealthStatus.UP, health.getStatus());
+        }
+    }
+
+    @Test
+    void circuitOpenedWhenDatabaseIsUnavailable() {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("arangodb.hosts", List.of("localhost:1"));
+        properties.put("arangodb.timeout", "1s");
+        properties.put("arangodb.resilience.enabled", true);
+        properties.put("arangodb.resilience.minimum-calls", 2);
+        properties.put("arangodb.resilience.sliding-window-size", 2);
+        properties.put("arangodb.resilience.open-duration", "1m");
+
+        try (final ApplicationContext context = ApplicationContext.run(properties)) {
+            final ArangoDB accessor = context.getBean(ArangoDB.class);
+            for (int i = 0; i < 2; i++) {
+                final ArangoDBException e = assertThrows(ArangoDBException.class, accessor::getVersion);
+                assertFalse(e instanceof ArangoRejectedException);
+            }
+            assertThrows(ArangoRejectedException.class, accessor::getVersion);
+
+            // async calls are rejected with failed future
+            final ExecutionException rejected = assertThrows(ExecutionException.class,
+                    () -> context.getBean(ArangoDBAsync.class).getVersion().get(10, TimeUnit.SECONDS));
+            assertTrue(rejected.getCause() instanceof ArangoRejectedException);
+
+            final HealthResult health = Mono.from(context.getBean(ArangoResilienceHealthIndicator.class).getResult()).block();
+            assertNotNull(health);
+            assertEquals(HealthStatus.DOWN, health.getStatus());
+
+            final MeterRegistry registry = context.getBean(MeterRegistry.class);
+            assertEquals(1.0, registry.get(ArangoResilienceMetricsBinder.CIRCUIT_STATE).gauge().value());
+            assertEquals(2.0, registry.get(ArangoResilienceMetricsBinder.REJECTED).tag("reason", "circuit")
+                    .functionCounter().count());
+        }
+    }
+
+    @Test
+    void readHostsFailuresDoNotOpenDefaultCircuit() {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("arangodb.hosts", List.of("localhost:" + CONTAINER_3_11.getPort()));
+        properties.put("arangodb.read-hosts", List.of("localhost:1"));
+        properties.put("arangodb.timeout", "1s");
+        properties.put("arangodb.resilience.enabled", true);
+        properties.put("arangodb.resilience.minimum-calls", 2);
+        properties.put("arangodb.resilience.sliding-window-size", 2);
+        properties.put("arangodb.resilience.open-duration", "1m");
+
+        try (final ApplicationContext context = ApplicationContext.run(properties)) {
+            final ArangoClient client = context.getBean(ArangoClient.class);
+            for (int i = 0; i < 2; i++) {
+                final ArangoDBException e = assertThrows(ArangoDBException.class, () -> client.readDb().getInfo());
+                assertFalse(e instanceof ArangoRejectedException);
+            }
+            assertThrows(ArangoRejectedException.class, () -> client.readDb().getInfo());
+            assertNotNull(client.db().getInfo());
+
+            final ArangoResilienceInterceptor interceptor = context.getBean(ArangoResilienceInterceptor.class);
+            assertEquals(ArangoCircuitBreaker.State.OPEN, interceptor.getCircuitBreakers().get(ArangoSettings.READ).getState());
+            assertEquals(ArangoCircuitBreaker.State.CLOSED,
+                    interceptor.getCircuitBreakers().get(ArangoResilienceInterceptor.DEFAULT_CONNECTION).getState());
+            assertNotNull(interceptor.getBulkheads().get(ArangoSettings.READ));
+
+            // open circuit of secondary connection is reported, but does not make application DOWN
+            final HealthResult health = Mono.from(context.getBean(ArangoResilienceHealthIndicator.class).getResult()).block();
+            assertNotNull(health);
+            assertEquals(HealthStatus.UP, health.getStatus());
+            assertTrue(((Map<?, ?>) health.getDetails()).containsKey(ArangoSettings.READ));
+
+            final MeterRegistry registry = context.getBean(MeterRegistry.class);
+            assertEquals(1.0, registry.get(ArangoResilienceMetricsBinder.CIRCUIT_STATE).tag("cluster", ArangoSettings.READ)
+                    .gauge().value());
+        }
+    }
+
+    private static ArangoInvocation getInvocation() throws NoSuchMethodException {
+        final Method method = ArangoDB.class.getMethod("getVersion");
+        return new ArangoInvocation() {
+
+            @Override
+            public String getCluster() {
+                return null;
+            }
+
+            @Override
+            public String getDatabase() {
+                return null;
+            }
+
+            @Override
+            public String getCollection() {
+                return null;
+            }
+
+            @Override
+            public String getOperation() {
+                return "ArangoDB.getVersion";
+            }
+
+            @Override
+            public Method getMethod() {
+                return method;
+            }
+
+            @Override
+            public Object getTarget() {
+                return this;
+            }
+
+            @Override
+            public Object[] getArguments() {
+                return new Object[0];
+            }
+
+            @Override
+            public Object proceed() {
+                return "version";
+            }
+        };
+    }
+
+    @Test
+    void openCircuitRejectsWithoutWaitingForBulkhead() throws Exception {
+        final ArangoResilienceConfiguration configuration = new ArangoResilienceConfiguration();
+        configuration.setMinimumCalls(1);
+        configuration.setSlidingWindowSize(1);
+        configuration.setOpenDuration(Duration.ofMinutes(1));
+        configuration.setMaxConcurrentCalls(1);
+        configuration.setMaxWait(Duration.ofSeconds(10));
+        final ArangoResilienceInterceptor interceptor = new ArangoResilienceInterceptor(configuration, null, List.of());
+
+        final ArangoCircuitBreaker circuitBreaker = interceptor.getCircuitBreakers()
+                .get(ArangoResilienceInterceptor.DEFAULT_CONNECTION);
+        final ArangoBulkhead bulkhead = interceptor.getBulkheads().get(ArangoResilienceInterceptor.DEFAULT_CONNECTION);
+        circuitBreaker.onFailure(System.nanoTime());
+        assertEquals(ArangoCircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertTrue(bulkhead.tryAcquire());
+
+        final ArangoInvocation invocation = getInvocation();
+        final long started = System.nanoTime();
+        final ArangoRejectedException e = assertThrows(ArangoRejectedException.class, () -> interceptor.intercept(invocation));
+        assertTrue(e.getMessage().contains("circuit is OPEN"), e.getMessage());
+        assertTrue(Duration.ofNanos(System.nanoTime() - started).compareTo(Duration.ofSeconds(5)) < 0);
+        assertEquals(0, bulkhead.getRejected());
+    }
+
+    @Test
+    void trialCallPermitReturnedWhenBulkheadRejects() throws Exception {
+        final ArangoResilienceConfiguration configuration = new ArangoResilienceConfiguration();
+        configuration.setMinimumCalls(1);
+        configuration.setSlidingWindowSize(1);
+        configuration.setHalfOpenCalls(1);
+        configuration.setOpenDuration(Duration.ofMillis(1));
+        configuration.setMaxConcurrentCalls(1);
+        final ArangoResilienceInterceptor interceptor = new ArangoResilienceInterceptor(configuration, null, List.of());
+
+        final ArangoCircuitBreaker circuitBreaker = interceptor.getCircuitBreakers()
+                .get(ArangoResilienceInterceptor.DEFAULT_CONNECTION);
+        final ArangoBulkhead bulkhead = interceptor.getBulkheads().get(ArangoResilienceInterceptor.DEFAULT_CONNECTION);
+        circuitBreaker.onFailure(System.nanoTime());
+        Thread.sleep(10);
+        assertTrue(bulkhead.tryAcquire());
+
+        final ArangoInvocation invocation = getInvocation();
+        final ArangoRejectedException e = assertThrows(ArangoRejectedException.class, () -> interceptor.intercept(invocation));
+        assertTrue(e.getMessage().contains("concurrent calls"), e.getMessage());
+        assertEquals(ArangoCircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+
+        // trial call permit was not used, so next call is permitted and closes circuit
+        bulkhead.release();
+        assertEquals("version", interceptor.intercept(invocation));
+        assertEquals(ArangoCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    void circuitClosedAfterTrialCallsSucceed() {
+        final ArangoResilienceConfiguration configuration = new ArangoResilienceConfiguration();
+        configuration.setMinimumCalls(2);
+        configuration.setSlidingWindowSize(4);
+        configuration.setHalfOpenCalls(2);
+        configuration.setOpenDuration(Duration.ofSeconds(1));
+        final ArangoCircuitBreaker circuitBreaker = new ArangoCircuitBreaker(configuration);
+
+        final long now = 0;
+        assertTrue(circuitBreaker.tryAcquire(now));
+        circuitBreaker.onSuccess();
+        assertTrue(circuitBreaker.tryAcquire(now));
+        circuitBreaker.onFailure(now);
+        assertEquals(ArangoCircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertFalse(circuitBreaker.tryAcquire(now + 1));
+
+        final long halfOpen = now + Duration.ofSeconds(1).toNanos();
+        assertTrue(circuitBreaker.tryAcquire(halfOpen));
+        assertTrue(circuitBreaker.tryAcquire(halfOpen));
+        assertFalse(circuitBreaker.tryAcquire(halfOpen));
+        assertEquals(ArangoCircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+        circuitBreaker.onSuccess();
+        circuitBreaker.onSuccess();
+        assertEquals(ArangoCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        assertEquals(2, circuitBreaker.getRejected());
+    }
+
+    @Test
+    void bulkheadRejectsCallsOverLimit() {
+        final ArangoResilienceConfiguration configuration = new ArangoResilienceConfiguration();
+        configuration.setMaxConcurrentCalls(1);
+        final ArangoBulkhead bulkhead = new ArangoBulkhead(configuration);
+
+        assertTrue(bulkhead.tryAcquire());
+        assertFalse(bulkhead.tryAcquire());
+        bulkhead.release();
+        assertTrue(bulkhead.tryAcquire());
+        assertEquals(1, bulkhead.getRejected());
+    }
+}
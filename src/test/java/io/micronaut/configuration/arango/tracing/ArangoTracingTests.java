@@ -0,0 +1,141 @@
+package io.micronaut.configuration.arango.tracing;
+
+import com.arangodb.entity.BaseDocument;
+import io.micronaut.configuration.arango.ArangoClient;
+import io.micronaut.configuration.arango.ArangoRunner;
+import io.micronaut.configuration.arango.intercept.AqlStatements;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.core.annotation.Nullable;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.propagation.ContextPropagators;
+import io.opentelemetry.context.propagation.TextMapGetter;
+import io.opentelemetry.context.propagation.TextMapPropagator;
+import io.opentelemetry.context.propagation.TextMapSetter;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import io.testcontainers.arangodb.containers.ArangoContainer;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+@Testcontainers
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ArangoTracingTests extends ArangoRunner {
+
+    @Container
+    private static final ArangoContainer<?> CONTAINER_3_11 = new ArangoContainer<>(IMAGE_3_11).withoutAuth();
+
+    @Test
+    void statementSanitized() {
+        assertEquals("FOR d IN users FILTER d.name == ? AND d.age > ? LIMIT ? RETURN d",
+                AqlStatements.sanitize(
+                        "FOR d IN users FILTER d.name == 'bob' AND d.age > 18 LIMIT 10 RETURN d", 100));
+        assertEquals("FOR d IN users2 FILTER d.name == ? RETURN d",
+                AqlStatements.sanitize("FOR d IN users2 FILTER d.name == \"b\\\"ob\" RETURN d", 100));
+        assertEquals("FOR d", AqlStatements.sanitize("FOR d IN users RETURN d", 5));
+    }
+
+    @Test
+    void spansCreatedForRequests() {
+        final InMemorySpanExporter exporter = InMemorySpanExporter.create();
+        final OpenTelemetry openTelemetry = OpenTelemetrySdk.builder()
+                .setTracerProvider(SdkTracerProvider.builder()
+                        .addSpanProcessor(SimpleSpanProcessor.create(exporter))
+                        .build())
+                .build();
+
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("arangodb.hosts", List.of("localhost:" + CONTAINER_3_11.getPort()));
+        properties.put("arangodb.database", "tracing");
+        properties.put("arangodb.tracing.enabled", true);
+        properties.put("arangodb.tracing.propagate", true);
+
+        try (final ApplicationContext context = ApplicationContext.builder()
+                .properties(properties)
+                .singletons(openTelemetry)
+                .start()) {
+            final ArangoClient client = context.getBean(ArangoClient.class);
+            assertTrue(client.db().create());
+            final List<BaseDocument> documents = client.db()
+                    .query("FOR i IN 1..3 RETURN {value: 'secret'}", BaseDocument.class)
+                    .asListRemaining();
+            assertEquals(3, documents.size());
+
+            final SpanData query = exporter.getFinishedSpanItems().stream()
+                    .filter(s -> "ArangoDatabase.query tracing".equals(s.getName()))
+                    .findFirst()
+                    .orElseThrow();
+            assertEquals(SpanKind.CLIENT, query.getKind());
+            assertEquals("arangodb", query.getAttributes().asMap().entrySet().stream()
+                    .filter(e -> e.getKey().getKey().equals(ArangoTracingInterceptor.DB_SYSTEM))
+                    .map(e -> e.getValue().toString())
+                    .findFirst()
+                    .orElseThrow());
+            final String statement = query.getAttributes().asMap().entrySet().stream()
+                    .filter(e -> e.getKey().getKey().equals(ArangoTracingInterceptor.DB_STATEMENT))
+                    .map(e -> e.getValue().toString())
+                    .findFirst()
+                    .orElseThrow();
+            assertFalse(statement.contains("secret"));
+        }
+    }
+
+    @Test
+    void onlyValidTraceparentPropagated() {
+        final String traceparent = "00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01";
+        final Map<String, String> fields = new HashMap<>();
+        fields.put("traceparent", traceparent);
+        fields.put("tracestate", "x=1 */ FOR u IN users REMOVE u IN users /*");
+        fields.put("baggage", "user='admin'");
+
+        final ArangoTracingInterceptor interceptor = new ArangoTracingInterceptor(
+                OpenTelemetry.propagating(ContextPropagators.create(new FixedPropagator(fields))),
+                new ArangoTracingConfiguration());
+        assertEquals("/* traceparent='" + traceparent + "' */", interceptor.getTraceComment(Context.root()));
+
+        fields.put("traceparent", traceparent + "' */ FOR u IN users REMOVE u IN users /*");
+        assertNull(interceptor.getTraceComment(Context.root()));
+        fields.put("traceparent", traceparent + "\n");
+        assertNull(interceptor.getTraceComment(Context.root()));
+        fields.remove("traceparent");
+        assertNull(interceptor.getTraceComment(Context.root()));
+    }
+
+    private static final class FixedPropagator implements TextMapPropagator {
+
+        private final Map<String, String> fields;
+
+        private FixedPropagator(Map<String, String> fields) {
+            this.fields = fields;
+        }
+
+        @Override
+        public Collection<String> fields() {
+            return fields.keySet();
+        }
+
+        @Override
+        public <C> void inject(Context context, @Nullable C carrier, TextMapSetter<C> setter) {
+            fields.forEach((k, v) -> setter.set(carrier, k, v));
+        }
+
+        @Override
+        public <C> Context extract(Context context, @Nullable C carrier, TextMapGetter<C> getter) {
+            return context;
+        }
+    }
+}